@@ -1,7 +1,11 @@
 package com.wso2.migration.checker;
 
 import com.wso2.migration. checker.config.AppConfig;
+import com.wso2.migration.checker.core.BatchOrchestrator;
 import com.wso2.migration.checker.core.ComplianceOrchestrator;
+import com.wso2.migration.checker.inspector.InspectionEngine;
+import com.wso2.migration.checker.metrics.jfr.JfrRecording;
+import com.wso2.migration.checker.report.BatchSummary;
 import com.wso2.migration.checker.report.ComplianceReport;
 import com. wso2.migration.checker. util.ConsoleFormatter;
 import org.slf4j.Logger;
@@ -15,6 +19,7 @@ import org.slf4j.LoggerFactory;
  *
  * Usage:
  *   java -jar schema-compliance-checker.jar <db-type> <user-dump-path> [options]
+ *   java -jar schema-compliance-checker.jar <db-type> --batch <dir|manifest> [options]
  *
  * Examples:
  *   java -jar schema-compliance-checker.jar mysql /path/to/dump.sql
@@ -36,13 +41,20 @@ public class Main {
             // Display configuration
             printConfiguration(config);
 
+            if (config.getJfrFile() != null) {
+                JfrRecording.start(config.getJfrFile());
+            }
+
+            if (config.isBatchMode()) {
+                BatchSummary summary = new BatchOrchestrator(config).execute();
+
+                // 3 if any dump could not be checked, 1 if any is not ready
+                int exitCode = summary.hasFailures() ? 3 : summary.isAllReady() ? 0 : 1;
+                System.exit(exitCode);
+            }
+
             // Execute compliance check
-            ComplianceOrchestrator orchestrator = new ComplianceOrchestrator(
-                    config.getDatabaseType(),
-                    config.getStandardSchemaPath(),
-                    config.getUserDumpPath(),
-                    config.getReportOutputDir()
-            );
+            ComplianceOrchestrator orchestrator = new ComplianceOrchestrator(config);
 
             ComplianceReport report = orchestrator. execute();
 
@@ -66,9 +78,31 @@ public class Main {
     private static void printConfiguration(AppConfig config) {
         ConsoleFormatter.printSection("Configuration");
         ConsoleFormatter.printInfo("Database Type:     " + config.getDatabaseType().getDisplayName());
-        ConsoleFormatter.printInfo("Standard Schema:  " + config.getStandardSchemaPath().getFileName());
-        ConsoleFormatter.printInfo("User Dump:        " + config.getUserDumpPath().getFileName());
+        ConsoleFormatter.printInfo("Standard Schema:  " + config.getStandardSchemaLabel());
+        if (config.isBatchMode()) {
+            ConsoleFormatter.printInfo("Batch Source:     " + config.getBatchSource());
+            ConsoleFormatter.printInfo("Max Containers:   " + config.getBatchMaxConcurrentContainers());
+        } else {
+            ConsoleFormatter.printInfo((config.getUserLive() != null ? "User Database:    " : "User Dump:        ")
+                    + config.getUserSchemaLabel());
+        }
+        if (config.getStandardLive() != null || config.getUserLive() != null) {
+            ConsoleFormatter.printInfo("Live Timeout:     " + config.getLiveQueryTimeoutSeconds() + "s");
+        }
+        ConsoleFormatter.printInfo("Engine:           " + config.getInspectionEngine().getCode());
+        if (config.getInspectionEngine() != InspectionEngine.OFFLINE) {
+            ConsoleFormatter.printInfo("Dump Loader:      " + config.getLoaderType().getCode());
+            ConsoleFormatter.printInfo("Crawler:          " + config.getCrawlerType().getCode());
+        }
+        if (config.isParallelDiff()) {
+            ConsoleFormatter.printInfo("Diff:             parallel");
+        }
         ConsoleFormatter. printInfo("Report Output:    " + config.getReportOutputDir());
+        ConsoleFormatter.printInfo("Snapshot Cache:   " + (config.isSnapshotCacheEnabled()
+                ? config.getSnapshotCacheDir() : "disabled"));
+        if (config.getMetricsFile() != null) {
+            ConsoleFormatter.printInfo("Metrics File:     " + config.getMetricsFile());
+        }
         System.out.println();
     }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.wso2.migration.checker.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wso2.migration.checker.config.AppConfig;
+import com.wso2.migration.checker.container.ContainerFactory;
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.model.SchemaSnapshot;
+import com.wso2.migration.checker.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persistent, content-addressed cache of golden schema snapshots, and of the last
+ * snapshot of each live database.
+ *
+ * Entries are keyed by the SHA-256 of the golden SQL file together with the
+ * database type, container image, capture profile and tool version, so any
+ * change to one of those produces a new key. Each entry is a JSON file; its last-modified time
+ * is refreshed on every hit and used for LRU eviction once the cache grows
+ * beyond its entry limit.
+ */
+public class SnapshotCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotCache.class);
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private final Path cacheDir;
+    private final int maxEntries;
+    private final ObjectMapper mapper;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SnapshotCache(Path cacheDir, int maxEntries) {
+        this.cacheDir = cacheDir;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.mapper = new ObjectMapper();
+        this.mapper.registerModule(new JavaTimeModule());
+        this.mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Computes the cache key for a golden schema file.
+     *
+     * @param profile Identifies which object types the snapshot captures
+     */
+    public String keyFor(DatabaseType type, Path goldenSchemaPath, String profile) throws IOException {
+        String composite = String.join("|",
+                FileUtils.calculateSha256(goldenSchemaPath),
+                type.name(),
+                ContainerFactory.imageFor(type),
+                profile,
+                AppConfig.TOOL_VERSION);
+        return type.getCode() + "-" + sha256(composite);
+    }
+
+    /**
+     * Computes the cache key for the last snapshot of a live database, which an
+     * incremental capture starts from.
+     *
+     * @param jdbcUrl  URL of the database, without its password
+     * @param username Account the snapshot was captured with, or null
+     * @param profile  Identifies which object types the snapshot captures
+     */
+    public String keyForLive(DatabaseType type, String jdbcUrl, String username, String profile) {
+        String composite = String.join("|",
+                jdbcUrl,
+                String.valueOf(username),
+                type.name(),
+                profile,
+                AppConfig.TOOL_VERSION);
+        return type.getCode() + "-live-" + sha256(composite);
+    }
+
+    /**
+     * Looks up a cached snapshot. Unreadable entries are treated as misses and removed.
+     */
+    public synchronized Optional<SchemaSnapshot> get(String key) {
+        Path entry = entryPath(key);
+        if (!Files.exists(entry)) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        try {
+            SchemaSnapshot snapshot = mapper.readValue(entry.toFile(), SchemaSnapshot.class);
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+            hits.incrementAndGet();
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            LOG.warn("   Discarding unreadable snapshot cache entry {}: {}", entry.getFileName(), e.getMessage());
+            deleteQuietly(entry);
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a snapshot and evicts the least recently used entries beyond the size cap.
+     */
+    public synchronized void put(String key, SchemaSnapshot snapshot) {
+        try {
+            FileUtils.ensureDirectory(cacheDir);
+            Path entry = entryPath(key);
+            Path temp = Files.createTempFile(cacheDir, key, ".tmp");
+            mapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            evictIfNecessary();
+        } catch (IOException e) {
+            LOG.warn("   Failed to write snapshot cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes a single entry from the cache.
+     */
+    public synchronized void invalidate(String key) {
+        deleteQuietly(entryPath(key));
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public synchronized void clear() {
+        List<Path> entries = listEntries();
+        entries.forEach(this::deleteQuietly);
+        LOG.info("🗑️  Cleared {} snapshot cache entries from {}", entries.size(), cacheDir);
+    }
+
+    /**
+     * Logs hit/miss/eviction counters.
+     */
+    public void logStatistics() {
+        LOG.info("   📦 Snapshot cache: {} hits, {} misses, {} evictions ({})",
+                hits.get(), misses.get(), evictions.get(), cacheDir);
+    }
+
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getEvictions() { return evictions.get(); }
+
+    private void evictIfNecessary() {
+        List<Path> entries = listEntries();
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        entries.sort(Comparator.comparing(this::lastModified));
+        for (Path entry : entries.subList(0, entries.size() - maxEntries)) {
+            deleteQuietly(entry);
+            evictions.incrementAndGet();
+            LOG.debug("   Evicted snapshot cache entry {}", entry.getFileName());
+        }
+    }
+
+    private List<Path> listEntries() {
+        if (!Files.isDirectory(cacheDir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException e) {
+            LOG.warn("   Failed to list snapshot cache {}: {}", cacheDir, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.warn("   Failed to delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private Path entryPath(String key) {
+        return cacheDir.resolve(key + ENTRY_SUFFIX);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+}
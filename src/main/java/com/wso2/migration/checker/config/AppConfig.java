@@ -1,6 +1,9 @@
 package com.wso2.migration.checker.config;
 
 import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.container.LoaderType;
+import com.wso2.migration.checker.inspector.CrawlerType;
+import com.wso2.migration.checker.inspector.InspectionEngine;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -14,9 +17,12 @@ import java.util. Properties;
  */
 public class AppConfig {
 
+    public static final String TOOL_VERSION = "1.0.0";
+
     private static final String DEFAULT_CONFIG_FILE = "config/application.properties";
     private static final String DEFAULT_STANDARDS_DIR = "standards";
     private static final String DEFAULT_REPORTS_DIR = "reports";
+    private static final String DEFAULT_CACHE_DIR = ".cache/snapshots";
 
     private final Properties properties;
 
@@ -32,6 +38,50 @@ public class AppConfig {
     private boolean includeSequences = true;
     private boolean includeRoutineDefinitions = true;
 
+    // Snapshot capture
+    private InspectionEngine inspectionEngine = InspectionEngine.CONTAINER;
+    private CrawlerType crawlerType = CrawlerType.SCHEMACRAWLER;
+
+    // Snapshot cache
+    private boolean snapshotCacheEnabled = true;
+    private Path snapshotCacheDir;
+    private int snapshotCacheMaxEntries = 20;
+    private boolean clearSnapshotCache = false;
+
+    // Container pool
+    private boolean containerPoolEnabled = false;
+    private int containerPoolMaxSizePerType = 2;
+    private int containerPoolMaxIdleSeconds = 300;
+    private boolean containerPoolReuse = false;
+
+    // Load only the DDL of each dump into containers
+    private boolean ddlFilterEnabled = true;
+
+    // How dumps are loaded into containers
+    private LoaderType loaderType = LoaderType.CLIENT;
+    private int loaderThreads = 0;
+
+    // Load both schemas into one container
+    private boolean singleContainer = false;
+
+    // Compare categories and table chunks in parallel
+    private boolean parallelDiff = false;
+
+    // Per-phase timings as a Prometheus text file (null = not written)
+    private Path metricsFile;
+
+    // Java Flight Recorder recording of the run (null = no recording)
+    private Path jfrFile;
+
+    // Databases inspected in place over JDBC (null = loaded from a dump)
+    private LiveDatabase standardLive;
+    private LiveDatabase userLive;
+    private int liveQueryTimeoutSeconds = 300;
+
+    // Batch mode
+    private Path batchSource;
+    private int batchMaxConcurrentContainers = 0;
+
     public AppConfig() {
         this.properties = new Properties();
         loadDefaultProperties();
@@ -53,40 +103,136 @@ public class AppConfig {
         this.includeViews = Boolean.parseBoolean(
                 properties.getProperty("inspection.include.views", "true"));
         this.includeTriggers = Boolean.parseBoolean(
-                properties.getProperty("inspection. include.triggers", "true"));
+                properties.getProperty("inspection.include.triggers", "true"));
         this.includeSequences = Boolean.parseBoolean(
                 properties.getProperty("inspection.include.sequences", "true"));
         this.includeRoutineDefinitions = Boolean.parseBoolean(
                 properties.getProperty("report.include.definitions", "true"));
+        this.inspectionEngine = InspectionEngine.fromCode(
+                properties.getProperty("inspection.engine", "container").trim());
+        this.crawlerType = CrawlerType.fromCode(
+                properties.getProperty("inspection.crawler", "schemacrawler").trim());
+        this.snapshotCacheEnabled = Boolean.parseBoolean(
+                properties.getProperty("cache.snapshot.enabled", "true"));
+        this.snapshotCacheDir = Paths.get(
+                properties.getProperty("cache.snapshot.dir", DEFAULT_CACHE_DIR));
+        this.snapshotCacheMaxEntries = Integer.parseInt(
+                properties.getProperty("cache.snapshot.max.entries", "20").trim());
+        this.containerPoolEnabled = Boolean.parseBoolean(
+                properties.getProperty("container.pool.enabled", "false"));
+        this.containerPoolMaxSizePerType = Integer.parseInt(
+                properties.getProperty("container.pool.max.size.per.type", "2").trim());
+        this.containerPoolMaxIdleSeconds = Integer.parseInt(
+                properties.getProperty("container.pool.max.idle.seconds", "300").trim());
+        this.containerPoolReuse = Boolean.parseBoolean(
+                properties.getProperty("container.pool.reuse", "false"));
+        this.singleContainer = Boolean.parseBoolean(
+                properties.getProperty("container.single", "false"));
+        this.ddlFilterEnabled = Boolean.parseBoolean(
+                properties.getProperty("container.ddl.filter", "true"));
+        this.loaderType = LoaderType.fromCode(
+                properties.getProperty("container.loader", "client").trim());
+        this.loaderThreads = Integer.parseInt(
+                properties.getProperty("container.loader.threads", "0").trim());
+        this.parallelDiff = Boolean.parseBoolean(
+                properties.getProperty("diff.parallel", "false"));
+        String metricsFileProperty = properties.getProperty("metrics.file", "").trim();
+        this.metricsFile = metricsFileProperty.isEmpty() ? null : Paths.get(metricsFileProperty);
+        String jfrFileProperty = properties.getProperty("metrics.jfr.file", "").trim();
+        this.jfrFile = jfrFileProperty.isEmpty() ? null : Paths.get(jfrFileProperty);
+        this.batchMaxConcurrentContainers = Integer.parseInt(
+                properties.getProperty("batch.max.concurrent.containers", "0").trim());
+        this.liveQueryTimeoutSeconds = Integer.parseInt(
+                properties.getProperty("live.query.timeout.seconds", "300").trim());
+    }
+
+    /**
+     * Creates a live database with the credentials configured for its side: the
+     * {@code live.<side>.username} and {@code live.<side>.password} properties, the
+     * password overridable by the {@code CHECKER_<SIDE>_JDBC_PASSWORD} environment
+     * variable. Both may be left out when the URL carries them.
+     */
+    private LiveDatabase liveDatabase(String jdbcUrl, String side) {
+        String username = properties.getProperty("live." + side + ".username", "").trim();
+        String password = System.getenv("CHECKER_" + side.toUpperCase() + "_JDBC_PASSWORD");
+        if (password == null) {
+            password = properties.getProperty("live." + side + ".password", "");
+        }
+        return new LiveDatabase(jdbcUrl,
+                username.isEmpty() ? null : username,
+                password.isEmpty() ? null : password);
     }
 
     /**
      * Parses command-line arguments and configures the application.
      *
      * Usage: java -jar checker.jar <db-type> <user-dump-path> [options]
+     *        java -jar checker.jar <db-type> --user-jdbc <url> [options]
+     *        java -jar checker.jar <db-type> --batch <dir|manifest> [options]
      *
      * Options:
      *   --standard <path>    Path to standard schema SQL file
+     *   --standard-jdbc <url> Inspect the standard schema in a live database
+     *   --live-timeout <s>   Query timeout for live databases
      *   --output <dir>       Output directory for reports
      *   --no-views           Skip view comparison
      *   --no-triggers        Skip trigger comparison
+     *   --no-cache           Always start the standard container
+     *   --clear-cache        Invalidate all cached golden snapshots
+     *   --cache-dir <dir>    Directory for cached golden snapshots
+     *   --pool               Reuse warm containers, resetting the schema between checks
+     *   --single-container   Load standard and user schemas into one container
+     *   --no-ddl-filter      Load dumps including their data statements
+     *   --loader <name>      Dump loader: client or jdbc
+     *   --max-containers <n> Maximum concurrent user containers in batch mode
+     *   --engine <name>      Snapshot engine: container, offline or verify
+     *   --crawler <name>     Table reader: schemacrawler, native or verify
+     *   --parallel-diff      Compare categories and tables in parallel
+     *   --metrics-file <f>   Write per-phase timings as a Prometheus text file
+     *   --jfr <file>         Record the run with Java Flight Recorder
      */
     public void parseArguments(String[] args) {
         if (args.length < 2) {
             throw new IllegalArgumentException(
                     "Usage: java -jar schema-compliance-checker.jar <db-type> <user-dump-path> [options]\n" +
+                            "       java -jar schema-compliance-checker.jar <db-type> --user-jdbc <url> [options]\n" +
+                            "       java -jar schema-compliance-checker.jar <db-type> --batch <dir|manifest> [options]\n" +
                             "\n" +
                             "Database Types:  MYSQL, ORACLE, MSSQL, POSTGRESQL\n" +
                             "\n" +
                             "Options:\n" +
                             "  --standard <path>    Path to standard schema SQL file (default: standards/<db-type>/golden_schema.sql)\n" +
+                            "  --standard-jdbc <url> Inspect the standard schema in a live database instead of a file\n" +
+                            "  --user-jdbc <url>    Inspect the user schema in a live database (replaces <user-dump-path>)\n" +
+                            "  --live-timeout <s>   Query timeout for live databases in seconds (default: 300)\n" +
                             "  --output <dir>       Output directory for reports (default: reports/)\n" +
                             "  --no-views           Skip view comparison\n" +
                             "  --no-triggers        Skip trigger comparison\n" +
                             "  --no-sequences       Skip sequence comparison\n" +
+                            "  --no-cache           Always start the standard container instead of using the snapshot cache\n" +
+                            "  --clear-cache        Invalidate all cached golden snapshots before running\n" +
+                            "  --cache-dir <dir>    Directory for cached golden snapshots (default: .cache/snapshots)\n" +
+                            "  --pool               Reuse warm containers, resetting the schema between checks\n" +
+                            "  --single-container   Load standard and user schemas into one container\n" +
+                            "  --no-ddl-filter      Load dumps including their data statements (INSERT, COPY, ...)\n" +
+                            "  --loader <name>      Dump loader: client (default, engine CLI in the container) or jdbc\n" +
+                            "                       (parallel, dependency-ordered loading over JDBC)\n" +
+                            "  --batch <dir|file>   Check every *.sql in a directory, or each path listed in a manifest\n" +
+                            "  --max-containers <n> Maximum concurrent user containers in batch mode (default: CPUs / 2)\n" +
+                            "  --engine <name>      Snapshot engine: container (default), offline (parse DDL, no Docker),\n" +
+                            "                       or verify (container + offline, reporting any difference)\n" +
+                            "  --crawler <name>     Table reader over JDBC: schemacrawler (default), native (set-based\n" +
+                            "                       catalog queries) or verify (both, reporting any difference)\n" +
+                            "  --parallel-diff      Compare object categories and tables in parallel (fork-join)\n" +
+                            "  --metrics-file <f>   Write per-phase timings (wall, CPU, allocations) as a Prometheus text file\n" +
+                            "  --jfr <file>         Record the run with Java Flight Recorder, including container, crawl,\n" +
+                            "                       dialect query and diff events\n" +
                             "\n" +
                             "Example:\n" +
                             "  java -jar schema-compliance-checker.jar mysql /path/to/user_dump.sql\n" +
+                            "  java -jar schema-compliance-checker.jar mysql --batch /path/to/dumps --max-containers 4\n" +
+                            "  java -jar schema-compliance-checker.jar mssql dump.sql --engine offline\n" +
+                            "  java -jar schema-compliance-checker.jar postgresql --user-jdbc jdbc:postgresql://staging/app\n" +
                             "  java -jar schema-compliance-checker.jar oracle dump. sql --standard /path/to/golden. sql"
             );
         }
@@ -94,22 +240,48 @@ public class AppConfig {
         // Parse database type
         this.databaseType = DatabaseType. fromCode(args[0]);
 
-        // Parse user dump path
-        this.userDumpPath = Paths.get(args[1]).toAbsolutePath();
-        validatePath(userDumpPath, "User dump file");
+        // Parse user dump path, or the batch source in batch mode
+        int firstOption = 2;
+        if ("--batch".equals(args[1])) {
+            if (args.length < 3) {
+                throw new IllegalArgumentException("--batch requires a directory or manifest file");
+            }
+            this.batchSource = Paths.get(args[2]).toAbsolutePath();
+            validatePath(batchSource, "Batch source");
+            firstOption = 3;
+        } else if ("--user-jdbc".equals(args[1])) {
+            if (args.length < 3) {
+                throw new IllegalArgumentException("--user-jdbc requires a JDBC URL");
+            }
+            this.userLive = liveDatabase(args[2], "user");
+            firstOption = 3;
+        } else {
+            this.userDumpPath = Paths.get(args[1]).toAbsolutePath();
+            validatePath(userDumpPath, "User dump file");
+        }
 
         // Default standard schema path
         this.standardSchemaPath = Paths.get(DEFAULT_STANDARDS_DIR,
                 databaseType.getCode(), "golden_schema.sql").toAbsolutePath();
 
         // Parse optional arguments
-        for (int i = 2; i < args.length; i++) {
+        for (int i = firstOption; i < args.length; i++) {
             switch (args[i]) {
                 case "--standard" -> {
                     if (i + 1 < args.length) {
                         this.standardSchemaPath = Paths.get(args[++i]).toAbsolutePath();
                     }
                 }
+                case "--standard-jdbc" -> {
+                    if (i + 1 < args.length) {
+                        this.standardLive = liveDatabase(args[++i], "standard");
+                    }
+                }
+                case "--live-timeout" -> {
+                    if (i + 1 < args.length) {
+                        this.liveQueryTimeoutSeconds = Integer.parseInt(args[++i]);
+                    }
+                }
                 case "--output" -> {
                     if (i + 1 < args.length) {
                         this.reportOutputDir = Paths.get(args[++i]).toAbsolutePath();
@@ -118,13 +290,56 @@ public class AppConfig {
                 case "--no-views" -> this.includeViews = false;
                 case "--no-triggers" -> this.includeTriggers = false;
                 case "--no-sequences" -> this.includeSequences = false;
+                case "--no-cache" -> this.snapshotCacheEnabled = false;
+                case "--clear-cache" -> this.clearSnapshotCache = true;
+                case "--pool" -> this.containerPoolEnabled = true;
+                case "--single-container" -> this.singleContainer = true;
+                case "--no-ddl-filter" -> this.ddlFilterEnabled = false;
+                case "--parallel-diff" -> this.parallelDiff = true;
+                case "--loader" -> {
+                    if (i + 1 < args.length) {
+                        this.loaderType = LoaderType.fromCode(args[++i]);
+                    }
+                }
+                case "--max-containers" -> {
+                    if (i + 1 < args.length) {
+                        this.batchMaxConcurrentContainers = Integer.parseInt(args[++i]);
+                    }
+                }
+                case "--engine" -> {
+                    if (i + 1 < args.length) {
+                        this.inspectionEngine = InspectionEngine.fromCode(args[++i]);
+                    }
+                }
+                case "--crawler" -> {
+                    if (i + 1 < args.length) {
+                        this.crawlerType = CrawlerType.fromCode(args[++i]);
+                    }
+                }
+                case "--metrics-file" -> {
+                    if (i + 1 < args.length) {
+                        this.metricsFile = Paths.get(args[++i]).toAbsolutePath();
+                    }
+                }
+                case "--jfr" -> {
+                    if (i + 1 < args.length) {
+                        this.jfrFile = Paths.get(args[++i]).toAbsolutePath();
+                    }
+                }
+                case "--cache-dir" -> {
+                    if (i + 1 < args.length) {
+                        this.snapshotCacheDir = Paths.get(args[++i]).toAbsolutePath();
+                    }
+                }
                 case "--help", "-h" -> {
                     parseArguments(new String[]{}); // Trigger usage message
                 }
             }
         }
 
-        validatePath(standardSchemaPath, "Standard schema file");
+        if (standardLive == null) {
+            validatePath(standardSchemaPath, "Standard schema file");
+        }
     }
 
     private void validatePath(Path path, String description) {
@@ -166,6 +381,59 @@ public class AppConfig {
     public boolean isIncludeTriggers() { return includeTriggers; }
     public boolean isIncludeSequences() { return includeSequences; }
     public boolean isIncludeRoutineDefinitions() { return includeRoutineDefinitions; }
+    public InspectionEngine getInspectionEngine() { return inspectionEngine; }
+    public CrawlerType getCrawlerType() { return crawlerType; }
+    public boolean isSnapshotCacheEnabled() { return snapshotCacheEnabled; }
+    public Path getSnapshotCacheDir() { return snapshotCacheDir; }
+    public int getSnapshotCacheMaxEntries() { return snapshotCacheMaxEntries; }
+    public boolean isClearSnapshotCache() { return clearSnapshotCache; }
+    public boolean isContainerPoolEnabled() { return containerPoolEnabled; }
+    public int getContainerPoolMaxSizePerType() { return containerPoolMaxSizePerType; }
+    public int getContainerPoolMaxIdleSeconds() { return containerPoolMaxIdleSeconds; }
+    public boolean isContainerPoolReuse() { return containerPoolReuse; }
+    public boolean isSingleContainer() { return singleContainer; }
+    public boolean isDdlFilterEnabled() { return ddlFilterEnabled; }
+    public LoaderType getLoaderType() { return loaderType; }
+    public boolean isParallelDiff() { return parallelDiff; }
+
+    /**
+     * Number of connections the JDBC loader uses per dump;
+     * 0 (the default) means the available processors.
+     */
+    public int getLoaderThreads() { return loaderThreads; }
+    public Path getMetricsFile() { return metricsFile; }
+    public Path getJfrFile() { return jfrFile; }
+    public LiveDatabase getStandardLive() { return standardLive; }
+    public LiveDatabase getUserLive() { return userLive; }
+    public int getLiveQueryTimeoutSeconds() { return liveQueryTimeoutSeconds; }
+
+    /**
+     * The standard schema as shown in logs: its file name or the live database's URL.
+     */
+    public String getStandardSchemaLabel() {
+        return standardLive != null ? standardLive.redactedUrl() : standardSchemaPath.getFileName().toString();
+    }
+
+    /**
+     * The user schema as shown in logs: its dump's file name or the live database's URL.
+     */
+    public String getUserSchemaLabel() {
+        return userLive != null ? userLive.redactedUrl() : userDumpPath.getFileName().toString();
+    }
+
+    public boolean isBatchMode() { return batchSource != null; }
+    public Path getBatchSource() { return batchSource; }
+
+    /**
+     * Maximum number of user containers checked concurrently in batch mode;
+     * 0 (the default) means half the available processors.
+     */
+    public int getBatchMaxConcurrentContainers() {
+        if (batchMaxConcurrentContainers > 0) {
+            return batchMaxConcurrentContainers;
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
 
     // Fluent setters for programmatic configuration
     public AppConfig withDatabaseType(DatabaseType type) {
@@ -187,4 +455,29 @@ public class AppConfig {
         this.reportOutputDir = path;
         return this;
     }
+
+    public AppConfig withInspectionEngine(InspectionEngine engine) {
+        this.inspectionEngine = engine;
+        return this;
+    }
+
+    public AppConfig withSnapshotCacheEnabled(boolean enabled) {
+        this.snapshotCacheEnabled = enabled;
+        return this;
+    }
+
+    public AppConfig withSnapshotCacheDir(Path dir) {
+        this.snapshotCacheDir = dir;
+        return this;
+    }
+
+    public AppConfig withContainerPoolEnabled(boolean enabled) {
+        this.containerPoolEnabled = enabled;
+        return this;
+    }
+
+    public AppConfig withSingleContainer(boolean singleContainer) {
+        this.singleContainer = singleContainer;
+        return this;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.wso2.migration.checker.config;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A database inspected in place over JDBC instead of from a dump.
+ *
+ * @param jdbcUrl  JDBC connection URL
+ * @param username Database username, or null when the URL carries it
+ * @param password Database password, or null when the URL carries it
+ */
+public record LiveDatabase(String jdbcUrl, String username, String password) {
+
+    /**
+     * password=... properties, including MSSQL's braced password={...} values, which may hold
+     * ';' and escape '}' as '}}'; Oracle's thin:user/password@ form; and //user:password@.
+     */
+    private static final Pattern URL_PASSWORD = Pattern.compile("(?i)(password\\s*=\\s*)(?:\\{(?:}}|[^}])*}|[^;&]*)"
+            + "|(:thin:[^/@:]*/)[^@]*(@)"
+            + "|(//[^/@:?;]*:)[^@/?;]*(@)");
+
+    /**
+     * The URL with any password in it masked, for logs and reports.
+     */
+    public String redactedUrl() {
+        return redact(jdbcUrl);
+    }
+
+    /**
+     * Masks any password in a JDBC URL.
+     */
+    public static String redact(String jdbcUrl) {
+        return URL_PASSWORD.matcher(jdbcUrl).replaceAll(match -> {
+            String masked;
+            if (match.group(1) != null) masked = match.group(1) + "***";
+            else if (match.group(2) != null) masked = match.group(2) + "***" + match.group(3);
+            else masked = match.group(4) + "***" + match.group(5);
+            return Matcher.quoteReplacement(masked);
+        });
+    }
+
+    @Override
+    public String toString() {
+        return redactedUrl();
+    }
+}
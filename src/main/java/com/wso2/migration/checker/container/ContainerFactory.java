@@ -1,5 +1,6 @@
 package com.wso2.migration.checker.container;
 
+import com.wso2.migration.checker.metrics.jfr.ContainerStartEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.JdbcDatabaseContainer;
@@ -58,7 +59,7 @@ public final class ContainerFactory {
 
         LOG.info("   ⏳ Starting container with dump: {}", sqlDumpPath. getFileName());
         long startTime = System.currentTimeMillis();
-        container.start();
+        start(container, type, containerName, true);
         long elapsed = System.currentTimeMillis() - startTime;
 
         LOG.info("   ✅ {} container ready in {}ms", type.getDisplayName(), elapsed);
@@ -67,6 +68,71 @@ public final class ContainerFactory {
         return container;
     }
 
+    /**
+     * Creates and starts a database container without loading any dump.
+     * Used by {@link ContainerPool}, which loads dumps through {@link SchemaProvisioner}.
+     *
+     * @param type          The database type
+     * @param containerName Name identifier for logging
+     * @param reuse         Whether Testcontainers reuse should be requested
+     * @return Started, empty container
+     */
+    public static JdbcDatabaseContainer<?> createEmptyAndStart(
+            DatabaseType type,
+            String containerName,
+            boolean reuse) {
+
+        LOG.info("🐳 Initializing empty {} container [{}]...", type.getDisplayName(), containerName);
+
+        JdbcDatabaseContainer<?> container = switch (type) {
+            case MYSQL -> createMySqlContainer(null);
+            case ORACLE -> createOracleContainer(null);
+            case MSSQL -> createMsSqlContainer(null);
+            case POSTGRESQL -> createPostgreSqlContainer(null);
+        };
+
+        container.withStartupTimeout(STARTUP_TIMEOUT);
+        if (reuse) {
+            // The label keeps each pool slot a distinct reusable container
+            container.withLabel("schema-compliance-checker.slot", containerName);
+            container.withReuse(true);
+        }
+
+        long startTime = System.currentTimeMillis();
+        start(container, type, containerName, false);
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        LOG.info("   ✅ {} container [{}] ready in {}ms", type.getDisplayName(), containerName, elapsed);
+        return container;
+    }
+
+    /**
+     * Returns the container image used for the given database type.
+     */
+    public static String imageFor(DatabaseType type) {
+        return switch (type) {
+            case MYSQL -> MYSQL_IMAGE;
+            case ORACLE -> ORACLE_IMAGE;
+            case MSSQL -> MSSQL_IMAGE;
+            case POSTGRESQL -> POSTGRESQL_IMAGE;
+        };
+    }
+
+    /**
+     * Starts the container, emitting a JFR event for the startup.
+     */
+    private static void start(JdbcDatabaseContainer<?> container, DatabaseType type,
+                              String containerName, boolean initScript) {
+        ContainerStartEvent event = new ContainerStartEvent(
+                type.getCode(), containerName, container.getDockerImageName(), initScript);
+        event.begin();
+        try {
+            container.start();
+        } finally {
+            event.commit();
+        }
+    }
+
     private static void validateDumpFile(Path path) {
         if (!Files. exists(path)) {
             throw new IllegalArgumentException("SQL dump file not found: " + path. toAbsolutePath());
@@ -78,51 +144,63 @@ public final class ContainerFactory {
 
     @SuppressWarnings("resource")
     private static MySQLContainer<? > createMySqlContainer(Path sqlDumpPath) {
-        return new MySQLContainer<>(MYSQL_IMAGE)
+        MySQLContainer<?> container = new MySQLContainer<>(MYSQL_IMAGE)
                 .withDatabaseName("compliance_check")
                 .withUsername("checker")
                 .withPassword("checker_pass")
-                .withCopyFileToContainer(
-                        MountableFile.forHostPath(sqlDumpPath),
-                        "/docker-entrypoint-initdb.d/init.sql"
-                )
                 .withCommand(
                         "--character-set-server=utf8mb4",
                         "--collation-server=utf8mb4_unicode_ci",
                         "--default-authentication-plugin=mysql_native_password"
                 );
+        if (sqlDumpPath != null) {
+            container.withCopyFileToContainer(
+                    MountableFile.forHostPath(sqlDumpPath),
+                    "/docker-entrypoint-initdb.d/init.sql"
+            );
+        }
+        return container;
     }
 
     @SuppressWarnings("resource")
     private static OracleContainer createOracleContainer(Path sqlDumpPath) {
-        return new OracleContainer(ORACLE_IMAGE)
+        OracleContainer container = new OracleContainer(ORACLE_IMAGE)
                 .withDatabaseName("compliance_check")
                 .withUsername("checker")
-                .withPassword("checker_pass")
-                .withCopyFileToContainer(
-                        MountableFile.forHostPath(sqlDumpPath),
-                        "/container-entrypoint-initdb. d/init.sql"
-                );
+                .withPassword("checker_pass");
+        if (sqlDumpPath != null) {
+            container.withCopyFileToContainer(
+                    MountableFile.forHostPath(sqlDumpPath),
+                    "/container-entrypoint-initdb. d/init.sql"
+            );
+        }
+        return container;
     }
 
     @SuppressWarnings("resource")
     private static MSSQLServerContainer<? > createMsSqlContainer(Path sqlDumpPath) {
-        return new MSSQLServerContainer<>(MSSQL_IMAGE)
+        MSSQLServerContainer<?> container = new MSSQLServerContainer<>(MSSQL_IMAGE)
                 .acceptLicense()
-                .withPassword("Checker_Pass1!")
-                .withInitScript(sqlDumpPath.toString());
+                .withPassword("Checker_Pass1!");
+        if (sqlDumpPath != null) {
+            container.withInitScript(sqlDumpPath.toString());
+        }
+        return container;
     }
 
     @SuppressWarnings("resource")
     private static PostgreSQLContainer<?> createPostgreSqlContainer(Path sqlDumpPath) {
-        return new PostgreSQLContainer<>(POSTGRESQL_IMAGE)
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(POSTGRESQL_IMAGE)
                 .withDatabaseName("compliance_check")
                 .withUsername("checker")
-                .withPassword("checker_pass")
-                .withCopyFileToContainer(
-                        MountableFile.forHostPath(sqlDumpPath),
-                        "/docker-entrypoint-initdb.d/init.sql"
-                );
+                .withPassword("checker_pass");
+        if (sqlDumpPath != null) {
+            container.withCopyFileToContainer(
+                    MountableFile.forHostPath(sqlDumpPath),
+                    "/docker-entrypoint-initdb.d/init.sql"
+            );
+        }
+        return container;
     }
 
     /**
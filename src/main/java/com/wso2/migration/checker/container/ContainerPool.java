@@ -0,0 +1,251 @@
+package com.wso2.migration.checker.container;
+
+import com.wso2.migration.checker.container.ContainerFactory.ConnectionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of pre-started database containers, reused across compliance checks.
+ *
+ * Instead of starting a container per dump, a lease takes an idle container of the
+ * requested type (or starts one while below the per-type limit), resets its database
+ * and loads the dump into it. Released containers stay running until they have been
+ * idle longer than the configured maximum. Every container is health-checked before
+ * it is handed out; unhealthy ones are stopped and replaced.
+ */
+public final class ContainerPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContainerPool.class);
+
+    private final int maxSizePerType;
+    private final Duration maxIdle;
+    private final boolean reuse;
+    private final ParallelDumpLoader jdbcLoader;
+
+    private final Map<DatabaseType, Deque<PooledContainer>> idle = new EnumMap<>(DatabaseType.class);
+    private final Map<DatabaseType, Semaphore> permits = new EnumMap<>(DatabaseType.class);
+    private final List<PooledContainer> all = new ArrayList<>();
+    private final AtomicInteger slotCounter = new AtomicInteger();
+    private final ScheduledExecutorService reaper;
+
+    private volatile boolean closed = false;
+
+    public ContainerPool(int maxSizePerType, Duration maxIdle, boolean reuse) {
+        this(maxSizePerType, maxIdle, reuse, null);
+    }
+
+    /**
+     * @param jdbcLoader loader for dumps, or null to use the engine's command-line client
+     */
+    public ContainerPool(int maxSizePerType, Duration maxIdle, boolean reuse, ParallelDumpLoader jdbcLoader) {
+        this.maxSizePerType = Math.max(1, maxSizePerType);
+        this.maxIdle = maxIdle;
+        this.reuse = reuse;
+        this.jdbcLoader = jdbcLoader;
+
+        for (DatabaseType type : DatabaseType.values()) {
+            idle.put(type, new ArrayDeque<>());
+            permits.put(type, new Semaphore(this.maxSizePerType, true));
+        }
+
+        this.reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "container-pool-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, Math.min(maxIdle.toSeconds(), 30));
+        reaper.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Leases a container with the given dump loaded into a freshly reset database.
+     * Blocks while the per-type pool size limit is reached.
+     */
+    public Lease acquire(DatabaseType type, Path sqlDumpPath, String label) {
+        if (closed) {
+            throw new IllegalStateException("Container pool is closed");
+        }
+
+        Semaphore semaphore = permits.get(type);
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + type.getDisplayName() + " container", e);
+        }
+
+        PooledContainer pooled = null;
+        try {
+            pooled = takeHealthyIdle(type);
+            if (pooled == null) {
+                String slot = type.getCode() + "-" + slotCounter.incrementAndGet();
+                JdbcDatabaseContainer<?> container = ContainerFactory.createEmptyAndStart(type, slot, reuse);
+                pooled = new PooledContainer(type, container);
+                synchronized (this) {
+                    all.add(pooled);
+                }
+            } else {
+                LOG.info("♻️  Reusing warm {} container for [{}]", type.getDisplayName(), label);
+            }
+
+            SchemaProvisioner.resetDatabase(pooled.container, type, SchemaProvisioner.DEFAULT_DATABASE);
+            SchemaProvisioner.loadDump(pooled.container, type, SchemaProvisioner.DEFAULT_DATABASE,
+                    sqlDumpPath, jdbcLoader);
+
+            return new Lease(pooled,
+                    SchemaProvisioner.connectionInfo(pooled.container, type, SchemaProvisioner.DEFAULT_DATABASE));
+
+        } catch (RuntimeException e) {
+            if (pooled != null) {
+                release(pooled);
+            } else {
+                semaphore.release();
+            }
+            throw e;
+        }
+    }
+
+    private PooledContainer takeHealthyIdle(DatabaseType type) {
+        while (true) {
+            PooledContainer candidate;
+            synchronized (this) {
+                candidate = idle.get(type).pollFirst();
+            }
+            if (candidate == null) {
+                return null;
+            }
+            if (SchemaProvisioner.isHealthy(candidate.container, type)) {
+                return candidate;
+            }
+            LOG.warn("   Discarding unhealthy {} container", type.getDisplayName());
+            discard(candidate);
+        }
+    }
+
+    private void release(PooledContainer pooled) {
+        pooled.lastReleased = Instant.now();
+        boolean pooledAgain;
+        synchronized (this) {
+            pooledAgain = !closed;
+            if (pooledAgain) {
+                idle.get(pooled.type).addFirst(pooled);
+            }
+        }
+        // Stopped outside the lock, as in evictIdle and close
+        if (!pooledAgain) {
+            discard(pooled);
+        }
+        permits.get(pooled.type).release();
+    }
+
+    /**
+     * Stops containers that have been idle longer than the maximum idle time.
+     */
+    void evictIdle() {
+        Instant cutoff = Instant.now().minus(maxIdle);
+        List<PooledContainer> expired = new ArrayList<>();
+
+        synchronized (this) {
+            for (Deque<PooledContainer> queue : idle.values()) {
+                Iterator<PooledContainer> it = queue.iterator();
+                while (it.hasNext()) {
+                    PooledContainer pooled = it.next();
+                    if (pooled.lastReleased.isBefore(cutoff)) {
+                        it.remove();
+                        expired.add(pooled);
+                    }
+                }
+            }
+        }
+
+        for (PooledContainer pooled : expired) {
+            LOG.info("   ⏹️  Stopping idle {} container", pooled.type.getDisplayName());
+            discard(pooled);
+        }
+    }
+
+    private void discard(PooledContainer pooled) {
+        synchronized (this) {
+            all.remove(pooled);
+        }
+        if (reuse) {
+            return; // Reusable containers are meant to outlive this JVM
+        }
+        try {
+            pooled.container.stop();
+        } catch (Exception e) {
+            LOG.warn("   Failed to stop pooled container: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops all pooled containers.
+     */
+    @Override
+    public void close() {
+        List<PooledContainer> remaining;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            remaining = new ArrayList<>(all);
+            idle.values().forEach(Deque::clear);
+        }
+        reaper.shutdownNow();
+        remaining.forEach(this::discard);
+        LOG.debug("   Container pool closed ({} containers)", remaining.size());
+    }
+
+    /**
+     * A container leased from the pool; closing the lease returns it to the pool.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final PooledContainer pooled;
+        private final ConnectionInfo connectionInfo;
+        private boolean released = false;
+
+        private Lease(PooledContainer pooled, ConnectionInfo connectionInfo) {
+            this.pooled = pooled;
+            this.connectionInfo = connectionInfo;
+        }
+
+        public JdbcDatabaseContainer<?> container() { return pooled.container; }
+        public ConnectionInfo connectionInfo() { return connectionInfo; }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(pooled);
+            }
+        }
+    }
+
+    private static final class PooledContainer {
+        private final DatabaseType type;
+        private final JdbcDatabaseContainer<?> container;
+        private volatile Instant lastReleased = Instant.now();
+
+        private PooledContainer(DatabaseType type, JdbcDatabaseContainer<?> container) {
+            this.type = type;
+            this.container = container;
+        }
+    }
+}
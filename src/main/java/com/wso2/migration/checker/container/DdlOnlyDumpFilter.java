@@ -0,0 +1,198 @@
+package com.wso2.migration.checker.container;
+
+import com.wso2.migration.checker.util.SqlScriptReader;
+import com.wso2.migration.checker.util.SqlScriptReader.SqlStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Streams a SQL dump and writes a copy without its data statements, so containers
+ * only execute the DDL. Compliance checks compare schemas, and in customer dumps the
+ * data usually outweighs the schema by orders of magnitude.
+ *
+ * Dropped: INSERT/REPLACE, PostgreSQL COPY (with its inline data), MySQL LOAD DATA and
+ * LOCK/UNLOCK TABLES, MSSQL BULK INSERT and SET IDENTITY_INSERT batches. Everything else
+ * is written back unchanged with its terminator, re-emitting MySQL DELIMITER directives
+ * and MSSQL GO separators so the filtered script runs the same way as the original.
+ * MSSQL statements need no terminator, so a batch is only dropped when none of its
+ * statements defines schema.
+ */
+public final class DdlOnlyDumpFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DdlOnlyDumpFilter.class);
+
+    private static final Pattern LEADING_COMMENTS = Pattern.compile(
+            "^(\\s+|--[^\\n]*(\\n|$)|#[^\\n]*(\\n|$)|/\\*(?!!)(?s:.*?)\\*/)+");
+
+    /** Keywords that keep an MSSQL batch, wherever they appear in it outside literals and comments. */
+    private static final List<String> MSSQL_DDL_KEYWORDS = List.of("CREATE", "ALTER", "DROP", "EXEC", "EXECUTE");
+
+    /**
+     * Outcome of filtering one dump.
+     */
+    public record Result(
+            Path filteredPath,
+            long statementsKept,
+            long statementsDropped,
+            long bytesIn,
+            long bytesOut
+    ) {}
+
+    private DdlOnlyDumpFilter() {
+        // Utility class
+    }
+
+    /**
+     * Filters the dump into a file in the system temp directory.
+     * The caller deletes the file once the dump has been loaded.
+     */
+    public static Result filterToTempFile(Path sqlDumpPath, DatabaseType type) throws IOException {
+        String baseName = sqlDumpPath.getFileName().toString().replaceFirst("\\.sql$", "");
+        Path target = Files.createTempFile(baseName + ".ddl-", ".sql");
+        try {
+            return filter(sqlDumpPath, target, type);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the DDL statements of {@code source} to {@code target}.
+     */
+    public static Result filter(Path source, Path target, DatabaseType type) throws IOException {
+        long startTime = System.currentTimeMillis();
+        long kept = 0;
+        long dropped = 0;
+        String writtenDelimiter = ";";
+
+        try (SqlScriptReader reader = SqlScriptReader.open(source, type);
+             BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+
+            SqlStatement statement;
+            while ((statement = reader.next()) != null) {
+                String terminator = statement.terminator();
+
+                if (statement.blank()) {
+                    // Comment-only text is dropped, but batch separators are kept
+                    if (terminator.equals("GO")) {
+                        writer.write("GO\n");
+                    }
+                    continue;
+                }
+
+                if (isDataStatement(statement.sql(), type)) {
+                    dropped++;
+                    if (terminator.equals("GO")) {
+                        writer.write("GO\n");
+                    }
+                    continue;
+                }
+
+                if (type == DatabaseType.MYSQL && !terminator.isEmpty() && !terminator.equals(writtenDelimiter)) {
+                    writer.write("DELIMITER " + terminator + "\n");
+                    writtenDelimiter = terminator;
+                }
+
+                writer.write(statement.sql());
+                switch (terminator) {
+                    case "/", "GO" -> writer.write("\n" + terminator + "\n");
+                    case "" -> writer.write("\n");
+                    default -> writer.write(terminator + "\n");
+                }
+                kept++;
+            }
+
+            if (!writtenDelimiter.equals(";")) {
+                writer.write("DELIMITER ;\n");
+            }
+        }
+
+        Result result = new Result(target, kept, dropped, Files.size(source), Files.size(target));
+        LOG.info("   ✂️  DDL-only filter: kept {} statements, dropped {} data statements ({} KB → {} KB) in {}ms",
+                kept, dropped, result.bytesIn() / 1024, result.bytesOut() / 1024,
+                System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    /**
+     * True when the statement only loads or locks data. An MSSQL batch that starts with a
+     * data statement but also creates, alters or drops objects is kept.
+     */
+    static boolean isDataStatement(String sql, DatabaseType type) {
+        var matcher = LEADING_COMMENTS.matcher(sql);
+        String code = matcher.lookingAt() ? sql.substring(matcher.end()) : sql;
+        String head = code.substring(0, Math.min(code.length(), 64))
+                .toUpperCase(Locale.ROOT)
+                .replaceAll("\\s+", " ");
+
+        boolean data = head.startsWith("INSERT ") || switch (type) {
+            case MYSQL -> head.startsWith("REPLACE ") || head.startsWith("LOAD DATA ")
+                    || head.startsWith("LOCK TABLES ") || head.startsWith("UNLOCK TABLES");
+            case POSTGRESQL -> head.startsWith("COPY ");
+            case MSSQL -> head.startsWith("SET IDENTITY_INSERT ") || head.startsWith("BULK INSERT ");
+            case ORACLE -> false;
+        };
+        return data && !(type == DatabaseType.MSSQL && containsDdlKeyword(code));
+    }
+
+    /**
+     * Whether one of {@link #MSSQL_DDL_KEYWORDS} appears as a word outside string
+     * literals, quoted identifiers and comments.
+     */
+    private static boolean containsDdlKeyword(String sql) {
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            char next = i + 1 < length ? sql.charAt(i + 1) : 0;
+
+            if (c == '-' && next == '-') {
+                int end = sql.indexOf('\n', i + 2);
+                i = end < 0 ? length : end + 1;
+            } else if (c == '/' && next == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == '\'' || c == '"' || c == '[') {
+                char close = c == '[' ? ']' : c;
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i++) == close) {
+                        // A doubled quote stands for the quote itself
+                        if (i < length && sql.charAt(i) == close) {
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < length && isWordChar(sql.charAt(i))) {
+                    i++;
+                }
+                for (String keyword : MSSQL_DDL_KEYWORDS) {
+                    if (keyword.length() == i - start && sql.regionMatches(true, start, keyword, 0, keyword.length())) {
+                        return true;
+                    }
+                }
+            } else {
+                i++;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '@' || c == '#' || c == '$';
+    }
+}
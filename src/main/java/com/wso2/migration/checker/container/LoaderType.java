@@ -0,0 +1,28 @@
+package com.wso2.migration.checker.container;
+
+/**
+ * How SQL dumps are loaded into database containers.
+ */
+public enum LoaderType {
+    /** Run the engine's command-line client (mysql, psql, sqlcmd, sqlplus) inside the container. */
+    CLIENT("client"),
+    /** Execute the statements over JDBC from the checker, in parallel where they are independent. */
+    JDBC("jdbc");
+
+    private final String code;
+
+    LoaderType(String code) {
+        this.code = code;
+    }
+
+    public String getCode() { return code; }
+
+    public static LoaderType fromCode(String code) {
+        for (LoaderType type : values()) {
+            if (type.code.equalsIgnoreCase(code)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown dump loader: " + code);
+    }
+}
@@ -0,0 +1,574 @@
+package com.wso2.migration.checker.container;
+
+import com.wso2.migration.checker.container.ContainerFactory.ConnectionInfo;
+import com.wso2.migration.checker.util.SqlScriptReader;
+import com.wso2.migration.checker.util.SqlScriptReader.SqlStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Loads a SQL dump over JDBC, running independent statements in parallel.
+ *
+ * The dump is split into statements and every statement is given a level: one more
+ * than the highest level of the earlier statements it depends on. A statement depends
+ * on the last earlier statement that created, altered or dropped any object it names,
+ * which covers foreign key targets, tables and functions used in view and routine
+ * bodies, the tables of triggers and indexes, and sequences used in defaults. A
+ * statement that creates, alters or drops an object also runs after every earlier
+ * statement that read it, so a view is not dropped before a view selecting from it.
+ * Statements that cannot be classified are barriers: they run alone, after everything
+ * before them. Levels then run one after another, each spread over a fixed set of
+ * connections, with consecutive plain statements sent as JDBC batches.
+ *
+ * Leading session statements (SET, USE, ALTER SESSION) are replayed on every
+ * connection; later ones are skipped, as are transaction control statements and
+ * client commands. Loading stops at the first failing statement.
+ */
+public final class ParallelDumpLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelDumpLoader.class);
+
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final int EXCERPT_LENGTH = 300;
+
+    private static final Pattern TRANSACTION_CONTROL = Pattern.compile(
+            "(?i)(BEGIN|START\\s+TRANSACTION|COMMIT|ROLLBACK)(\\s+(WORK|TRANSACTION|TRAN))?\\s*");
+    private static final Pattern EXISTENCE_GUARD = Pattern.compile("(?is)^\\s*IF\\s+(NOT\\s+)?EXISTS\\s*\\(");
+
+    private static final Set<String> OBJECT_KEYWORDS = Set.of(
+            "TABLE", "VIEW", "INDEX", "SEQUENCE", "TRIGGER", "PROCEDURE", "PROC", "FUNCTION",
+            "PACKAGE", "TYPE", "SYNONYM", "SCHEMA", "EXTENSION", "DOMAIN", "EVENT");
+    private static final Set<String> MODULE_KEYWORDS = Set.of(
+            "VIEW", "TRIGGER", "PROCEDURE", "PROC", "FUNCTION", "PACKAGE", "TYPE", "EVENT");
+    private static final Set<String> DDL_VERBS = Set.of("CREATE", "ALTER", "DROP");
+    private static final Set<String> NAME_PREFIXES = Set.of("IF", "NOT", "EXISTS", "BODY", "ONLY");
+
+    private final int threads;
+
+    /**
+     * Outcome of loading one dump.
+     */
+    public record LoadResult(
+            int statements,
+            int skipped,
+            int levels,
+            int connections,
+            long elapsedMillis
+    ) {}
+
+    private enum Kind { DDL, DATA, SESSION, SKIP, BARRIER }
+
+    private record PlannedStatement(
+            String sql,
+            int line,
+            boolean batchable
+    ) {}
+
+    private record Word(String text, boolean qualified) {}
+
+    /**
+     * @param threads number of connections to load with (0 = available processors)
+     */
+    public ParallelDumpLoader(int threads) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Loads the dump through the given connection details.
+     *
+     * @throws IllegalStateException naming the line and text of the first failing statement
+     */
+    public LoadResult load(ConnectionInfo connection, DatabaseType type, Path sqlDumpPath) {
+        long startTime = System.currentTimeMillis();
+
+        List<String> prologue = new ArrayList<>();
+        List<List<PlannedStatement>> levels = new ArrayList<>();
+        int skipped = plan(sqlDumpPath, type, prologue, levels);
+        int total = levels.stream().mapToInt(List::size).sum();
+        int widest = levels.stream().mapToInt(List::size).max().orElse(0);
+        int connections = Math.max(1, Math.min(threads, widest));
+
+        LOG.info("   ⏳ Loading {} statements over JDBC in {} levels using {} connections",
+                total, levels.size(), connections);
+
+        BlockingQueue<Connection> idle = new ArrayBlockingQueue<>(connections);
+        ExecutorService executor = Executors.newFixedThreadPool(connections, r -> {
+            Thread thread = new Thread(r, "dump-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            for (int i = 0; i < connections; i++) {
+                idle.add(openConnection(connection, prologue));
+            }
+
+            AtomicInteger done = new AtomicInteger();
+            AtomicInteger reported = new AtomicInteger();
+            AtomicReference<IllegalStateException> failure = new AtomicReference<>();
+
+            for (int level = 0; level < levels.size(); level++) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (List<PlannedStatement> chunk : chunk(levels.get(level), connections)) {
+                    futures.add(executor.submit(() -> {
+                        if (failure.get() != null) {
+                            return null;
+                        }
+                        Connection conn = idle.take();
+                        try {
+                            execute(conn, chunk);
+                            reportProgress(done.addAndGet(chunk.size()), total, reported);
+                        } catch (IllegalStateException e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            idle.put(conn);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+                LOG.debug("   Level {}/{} done ({} statements)", level + 1, levels.size(), levels.get(level).size());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to connect for loading " + sqlDumpPath.getFileName()
+                    + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + sqlDumpPath.getFileName(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to load " + sqlDumpPath.getFileName()
+                    + ": " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+            for (Connection conn : idle) {
+                closeQuietly(conn);
+            }
+        }
+
+        LoadResult result = new LoadResult(total, skipped, levels.size(), connections,
+                System.currentTimeMillis() - startTime);
+        LOG.info("   ✅ Loaded {} statements ({} skipped) in {}ms", total, skipped, result.elapsedMillis());
+        return result;
+    }
+
+    // ========== Planning ==========
+
+    /**
+     * Reads the dump, fills the session prologue and the execution levels,
+     * and returns the number of skipped statements.
+     */
+    private int plan(Path sqlDumpPath, DatabaseType type, List<String> prologue,
+                     List<List<PlannedStatement>> levels) {
+        Map<String, Integer> lastWriterLevel = new HashMap<>();
+        // A DROP or ALTER must also wait for the statements still reading the object
+        Map<String, Integer> lastReaderLevel = new HashMap<>();
+        int floor = 0;
+        int skipped = 0;
+        boolean inPrologue = true;
+
+        try (SqlScriptReader reader = SqlScriptReader.open(sqlDumpPath, type)) {
+            SqlStatement statement;
+            while ((statement = reader.next()) != null) {
+                if (statement.blank()) {
+                    continue;
+                }
+                if (statement.clientCommand()) {
+                    skipped++;
+                    continue;
+                }
+
+                String sql = statement.sql();
+                String analysed = stripExistenceGuard(sql, type);
+                List<Word> words = words(analysed, type);
+                Kind kind = classify(sql, words, type);
+
+                if (kind == Kind.SESSION && inPrologue) {
+                    prologue.add(sql);
+                    continue;
+                }
+                if (kind == Kind.SESSION || kind == Kind.SKIP) {
+                    LOG.debug("   Skipping statement at line {}: {}", statement.line(), excerpt(sql));
+                    skipped++;
+                    continue;
+                }
+                inPrologue = false;
+
+                int level;
+                String objectKeyword = null;
+                if (kind == Kind.BARRIER) {
+                    level = levels.size();
+                    floor = level + 1;
+                } else {
+                    Set<String> writes = new LinkedHashSet<>();
+                    if (kind == Kind.DDL) {
+                        objectKeyword = collectWrites(words, 0, writes);
+                        // MSSQL batches and routine bodies can hold further DDL
+                        for (int i = 1; i < words.size(); i++) {
+                            if (!words.get(i).qualified() && DDL_VERBS.contains(words.get(i).text())) {
+                                collectWrites(words, i, writes);
+                            }
+                        }
+                    }
+
+                    level = floor;
+                    for (Word word : words) {
+                        Integer writer = lastWriterLevel.get(word.text());
+                        if (writer != null) {
+                            level = Math.max(level, writer + 1);
+                            if (kind == Kind.DATA) {
+                                writes.add(word.text());
+                            }
+                        }
+                    }
+                    for (String name : writes) {
+                        Integer lastReader = lastReaderLevel.get(name);
+                        if (lastReader != null) {
+                            level = Math.max(level, lastReader + 1);
+                        }
+                    }
+                    for (String name : writes) {
+                        lastWriterLevel.put(name, level);
+                    }
+                    for (Word word : words) {
+                        if (!writes.contains(word.text()) && lastWriterLevel.containsKey(word.text())) {
+                            lastReaderLevel.merge(word.text(), level, Math::max);
+                        }
+                    }
+                }
+
+                while (levels.size() <= level) {
+                    levels.add(new ArrayList<>());
+                }
+                boolean batchable = kind != Kind.BARRIER
+                        && (objectKeyword == null || !MODULE_KEYWORDS.contains(objectKeyword));
+                levels.get(level).add(new PlannedStatement(sql, statement.line(), batchable));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read dump: " + sqlDumpPath, e);
+        }
+
+        if (skipped > 0) {
+            LOG.debug("   Skipped {} client, session and transaction statements", skipped);
+        }
+        return skipped;
+    }
+
+    private static Kind classify(String sql, List<Word> words, DatabaseType type) {
+        if (words.isEmpty()) {
+            return Kind.BARRIER;
+        }
+        if (TRANSACTION_CONTROL.matcher(sql.strip()).matches()) {
+            return Kind.SKIP;
+        }
+
+        String first = words.get(0).text();
+        String second = words.size() > 1 ? words.get(1).text() : "";
+        return switch (first) {
+            case "CREATE", "ALTER", "DROP", "COMMENT", "GRANT", "REVOKE", "TRUNCATE", "RENAME" ->
+                    first.equals("ALTER") && second.equals("SESSION") ? Kind.SESSION : Kind.DDL;
+            case "INSERT", "REPLACE", "UPDATE", "DELETE", "MERGE" -> Kind.DATA;
+            case "SELECT" -> second.equals("PG_CATALOG") && words.size() > 2
+                    && words.get(2).text().equals("SET_CONFIG") ? Kind.SESSION : Kind.DATA;
+            case "SET", "USE" -> Kind.SESSION;
+            // COPY FROM stdin needs the client to stream the data rows
+            case "COPY" -> type == DatabaseType.POSTGRESQL ? Kind.SKIP : Kind.BARRIER;
+            case "LOCK", "UNLOCK" -> type == DatabaseType.MYSQL ? Kind.SKIP : Kind.BARRIER;
+            default -> Kind.BARRIER;
+        };
+    }
+
+    /**
+     * Adds the names of the objects the DDL starting at word {@code start} creates, alters
+     * or drops, and returns its object keyword (TABLE, VIEW, ...) if any.
+     */
+    private static String collectWrites(List<Word> words, int start, Set<String> writes) {
+        String first = words.get(start).text();
+        if (first.equals("COMMENT") || first.equals("GRANT") || first.equals("REVOKE")) {
+            return null;
+        }
+
+        int keywordIndex = -1;
+        for (int i = start + 1; i < Math.min(words.size(), start + 16); i++) {
+            if (!words.get(i).qualified() && OBJECT_KEYWORDS.contains(words.get(i).text())) {
+                keywordIndex = i;
+                break;
+            }
+        }
+        if (keywordIndex < 0) {
+            // RENAME TABLE a TO b, TRUNCATE t and the like: everything named is touched
+            if (first.equals("RENAME") || first.equals("TRUNCATE")) {
+                words.stream().skip(start + 1).map(Word::text).forEach(writes::add);
+            }
+            return null;
+        }
+        String keyword = words.get(keywordIndex).text();
+
+        int nameIndex = nextName(words, keywordIndex + 1);
+        if (nameIndex >= words.size()) {
+            return keyword;
+        }
+        writes.add(words.get(nameIndex).text());
+
+        if (first.equals("DROP")) {
+            // DROP TABLE a, b CASCADE
+            for (int i = nameIndex + 1; i < words.size(); i++) {
+                writes.add(words.get(i).text());
+            }
+        } else if (keyword.equals("INDEX") || keyword.equals("TRIGGER")) {
+            for (int i = nameIndex + 1; i < words.size(); i++) {
+                if (words.get(i).text().equals("ON") && !words.get(i).qualified()) {
+                    int tableIndex = nextName(words, i + 1);
+                    if (tableIndex < words.size()) {
+                        writes.add(words.get(tableIndex).text());
+                    }
+                    break;
+                }
+            }
+        }
+        return keyword;
+    }
+
+    /**
+     * Index of the (last part of the) object name starting at {@code from}.
+     */
+    private static int nextName(List<Word> words, int from) {
+        int i = from;
+        while (i < words.size() && !words.get(i).qualified() && NAME_PREFIXES.contains(words.get(i).text())) {
+            i++;
+        }
+        while (i + 1 < words.size() && words.get(i + 1).qualified()) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Removes an MSSQL {@code IF [NOT] EXISTS (...)} guard so the guarded statement is analysed.
+     */
+    private static String stripExistenceGuard(String sql, DatabaseType type) {
+        if (type != DatabaseType.MSSQL) {
+            return sql;
+        }
+        var matcher = EXISTENCE_GUARD.matcher(sql);
+        if (!matcher.lookingAt()) {
+            return sql;
+        }
+        int depth = 1;
+        boolean inString = false;
+        for (int i = matcher.end(); i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inString = !inString;
+            } else if (!inString && c == '(') {
+                depth++;
+            } else if (!inString && c == ')' && --depth == 0) {
+                String rest = sql.substring(i + 1).strip();
+                return rest.regionMatches(true, 0, "BEGIN", 0, 5) ? rest.substring(5) : rest;
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * Splits a statement into upper-cased words and quoted identifiers, skipping comments.
+     * Words inside string literals are kept, since they may name sequences or tables.
+     */
+    private static List<Word> words(String sql, DatabaseType type) {
+        List<Word> words = new ArrayList<>();
+        int n = sql.length();
+        boolean afterDot = false;
+        boolean inString = false;
+        int i = 0;
+
+        while (i < n) {
+            char c = sql.charAt(i);
+            char next = i + 1 < n ? sql.charAt(i + 1) : '\0';
+
+            if (c == '\'') {
+                inString = !inString;
+                afterDot = false;
+                i++;
+            } else if (!inString && c == '-' && next == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? n : end;
+            } else if (!inString && c == '/' && next == '*' && (i + 2 >= n || sql.charAt(i + 2) != '!')) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? n : end + 2;
+            } else if (!inString && (c == '`' || c == '"' || (c == '[' && type == DatabaseType.MSSQL))) {
+                char close = c == '[' ? ']' : c;
+                int end = sql.indexOf(close, i + 1);
+                end = end < 0 ? n : end;
+                if (end > i + 1) {
+                    words.add(new Word(sql.substring(i + 1, end).toUpperCase(Locale.ROOT), afterDot));
+                }
+                afterDot = false;
+                i = end + 1;
+            } else if (Character.isLetter(c) || c == '_' || c == '@' || c == '#') {
+                int end = i + 1;
+                while (end < n && isWordChar(sql.charAt(end))) {
+                    end++;
+                }
+                words.add(new Word(sql.substring(i, end).toUpperCase(Locale.ROOT), afterDot));
+                afterDot = false;
+                i = end;
+            } else if (Character.isDigit(c)) {
+                while (i < n && isWordChar(sql.charAt(i))) {
+                    i++;
+                }
+                afterDot = false;
+            } else {
+                if (!Character.isWhitespace(c)) {
+                    afterDot = c == '.';
+                }
+                i++;
+            }
+        }
+        return words;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#' || c == '@';
+    }
+
+    // ========== Execution ==========
+
+    /**
+     * Splits one level into units of work: runs of batchable statements of at most
+     * {@link #MAX_BATCH_SIZE} (and small enough to keep every connection busy),
+     * and single statements that have to run on their own.
+     */
+    private static List<List<PlannedStatement>> chunk(List<PlannedStatement> level, int connections) {
+        int batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, level.size() / (connections * 2)));
+        List<List<PlannedStatement>> chunks = new ArrayList<>();
+        List<PlannedStatement> current = new ArrayList<>();
+
+        for (PlannedStatement statement : level) {
+            if (!statement.batchable()) {
+                chunks.add(List.of(statement));
+                continue;
+            }
+            current.add(statement);
+            if (current.size() >= batchSize) {
+                chunks.add(current);
+                current = new ArrayList<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private static void execute(Connection connection, List<PlannedStatement> chunk) {
+        try (Statement stmt = connection.createStatement()) {
+            if (chunk.size() == 1) {
+                try {
+                    stmt.execute(chunk.get(0).sql());
+                } catch (SQLException e) {
+                    throw failure(chunk.get(0), e);
+                }
+                return;
+            }
+
+            for (PlannedStatement statement : chunk) {
+                stmt.addBatch(statement.sql());
+            }
+            try {
+                stmt.executeBatch();
+            } catch (BatchUpdateException e) {
+                throw failure(chunk.get(failedIndex(e, chunk.size())), e);
+            }
+        } catch (SQLException e) {
+            throw failure(chunk.get(0), e);
+        }
+    }
+
+    /**
+     * Drivers either stop at the failing statement (fewer update counts than statements)
+     * or continue and mark it with {@link Statement#EXECUTE_FAILED}.
+     */
+    private static int failedIndex(BatchUpdateException e, int batchSize) {
+        int[] counts = e.getUpdateCounts();
+        if (counts == null) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return Math.min(counts.length, batchSize - 1);
+    }
+
+    private static IllegalStateException failure(PlannedStatement statement, SQLException e) {
+        return new IllegalStateException(String.format("Statement at line %d failed: %s%n%s",
+                statement.line(), e.getMessage(), excerpt(statement.sql())), e);
+    }
+
+    private static Connection openConnection(ConnectionInfo info, List<String> prologue) throws SQLException {
+        Connection connection = DriverManager.getConnection(info.jdbcUrl(), info.username(), info.password());
+        try (Statement stmt = connection.createStatement()) {
+            for (String sql : prologue) {
+                stmt.execute(sql);
+            }
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+        return connection;
+    }
+
+    private static void reportProgress(int done, int total, AtomicInteger reported) {
+        int decile = done * 10 / Math.max(1, total);
+        int previous = reported.get();
+        if (decile > previous && decile < 10 && reported.compareAndSet(previous, decile)) {
+            LOG.info("   ⏳ Loaded {}/{} statements ({}%)", done, total, decile * 10);
+        }
+    }
+
+    private static String excerpt(String sql) {
+        String text = sql.strip();
+        return text.length() > EXCERPT_LENGTH ? text.substring(0, EXCERPT_LENGTH) + "..." : text;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOG.debug("   Failed to close loader connection: {}", e.getMessage());
+        }
+    }
+}
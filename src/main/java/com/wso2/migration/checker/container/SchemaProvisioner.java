@@ -0,0 +1,223 @@
+package com.wso2.migration.checker.container;
+
+import com.wso2.migration.checker.container.ContainerFactory.ConnectionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Creates, resets and loads databases inside an already running container.
+ *
+ * A "database" is a MySQL/PostgreSQL/MSSQL database, or an Oracle user (schema)
+ * named {@code <DATABASE>_SCHEMA}.
+ * Dumps are loaded with the engine's own command-line client inside the container,
+ * the same way the image entrypoints run init scripts, or over JDBC with a
+ * {@link ParallelDumpLoader}.
+ */
+public final class SchemaProvisioner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaProvisioner.class);
+
+    public static final String DEFAULT_DATABASE = "compliance_check";
+    public static final String GOLDEN_DATABASE = "golden";
+    public static final String USER_DATABASE = "user";
+
+    private static final String ORACLE_SCHEMA_PASSWORD = "checker_pass";
+
+    private SchemaProvisioner() {
+        // Utility class
+    }
+
+    /**
+     * Drops the database (if present) and creates it empty.
+     */
+    public static void resetDatabase(JdbcDatabaseContainer<?> container, DatabaseType type, String database) {
+        LOG.debug("   Resetting {} database '{}'", type.getDisplayName(), database);
+
+        try (Connection connection = adminConnection(container, type);
+             Statement stmt = connection.createStatement()) {
+
+            switch (type) {
+                case MYSQL -> {
+                    stmt.execute("DROP DATABASE IF EXISTS `" + database + "`");
+                    stmt.execute("CREATE DATABASE `" + database + "`");
+                    stmt.execute("GRANT ALL PRIVILEGES ON `" + database + "`.* TO '"
+                            + container.getUsername() + "'@'%'");
+                }
+                case POSTGRESQL -> {
+                    stmt.execute("DROP DATABASE IF EXISTS \"" + database + "\" WITH (FORCE)");
+                    stmt.execute("CREATE DATABASE \"" + database + "\"");
+                }
+                case MSSQL -> {
+                    stmt.execute("IF DB_ID('" + database + "') IS NOT NULL BEGIN "
+                            + "ALTER DATABASE [" + database + "] SET SINGLE_USER WITH ROLLBACK IMMEDIATE; "
+                            + "DROP DATABASE [" + database + "]; END");
+                    stmt.execute("CREATE DATABASE [" + database + "]");
+                }
+                case ORACLE -> {
+                    String user = oracleUser(database);
+                    try {
+                        stmt.execute("DROP USER " + user + " CASCADE");
+                    } catch (SQLException e) {
+                        // ORA-01918: user does not exist
+                        if (e.getErrorCode() != 1918) throw e;
+                    }
+                    stmt.execute("CREATE USER " + user + " IDENTIFIED BY " + ORACLE_SCHEMA_PASSWORD
+                            + " QUOTA UNLIMITED ON USERS");
+                    stmt.execute("GRANT CONNECT, RESOURCE, CREATE VIEW, CREATE SEQUENCE, CREATE TRIGGER, "
+                            + "CREATE PROCEDURE, CREATE SYNONYM TO " + user);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to reset database '" + database + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads a SQL dump into the given database using the engine's command-line client.
+     */
+    public static void loadDump(JdbcDatabaseContainer<?> container, DatabaseType type,
+                                String database, Path sqlDumpPath) {
+        LOG.info("   ⏳ Loading dump {} into '{}'", sqlDumpPath.getFileName(), database);
+        long startTime = System.currentTimeMillis();
+
+        // One file per database so that several dumps can be loaded into one container concurrently
+        String containerDumpPath = "/tmp/" + database + "_dump.sql";
+        container.copyFileToContainer(MountableFile.forHostPath(sqlDumpPath), containerDumpPath);
+
+        String command = switch (type) {
+            case MYSQL -> String.format("MYSQL_PWD='%s' mysql -uroot --default-character-set=utf8mb4 %s < %s",
+                    container.getPassword(), database, containerDumpPath);
+            case POSTGRESQL -> String.format("PGPASSWORD='%s' psql -v ON_ERROR_STOP=1 -q -U %s -d %s -f %s",
+                    container.getPassword(), container.getUsername(), database, containerDumpPath);
+            case MSSQL -> String.format(
+                    "SQLCMD=$(ls /opt/mssql-tools18/bin/sqlcmd /opt/mssql-tools/bin/sqlcmd 2>/dev/null | head -1); "
+                            + "$SQLCMD -C -b -S localhost -U %s -P '%s' -d %s -i %s",
+                    container.getUsername(), container.getPassword(), database, containerDumpPath);
+            case ORACLE -> String.format("echo exit | sqlplus -s %s/%s@//localhost:1521/%s @%s",
+                    oracleUser(database), ORACLE_SCHEMA_PASSWORD, container.getDatabaseName(), containerDumpPath);
+        };
+
+        try {
+            ExecResult result = container.execInContainer("sh", "-c", command);
+            if (result.getExitCode() != 0) {
+                throw new IllegalStateException(String.format(
+                        "Loading %s into '%s' failed (exit code %d): %s",
+                        sqlDumpPath.getFileName(), database, result.getExitCode(), result.getStderr().trim()));
+            }
+            container.execInContainer("rm", "-f", containerDumpPath);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load dump into '" + database + "': " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading dump into '" + database + "'", e);
+        }
+
+        LOG.info("   ✅ Dump loaded into '{}' in {}ms", database, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Loads a SQL dump into the given database over JDBC with the given loader,
+     * or with the engine's command-line client when the loader is null.
+     */
+    public static void loadDump(JdbcDatabaseContainer<?> container, DatabaseType type,
+                                String database, Path sqlDumpPath, ParallelDumpLoader jdbcLoader) {
+        if (jdbcLoader == null) {
+            loadDump(container, type, database, sqlDumpPath);
+            return;
+        }
+
+        LOG.info("   ⏳ Loading dump {} into '{}' over JDBC", sqlDumpPath.getFileName(), database);
+        ConnectionInfo connection = connectionInfo(container, type, database);
+        if (type == DatabaseType.MYSQL) {
+            // Loaded as root, like the mysql client, so DEFINER clauses are accepted
+            connection = new ConnectionInfo(connection.jdbcUrl(), "root", container.getPassword(),
+                    connection.host(), connection.port());
+        }
+        jdbcLoader.load(connection, type, sqlDumpPath);
+    }
+
+    /**
+     * Returns connection details scoped to the given database.
+     */
+    public static ConnectionInfo connectionInfo(JdbcDatabaseContainer<?> container, DatabaseType type,
+                                                String database) {
+        String host = container.getHost();
+        int port = container.getMappedPort(type.getDefaultPort());
+
+        return switch (type) {
+            case MYSQL -> new ConnectionInfo(
+                    "jdbc:mysql://" + host + ":" + port + "/" + database,
+                    container.getUsername(), container.getPassword(), host, port);
+            case POSTGRESQL -> new ConnectionInfo(
+                    "jdbc:postgresql://" + host + ":" + port + "/" + database,
+                    container.getUsername(), container.getPassword(), host, port);
+            case MSSQL -> new ConnectionInfo(
+                    container.getJdbcUrl() + ";databaseName=" + database,
+                    container.getUsername(), container.getPassword(), host, port);
+            case ORACLE -> new ConnectionInfo(
+                    container.getJdbcUrl(), oracleUser(database), ORACLE_SCHEMA_PASSWORD, host, port);
+        };
+    }
+
+    /**
+     * Returns the SchemaCrawler schema inclusion pattern that limits a crawl to the
+     * given database, or null when the connection can only see that database anyway.
+     */
+    public static String crawlScope(DatabaseType type, String database) {
+        return switch (type) {
+            case MYSQL -> Pattern.quote(database);
+            case MSSQL -> Pattern.quote(database) + "\\.dbo";
+            case ORACLE -> Pattern.quote(oracleUser(database));
+            case POSTGRESQL -> null; // A PostgreSQL connection is bound to one database
+        };
+    }
+
+    /**
+     * Checks that the container is running and accepts administrative connections.
+     */
+    public static boolean isHealthy(JdbcDatabaseContainer<?> container, DatabaseType type) {
+        if (!container.isRunning()) {
+            return false;
+        }
+        try (Connection connection = adminConnection(container, type)) {
+            return connection.isValid(5);
+        } catch (SQLException e) {
+            LOG.debug("   Health check failed for {} container: {}", type.getDisplayName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static Connection adminConnection(JdbcDatabaseContainer<?> container, DatabaseType type)
+            throws SQLException {
+        String host = container.getHost();
+        int port = container.getMappedPort(type.getDefaultPort());
+
+        return switch (type) {
+            case MYSQL -> DriverManager.getConnection(
+                    "jdbc:mysql://" + host + ":" + port + "/", "root", container.getPassword());
+            case POSTGRESQL -> DriverManager.getConnection(
+                    "jdbc:postgresql://" + host + ":" + port + "/postgres",
+                    container.getUsername(), container.getPassword());
+            case MSSQL -> DriverManager.getConnection(
+                    container.getJdbcUrl(), container.getUsername(), container.getPassword());
+            case ORACLE -> DriverManager.getConnection(
+                    container.getJdbcUrl(), "system", container.getPassword());
+        };
+    }
+
+    private static String oracleUser(String database) {
+        // Suffixed so that names such as USER do not collide with reserved words
+        return database.toUpperCase() + "_SCHEMA";
+    }
+}
@@ -0,0 +1,179 @@
+package com.wso2.migration.checker.core;
+
+import com.wso2.migration.checker.config.AppConfig;
+import com.wso2.migration.checker.container.ContainerPool;
+import com.wso2.migration.checker.inspector.InspectionEngine;
+import com.wso2.migration.checker.metrics.PerformanceRecorder;
+import com.wso2.migration.checker.model.IndexedSnapshot;
+import com.wso2.migration.checker.report.BatchSummary;
+import com.wso2.migration.checker.report.ReportGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks many user dumps against one standard schema in a single JVM.
+ *
+ * The standard snapshot is captured once (or served from the snapshot cache);
+ * user dumps are then checked by a fixed number of workers, which bounds the
+ * number of user containers running at the same time. Each dump gets its own
+ * JSON report in a numbered sub-directory of the output directory, and an
+ * aggregated batch summary is written at the end.
+ */
+public class BatchOrchestrator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchOrchestrator.class);
+
+    private final AppConfig config;
+    private final ReportGenerator reportGenerator;
+
+    public BatchOrchestrator(AppConfig config) {
+        this.config = config;
+        this.reportGenerator = new ReportGenerator();
+    }
+
+    /**
+     * Runs the batch and returns its summary. Failures of individual dumps are
+     * recorded in the summary rather than aborting the batch.
+     */
+    public BatchSummary execute() {
+        List<Path> dumps = resolveDumps(config.getBatchSource());
+        int concurrency = config.getBatchMaxConcurrentContainers();
+        Path outputDir = config.getReportOutputDir();
+
+        LOG.info("🚀 Starting Batch Compliance Check");
+        LOG.info("   Database Type: {}", config.getDatabaseType().getDisplayName());
+        LOG.info("   Standard Schema: {}", config.getStandardSchemaLabel());
+        LOG.info("   Dumps: {} (max {} concurrent containers)", dumps.size(), concurrency);
+
+        Instant startedAt = Instant.now();
+
+        ContainerPool pool = config.isContainerPoolEnabled() && config.getInspectionEngine() != InspectionEngine.OFFLINE
+                ? new ContainerPool(concurrency,
+                        Duration.ofSeconds(config.getContainerPoolMaxIdleSeconds()),
+                        config.isContainerPoolReuse(),
+                        ComplianceOrchestrator.jdbcLoader(config))
+                : null;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            ComplianceOrchestrator orchestrator = new ComplianceOrchestrator(config, pool);
+
+            LOG.info("\n🐳 Capturing standard snapshot...");
+            PerformanceRecorder recorder = new PerformanceRecorder();
+            // Indexed once, shared by every check
+            IndexedSnapshot standard = orchestrator.index(
+                    orchestrator.captureStandardSnapshot(recorder), "STANDARD", recorder);
+
+            LOG.info("\n⚖️  Checking {} user dumps...", dumps.size());
+            AtomicInteger completed = new AtomicInteger();
+            List<CompletableFuture<BatchSummary.Entry>> futures = new ArrayList<>();
+
+            for (int i = 0; i < dumps.size(); i++) {
+                Path dump = dumps.get(i);
+                Path dumpOutputDir = outputDir.resolve(String.format("%03d_%s", i + 1, baseName(dump)));
+
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    BatchSummary.Entry entry = checkDump(orchestrator, standard, dump, dumpOutputDir, recorder);
+                    LOG.info("   [{}/{}] {} {}", completed.incrementAndGet(), dumps.size(),
+                            dump.getFileName(), entry.status());
+                    return entry;
+                }, executor));
+            }
+
+            List<BatchSummary.Entry> entries = futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+
+            BatchSummary summary = new BatchSummary(
+                    config.getDatabaseType().getDisplayName(),
+                    config.getStandardSchemaLabel(),
+                    startedAt, Instant.now(), entries);
+
+            LOG.info("\n📊 Generating Batch Summary...");
+            reportGenerator.generateBatchSummary(summary, outputDir);
+            orchestrator.writeMetrics(recorder);
+
+            LOG.info("\n✅ Batch completed in {} seconds",
+                    Duration.between(startedAt, summary.getFinishedAt()).toMillis() / 1000.0);
+            return summary;
+
+        } finally {
+            if (pool != null) {
+                pool.close();
+            }
+        }
+    }
+
+    private BatchSummary.Entry checkDump(ComplianceOrchestrator orchestrator, IndexedSnapshot standard,
+                                         Path dump, Path outputDir, PerformanceRecorder recorder) {
+        long start = System.currentTimeMillis();
+        try {
+            ComplianceOrchestrator.CheckResult result = orchestrator.checkUserDump(standard, dump, outputDir);
+            recorder.addAll(result.performance().getPhases());
+            return BatchSummary.Entry.of(dump, result.report(), result.reportPath(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            LOG.error("   ❌ {} failed: {}", dump.getFileName(), cause.getMessage(), e);
+            return BatchSummary.Entry.failed(dump, cause.getMessage(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Resolves the dumps of a batch: every *.sql file of a directory (sorted by name),
+     * or the paths listed in a manifest file, one per line. Blank lines and lines
+     * starting with '#' are ignored; relative paths are resolved against the manifest.
+     */
+    static List<Path> resolveDumps(Path source) {
+        try {
+            List<Path> dumps;
+            if (Files.isDirectory(source)) {
+                try (Stream<Path> files = Files.list(source)) {
+                    dumps = files.filter(Files::isRegularFile)
+                            .filter(p -> p.getFileName().toString().toLowerCase().endsWith(".sql"))
+                            .sorted()
+                            .collect(Collectors.toList());
+                }
+            } else {
+                Path baseDir = source.toAbsolutePath().getParent();
+                dumps = Files.readAllLines(source).stream()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .map(line -> baseDir.resolve(line).normalize())
+                        .collect(Collectors.toList());
+            }
+
+            for (Path dump : dumps) {
+                if (!Files.isReadable(dump)) {
+                    throw new IllegalArgumentException("Batch dump not found or not readable: " + dump);
+                }
+            }
+            if (dumps.isEmpty()) {
+                throw new IllegalArgumentException("No SQL dumps found in batch source: " + source);
+            }
+            return dumps;
+
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read batch source " + source + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String baseName(Path dump) {
+        String name = dump.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+}
@@ -1,8 +1,24 @@
 package com.wso2.migration.checker.core;
 
+import com.wso2.migration.checker.cache.SnapshotCache;
+import com.wso2.migration.checker.config.AppConfig;
+import com.wso2.migration.checker.config.LiveDatabase;
 import com.wso2.migration. checker.container.ContainerFactory;
+import com.wso2.migration.checker.container.ContainerFactory.ConnectionInfo;
+import com.wso2.migration.checker.container.ContainerPool;
+import com.wso2.migration.checker.container.DdlOnlyDumpFilter;
+import com.wso2.migration.checker.container.LoaderType;
+import com.wso2.migration.checker.container.ParallelDumpLoader;
+import com.wso2.migration.checker.container.SchemaProvisioner;
 import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.inspector.CrawlProfile;
+import com.wso2.migration.checker.inspector.InspectionEngine;
+import com.wso2.migration.checker.inspector.LiveSession;
 import com.wso2.migration.checker.inspector.SchemaInspector;
+import com.wso2.migration.checker.inspector.offline.OfflineSchemaInspector;
+import com.wso2.migration.checker.metrics.PerformanceRecorder;
+import com.wso2.migration.checker.metrics.PerformanceRecorder.Span;
+import com.wso2.migration.checker.model.IndexedSnapshot;
 import com.wso2.migration.checker.model.SchemaSnapshot;
 import com.wso2.migration.checker.report.ComplianceReport;
 import com.wso2.migration.checker.report. ReportGenerator;
@@ -10,18 +26,32 @@ import org. slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.JdbcDatabaseContainer;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util. concurrent.Executors;
 
 /**
  * Main orchestrator that coordinates the entire compliance checking workflow.
  *
  * Workflow:
- * 1. Start two Docker containers (Standard & User) in parallel
- * 2. Capture schema snapshots from both
- * 3. Compare snapshots using DiffEngine
+ * 1. Start two Docker containers (Standard & User) in parallel; the Standard
+ *    container is skipped when its snapshot is already in the snapshot cache,
+ *    and containers come from the warm pool when one is configured. In
+ *    single-container mode both schemas are loaded into one container instead.
+ *    With the offline engine no containers are started: both dumps are parsed.
+ *    Data statements are stripped from the dumps before they are loaded. A
+ *    side given as a live database is inspected in place instead, re-reading
+ *    only what changed since its last snapshot.
+ * 2. Capture schema snapshots from both (the verify engine also parses the
+ *    dumps offline and reports where the two snapshots differ)
+ * 3. Compare snapshots using DiffEngine, unless their fingerprints match: the
+ *    schemas are then identical and the report has no drifts
  * 4. Generate reports (CLI + JSON)
  */
 public class ComplianceOrchestrator {
@@ -31,8 +61,22 @@ public class ComplianceOrchestrator {
     private final DatabaseType databaseType;
     private final Path standardSchemaPath;
     private final Path userDumpPath;
+    private final LiveDatabase standardLive;
+    private final LiveDatabase userLive;
+    private final LiveSession liveSession;
     private final Path reportOutputDir;
 
+    private final SnapshotCache snapshotCache;
+    private final ContainerPool containerPool;
+    private final boolean ownsContainerPool;
+    private final boolean singleContainer;
+    private final boolean ddlFilter;
+    private final ParallelDumpLoader jdbcLoader;
+    private final InspectionEngine inspectionEngine;
+    private final OfflineSchemaInspector offlineInspector;
+    private final CrawlProfile crawlProfile;
+    private final Path metricsFile;
+
     private final DiffEngine diffEngine;
     private final ReportGenerator reportGenerator;
 
@@ -40,12 +84,56 @@ public class ComplianceOrchestrator {
                                   Path standardSchemaPath,
                                   Path userDumpPath,
                                   Path reportOutputDir) {
-        this.databaseType = databaseType;
-        this.standardSchemaPath = standardSchemaPath;
-        this.userDumpPath = userDumpPath;
-        this.reportOutputDir = reportOutputDir;
-        this.diffEngine = new DiffEngine();
+        this(new AppConfig()
+                .withDatabaseType(databaseType)
+                .withStandardSchemaPath(standardSchemaPath)
+                .withUserDumpPath(userDumpPath)
+                .withReportOutputDir(reportOutputDir));
+    }
+
+    public ComplianceOrchestrator(AppConfig config) {
+        this(config, config.isContainerPoolEnabled() && config.getInspectionEngine() != InspectionEngine.OFFLINE
+                ? new ContainerPool(config.getContainerPoolMaxSizePerType(),
+                        Duration.ofSeconds(config.getContainerPoolMaxIdleSeconds()),
+                        config.isContainerPoolReuse(),
+                        jdbcLoader(config))
+                : null, true);
+    }
+
+    /**
+     * Creates an orchestrator that leases containers from a shared pool.
+     * The pool is not closed by this orchestrator.
+     */
+    public ComplianceOrchestrator(AppConfig config, ContainerPool containerPool) {
+        this(config, containerPool, false);
+    }
+
+    private ComplianceOrchestrator(AppConfig config, ContainerPool containerPool, boolean ownsContainerPool) {
+        this.containerPool = containerPool;
+        this.ownsContainerPool = ownsContainerPool;
+        this.singleContainer = config.isSingleContainer();
+        this.ddlFilter = config.isDdlFilterEnabled();
+        this.jdbcLoader = jdbcLoader(config);
+        this.inspectionEngine = config.getInspectionEngine();
+        this.databaseType = config.getDatabaseType();
+        this.standardSchemaPath = config.getStandardSchemaPath();
+        this.userDumpPath = config.getUserDumpPath();
+        this.standardLive = config.getStandardLive();
+        this.userLive = config.getUserLive();
+        this.liveSession = new LiveSession(config.getLiveQueryTimeoutSeconds());
+        this.reportOutputDir = config.getReportOutputDir();
+        this.offlineInspector = new OfflineSchemaInspector(databaseType);
+        this.crawlProfile = CrawlProfile.from(config);
+        this.metricsFile = config.getMetricsFile();
+        this.snapshotCache = config.isSnapshotCacheEnabled()
+                ? new SnapshotCache(config.getSnapshotCacheDir(), config.getSnapshotCacheMaxEntries())
+                : null;
+        this.diffEngine = config.isParallelDiff() ? new DiffEngine(ForkJoinPool.commonPool()) : new DiffEngine();
         this.reportGenerator = new ReportGenerator();
+
+        if (snapshotCache != null && config.isClearSnapshotCache()) {
+            snapshotCache.clear();
+        }
     }
 
     /**
@@ -56,42 +144,100 @@ public class ComplianceOrchestrator {
     public ComplianceReport execute() {
         LOG.info("🚀 Starting Schema Compliance Check");
         LOG.info("   Database Type: {}", databaseType. getDisplayName());
-        LOG.info("   Standard Schema: {}", standardSchemaPath.getFileName());
-        LOG.info("   User Dump: {}", userDumpPath.getFileName());
+        LOG.info("   Standard Schema: {}", standardLive != null ? standardLive : standardSchemaPath.getFileName());
+        LOG.info("   User {}: {}", userLive != null ? "Database" : "Dump",
+                userLive != null ? userLive : userDumpPath.getFileName());
 
         long startTime = System.currentTimeMillis();
+        PerformanceRecorder recorder = new PerformanceRecorder();
 
         try (ExecutorService executor = Executors. newFixedThreadPool(2)) {
 
-            // Start both containers in parallel
-            LOG.info("\n🐳 Phase 1: Starting Docker Containers.. .");
+            ContainerWithSnapshot standardResult;
+            ContainerWithSnapshot userResult;
+
+            if (standardLive != null || userLive != null) {
+                LOG.info("\n🔌 Phase 1: Inspecting Live Databases...");
+
+                CompletableFuture<ContainerWithSnapshot> standardFuture = CompletableFuture.supplyAsync(
+                        () -> standardLive != null
+                                ? new ContainerWithSnapshot(null, captureLive(standardLive, "STANDARD", recorder))
+                                : captureStandardSide(recorder), executor);
 
-            CompletableFuture<ContainerWithSnapshot> standardFuture = CompletableFuture.supplyAsync(
-                    () -> startAndCapture(standardSchemaPath, "STANDARD"), executor);
+                CompletableFuture<ContainerWithSnapshot> userFuture = CompletableFuture.supplyAsync(
+                        () -> userLive != null
+                                ? new ContainerWithSnapshot(null, captureLive(userLive, "USER", recorder))
+                                : captureUserSide(recorder), executor);
 
-            CompletableFuture<ContainerWithSnapshot> userFuture = CompletableFuture.supplyAsync(
-                    () -> startAndCapture(userDumpPath, "USER"), executor);
+                standardResult = standardFuture.join();
+                userResult = userFuture.join();
+            } else if (inspectionEngine == InspectionEngine.OFFLINE) {
+                LOG.info("\n📄 Phase 1: Parsing SQL Dumps (offline engine)...");
 
-            // Wait for both to complete
-            ContainerWithSnapshot standardResult = standardFuture.join();
-            ContainerWithSnapshot userResult = userFuture.join();
+                CompletableFuture<SchemaSnapshot> standardFuture = CompletableFuture.supplyAsync(
+                        () -> captureOffline(standardSchemaPath, "STANDARD", recorder), executor);
+
+                CompletableFuture<SchemaSnapshot> userFuture = CompletableFuture.supplyAsync(
+                        () -> captureOffline(userDumpPath, "USER", recorder), executor);
+
+                standardResult = new ContainerWithSnapshot(null, standardFuture.join());
+                userResult = new ContainerWithSnapshot(null, userFuture.join());
+            } else if (singleContainer) {
+                LOG.info("\n🐳 Phase 1: Starting Docker Containers.. .");
+
+                CapturedSchemas captured = captureInSingleContainer(executor, recorder);
+                standardResult = captured.standard();
+                userResult = captured.user();
+            } else {
+                // Start both containers in parallel
+                LOG.info("\n🐳 Phase 1: Starting Docker Containers.. .");
+
+                CompletableFuture<ContainerWithSnapshot> standardFuture = CompletableFuture.supplyAsync(
+                        () -> captureStandard(recorder), executor);
+
+                CompletableFuture<ContainerWithSnapshot> userFuture = CompletableFuture.supplyAsync(
+                        () -> startAndCapture(userDumpPath, "USER", recorder), executor);
+
+                // Wait for both to complete
+                standardResult = standardFuture.join();
+                userResult = userFuture.join();
+            }
+
+            if (inspectionEngine == InspectionEngine.VERIFY) {
+                LOG.info("\n🔬 Verifying offline parser against container snapshots...");
+                if (standardLive == null) {
+                    verifyOffline(standardResult.snapshot(), standardSchemaPath, "STANDARD", reportOutputDir, recorder);
+                }
+                if (userLive == null) {
+                    verifyOffline(userResult.snapshot(), userDumpPath, "USER", reportOutputDir, recorder);
+                }
+            }
 
             // Perform comparison
             LOG.info("\n⚖️  Phase 2: Analyzing Schema Differences...");
-            ComplianceReport report = diffEngine.compare(
-                    standardResult.snapshot(),
-                    userResult.snapshot()
-            );
+            IndexedSnapshot standard = index(standardResult.snapshot(), "STANDARD", recorder);
+            IndexedSnapshot user = index(userResult.snapshot(), "USER", recorder);
+            ComplianceReport report = identical(standard, user)
+                    ? ComplianceReport.identical(standard.snapshot(), user.snapshot())
+                    : recorder.record("diff", "USER", () -> diffEngine.compare(standard, user));
+            report.setPerformance(recorder);
 
             // Generate reports
             LOG.info("\n📊 Phase 3: Generating Reports...");
-            reportGenerator. generateReports(report, reportOutputDir);
+            try (Span ignored = recorder.start("report", "USER")) {
+                reportGenerator. generateReports(report, reportOutputDir);
+            }
+            writeMetrics(recorder);
 
             // Cleanup containers
             LOG.info("\n🧹 Phase 4: Cleaning Up...");
             cleanup(standardResult.container());
             cleanup(userResult.container());
 
+            if (snapshotCache != null) {
+                snapshotCache.logStatistics();
+            }
+
             long elapsed = System.currentTimeMillis() - startTime;
             LOG. info("\n✅ Compliance check completed in {} seconds", elapsed / 1000.0);
 
@@ -100,18 +246,282 @@ public class ComplianceOrchestrator {
         } catch (Exception e) {
             LOG.error("❌ Compliance check failed: {}", e.getMessage(), e);
             throw new RuntimeException("Compliance check failed", e);
+        } finally {
+            if (ownsContainerPool && containerPool != null) {
+                containerPool.close();
+            }
+        }
+    }
+
+    /**
+     * Captures the standard snapshot once so it can be reused for many user dumps.
+     * Any container started for it is stopped before returning.
+     */
+    public SchemaSnapshot captureStandardSnapshot() {
+        return captureStandardSnapshot(new PerformanceRecorder());
+    }
+
+    /**
+     * Captures the standard snapshot once, recording its phases in the given recorder.
+     */
+    public SchemaSnapshot captureStandardSnapshot(PerformanceRecorder recorder) {
+        if (standardLive != null) {
+            return captureLive(standardLive, "STANDARD", recorder);
+        }
+        if (inspectionEngine == InspectionEngine.OFFLINE) {
+            return captureOffline(standardSchemaPath, "STANDARD", recorder);
+        }
+
+        ContainerWithSnapshot result = captureStandard(recorder);
+        cleanup(result.container());
+
+        if (inspectionEngine == InspectionEngine.VERIFY) {
+            verifyOffline(result.snapshot(), standardSchemaPath, "STANDARD", reportOutputDir, recorder);
+        }
+        return result.snapshot();
+    }
+
+    /**
+     * Checks one user dump against an already captured and indexed standard snapshot
+     * and writes its JSON report. The console report is left to the caller (batch mode
+     * prints an aggregated summary instead).
+     *
+     * @return the report, the path of its JSON file and the timings of the check
+     */
+    public CheckResult checkUserDump(IndexedSnapshot standardSnapshot, Path dumpPath, Path outputDir) {
+        String label = "USER:" + dumpPath.getFileName();
+        PerformanceRecorder recorder = new PerformanceRecorder();
+        SchemaSnapshot userSnapshot;
+
+        if (inspectionEngine == InspectionEngine.OFFLINE) {
+            userSnapshot = captureOffline(dumpPath, label, recorder);
+        } else {
+            ContainerWithSnapshot userResult = startAndCapture(dumpPath, label, recorder);
+            cleanup(userResult.container());
+            userSnapshot = userResult.snapshot();
+
+            if (inspectionEngine == InspectionEngine.VERIFY) {
+                verifyOffline(userSnapshot, dumpPath, label, outputDir, recorder);
+            }
+        }
+
+        IndexedSnapshot user = index(userSnapshot, label, recorder);
+        ComplianceReport report = identical(standardSnapshot, user)
+                ? ComplianceReport.identical(standardSnapshot.snapshot(), user.snapshot())
+                : recorder.record("diff", label, () -> diffEngine.compare(standardSnapshot, user));
+        report.setPerformance(recorder);
+        try (Span ignored = recorder.start("report", label)) {
+            Path reportPath = reportGenerator.writeJsonReport(report, outputDir);
+            return new CheckResult(report, reportPath, recorder);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write report for " + dumpPath.getFileName(), e);
+        }
+    }
+
+    /**
+     * Indexes and fingerprints a captured snapshot, once, for both the fingerprint check
+     * and the diff.
+     */
+    IndexedSnapshot index(SchemaSnapshot snapshot, String label, PerformanceRecorder recorder) {
+        return recorder.record("snapshot.index", label, () -> IndexedSnapshot.fingerprinted(snapshot));
+    }
+
+    /**
+     * Whether the two snapshots have the same fingerprint, in which case there is nothing
+     * to diff.
+     */
+    private boolean identical(IndexedSnapshot standardSnapshot, IndexedSnapshot userSnapshot) {
+        boolean identical = standardSnapshot.sameAs(userSnapshot);
+        if (identical) {
+            LOG.info("   ✓ Fingerprints match ({}): the user schema is identical to the standard",
+                    userSnapshot.fingerprint());
+        }
+        return identical;
+    }
+
+    /**
+     * Captures the standard dump with the configured engine, alongside a live user database.
+     */
+    private ContainerWithSnapshot captureStandardSide(PerformanceRecorder recorder) {
+        return inspectionEngine == InspectionEngine.OFFLINE
+                ? new ContainerWithSnapshot(null, captureOffline(standardSchemaPath, "STANDARD", recorder))
+                : captureStandard(recorder);
+    }
+
+    /**
+     * Captures the user dump with the configured engine, alongside a live standard database.
+     */
+    private ContainerWithSnapshot captureUserSide(PerformanceRecorder recorder) {
+        return inspectionEngine == InspectionEngine.OFFLINE
+                ? new ContainerWithSnapshot(null, captureOffline(userDumpPath, "USER", recorder))
+                : startAndCapture(userDumpPath, "USER", recorder);
+    }
+
+    /**
+     * Inspects a live database in place with read-only, low-priority connections. Its
+     * last snapshot is kept in the snapshot cache, so a re-check only re-reads the
+     * objects whose DDL changed since.
+     */
+    private SchemaSnapshot captureLive(LiveDatabase database, String label, PerformanceRecorder recorder) {
+        String cacheKey = snapshotCache != null
+                ? snapshotCache.keyForLive(databaseType, database.redactedUrl(), database.username(),
+                        crawlProfile.cacheKey())
+                : null;
+        SchemaSnapshot previous = cacheKey != null ? snapshotCache.get(cacheKey).orElse(null) : null;
+
+        SchemaInspector inspector = new SchemaInspector(databaseType, recorder, label, crawlProfile, liveSession);
+        SchemaSnapshot snapshot = inspector.captureIncremental(
+                database.jdbcUrl(),
+                database.username(),
+                database.password(),
+                null,
+                previous
+        );
+        if (cacheKey != null) {
+            snapshotCache.put(cacheKey, snapshot);
+        }
+
+        LOG.info("   ✓ {} snapshot captured:  {}", label, snapshot.summary());
+        return snapshot;
+    }
+
+    /**
+     * Captures the standard snapshot, serving it from the snapshot cache when possible.
+     */
+    private ContainerWithSnapshot captureStandard(PerformanceRecorder recorder) {
+        String cacheKey = standardCacheKey();
+
+        Optional<SchemaSnapshot> cached = cachedStandard(cacheKey);
+        if (cached.isPresent()) {
+            return new ContainerWithSnapshot(null, cached.get());
+        }
+
+        ContainerWithSnapshot result = startAndCapture(standardSchemaPath, "STANDARD", recorder);
+        cacheStandard(cacheKey, result.snapshot());
+        return result;
+    }
+
+    /**
+     * Loads the standard and user dumps into two databases of one container and
+     * captures both, so only one database engine is started per check.
+     */
+    private CapturedSchemas captureInSingleContainer(ExecutorService executor, PerformanceRecorder recorder) {
+        String cacheKey = standardCacheKey();
+
+        Optional<SchemaSnapshot> cached = cachedStandard(cacheKey);
+        if (cached.isPresent()) {
+            // Only the user schema is left to load, which needs a single container anyway
+            return new CapturedSchemas(
+                    new ContainerWithSnapshot(null, cached.get()),
+                    startAndCapture(userDumpPath, "USER", recorder));
+        }
+
+        JdbcDatabaseContainer<?> container = recorder.record("container.start", "DUAL",
+                () -> ContainerFactory.createEmptyAndStart(databaseType, "DUAL", false));
+        try {
+            CompletableFuture<SchemaSnapshot> standardFuture = CompletableFuture.supplyAsync(
+                    () -> provisionAndCapture(container, SchemaProvisioner.GOLDEN_DATABASE,
+                            standardSchemaPath, "STANDARD", recorder), executor);
+
+            CompletableFuture<SchemaSnapshot> userFuture = CompletableFuture.supplyAsync(
+                    () -> provisionAndCapture(container, SchemaProvisioner.USER_DATABASE,
+                            userDumpPath, "USER", recorder), executor);
+
+            SchemaSnapshot standard = standardFuture.join();
+            SchemaSnapshot user = userFuture.join();
+            cacheStandard(cacheKey, standard);
+
+            // The shared container is stopped once, through the standard result
+            return new CapturedSchemas(
+                    new ContainerWithSnapshot(container, standard),
+                    new ContainerWithSnapshot(null, user));
+
+        } catch (RuntimeException e) {
+            cleanup(container);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a database in a shared container, loads a dump into it and captures its schema.
+     */
+    private SchemaSnapshot provisionAndCapture(JdbcDatabaseContainer<?> container, String database,
+                                               Path sqlPath, String label, PerformanceRecorder recorder) {
+        try (Span ignored = recorder.start("database.reset", label)) {
+            SchemaProvisioner.resetDatabase(container, databaseType, database);
+        }
+        Path loadPath = loadableDump(sqlPath, label, recorder);
+        try (Span ignored = recorder.start("dump.load", label)) {
+            SchemaProvisioner.loadDump(container, databaseType, database, loadPath, jdbcLoader);
+        } finally {
+            discardLoadableDump(loadPath, sqlPath);
+        }
+
+        ConnectionInfo connection = SchemaProvisioner.connectionInfo(container, databaseType, database);
+        SchemaInspector inspector = new SchemaInspector(databaseType, recorder, label, crawlProfile);
+        SchemaSnapshot snapshot = inspector.captureSnapshot(
+                connection.jdbcUrl(),
+                connection.username(),
+                connection.password(),
+                SchemaProvisioner.crawlScope(databaseType, database)
+        );
+
+        LOG.info("   ✓ {} snapshot captured:  {}", label, snapshot.summary());
+        return snapshot;
+    }
+
+    /**
+     * Returns the snapshot cache key for the standard schema, or null when caching is off.
+     */
+    private String standardCacheKey() {
+        if (snapshotCache == null) {
+            return null;
+        }
+        try {
+            return snapshotCache.keyFor(databaseType, standardSchemaPath, crawlProfile.cacheKey());
+        } catch (IOException e) {
+            LOG.warn("   Snapshot cache disabled for this run: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Optional<SchemaSnapshot> cachedStandard(String cacheKey) {
+        if (cacheKey == null) {
+            return Optional.empty();
+        }
+        Optional<SchemaSnapshot> cached = snapshotCache.get(cacheKey);
+        cached.ifPresent(snapshot -> LOG.info(
+                "   ⚡ STANDARD snapshot loaded from cache (skipping container): {}", snapshot.summary()));
+        return cached;
+    }
+
+    private void cacheStandard(String cacheKey, SchemaSnapshot snapshot) {
+        if (cacheKey != null) {
+            snapshotCache.put(cacheKey, snapshot);
         }
     }
 
     /**
      * Starts a container with the given SQL dump and captures its schema.
      */
-    private ContainerWithSnapshot startAndCapture(Path sqlPath, String label) {
+    private ContainerWithSnapshot startAndCapture(Path sqlPath, String label, PerformanceRecorder recorder) {
+        if (containerPool != null) {
+            return leaseAndCapture(sqlPath, label, recorder);
+        }
+        if (jdbcLoader != null) {
+            return startEmptyAndCapture(sqlPath, label, recorder);
+        }
+
         JdbcDatabaseContainer<?> container = null;
+        Path loadPath = loadableDump(sqlPath, label, recorder);
         try {
-            container = ContainerFactory.createAndStart(databaseType, sqlPath, label);
+            // Includes loading the dump, which the image runs as an init script
+            try (Span ignored = recorder.start("container.start", label)) {
+                container = ContainerFactory.createAndStart(databaseType, loadPath, label);
+            }
+            discardLoadableDump(loadPath, sqlPath);
 
-            SchemaInspector inspector = new SchemaInspector(databaseType);
+            SchemaInspector inspector = new SchemaInspector(databaseType, recorder, label, crawlProfile);
             SchemaSnapshot snapshot = inspector.captureSnapshot(
                     container.getJdbcUrl(),
                     container.getUsername(),
@@ -126,10 +536,158 @@ public class ComplianceOrchestrator {
             if (container != null) {
                 cleanup(container);
             }
+            discardLoadableDump(loadPath, sqlPath);
             throw new RuntimeException("Failed to start/capture " + label + " schema", e);
         }
     }
 
+    /**
+     * Starts an empty container, loads the dump into it over JDBC and captures its schema.
+     */
+    private ContainerWithSnapshot startEmptyAndCapture(Path sqlPath, String label, PerformanceRecorder recorder) {
+        JdbcDatabaseContainer<?> container = null;
+        try {
+            try (Span ignored = recorder.start("container.start", label)) {
+                container = ContainerFactory.createEmptyAndStart(databaseType, label, false);
+            }
+            SchemaSnapshot snapshot = provisionAndCapture(container, SchemaProvisioner.DEFAULT_DATABASE,
+                    sqlPath, label, recorder);
+            return new ContainerWithSnapshot(container, snapshot);
+
+        } catch (Exception e) {
+            if (container != null) {
+                cleanup(container);
+            }
+            throw new RuntimeException("Failed to start/capture " + label + " schema", e);
+        }
+    }
+
+    /**
+     * Leases a warm container from the pool, captures its schema and returns it to the pool.
+     */
+    private ContainerWithSnapshot leaseAndCapture(Path sqlPath, String label, PerformanceRecorder recorder) {
+        Path loadPath = loadableDump(sqlPath, label, recorder);
+        try {
+            // Acquiring covers starting or reusing a container, resetting it and loading the dump
+            ContainerPool.Lease acquired;
+            try (Span ignored = recorder.start("container.acquire", label)) {
+                acquired = containerPool.acquire(databaseType, loadPath, label);
+            }
+
+            try (ContainerPool.Lease lease = acquired) {
+                ConnectionInfo connection = lease.connectionInfo();
+
+                SchemaInspector inspector = new SchemaInspector(databaseType, recorder, label, crawlProfile);
+                SchemaSnapshot snapshot = inspector.captureSnapshot(
+                        connection.jdbcUrl(),
+                        connection.username(),
+                        connection.password()
+                );
+
+                LOG.info("   ✓ {} snapshot captured:  {}", label, snapshot.summary());
+
+                // The container goes back to the pool; nothing left to clean up
+                return new ContainerWithSnapshot(null, snapshot);
+            }
+
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to lease/capture " + label + " schema", e);
+        } finally {
+            discardLoadableDump(loadPath, sqlPath);
+        }
+    }
+
+    /**
+     * Returns the script to load for a dump: a DDL-only copy when the filter is enabled,
+     * otherwise the dump itself. Falls back to the full dump if filtering fails.
+     */
+    private Path loadableDump(Path sqlPath, String label, PerformanceRecorder recorder) {
+        if (!ddlFilter) {
+            return sqlPath;
+        }
+        try (Span ignored = recorder.start("dump.filter", label)) {
+            return DdlOnlyDumpFilter.filterToTempFile(sqlPath, databaseType).filteredPath();
+        } catch (IOException e) {
+            LOG.warn("   DDL-only filter failed for {}, loading the full dump: {}",
+                    sqlPath.getFileName(), e.getMessage());
+            return sqlPath;
+        }
+    }
+
+    /**
+     * Deletes the DDL-only copy once it has been loaded.
+     */
+    private void discardLoadableDump(Path loadPath, Path sqlPath) {
+        if (loadPath.equals(sqlPath)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(loadPath);
+        } catch (IOException e) {
+            LOG.debug("   Failed to delete filtered dump {}: {}", loadPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the JDBC dump loader configured for containers, or null to load
+     * dumps with the engine's command-line client.
+     */
+    static ParallelDumpLoader jdbcLoader(AppConfig config) {
+        return config.getLoaderType() == LoaderType.JDBC
+                ? new ParallelDumpLoader(config.getLoaderThreads())
+                : null;
+    }
+
+    /**
+     * Parses a SQL dump into a snapshot without starting a container.
+     */
+    private SchemaSnapshot captureOffline(Path sqlPath, String label, PerformanceRecorder recorder) {
+        SchemaSnapshot snapshot = recorder.record("offline.parse", label,
+                () -> crawlProfile.restrict(offlineInspector.captureSnapshot(sqlPath)));
+        LOG.info("   ✓ {} snapshot parsed:  {}", label, snapshot.summary());
+        return snapshot;
+    }
+
+    /**
+     * Parses the dump offline and diffs the result against the snapshot captured from
+     * a container. Every drift is a gap in the offline parser; the comparison is written
+     * to {@code <outputDir>/fidelity/<label>/} for inspection.
+     */
+    private void verifyOffline(SchemaSnapshot containerSnapshot, Path sqlPath, String label, Path outputDir,
+                               PerformanceRecorder recorder) {
+        SchemaSnapshot offlineSnapshot = captureOffline(sqlPath, label, recorder);
+        ComplianceReport fidelity = diffEngine.compare(containerSnapshot, offlineSnapshot);
+
+        int drifts = fidelity.getDriftItems().size();
+        if (drifts == 0) {
+            LOG.info("   ✓ {} offline snapshot matches the container snapshot", label);
+        } else {
+            LOG.warn("   ⚠️  {} offline snapshot differs from the container snapshot: {} drift(s)", label, drifts);
+        }
+
+        try {
+            Path fidelityDir = outputDir.resolve("fidelity").resolve(label.replaceAll("[^A-Za-z0-9._-]", "_"));
+            Path reportPath = reportGenerator.writeJsonReport(fidelity, fidelityDir);
+            LOG.info("   Fidelity report: {}", reportPath);
+        } catch (IOException e) {
+            LOG.warn("   Failed to write fidelity report for {}: {}", label, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the recorded timings as a Prometheus text file, if one is configured.
+     */
+    void writeMetrics(PerformanceRecorder recorder) {
+        if (metricsFile == null) {
+            return;
+        }
+        try {
+            recorder.writePrometheus(metricsFile);
+        } catch (IOException e) {
+            LOG.warn("   Failed to write metrics file {}: {}", metricsFile, e.getMessage());
+        }
+    }
+
     private void cleanup(JdbcDatabaseContainer<?> container) {
         if (container != null && container.isRunning()) {
             try {
@@ -141,6 +699,15 @@ public class ComplianceOrchestrator {
         }
     }
 
+    /**
+     * Result of checking a single user dump.
+     */
+    public record CheckResult(
+            ComplianceReport report,
+            Path reportPath,
+            PerformanceRecorder performance
+    ) {}
+
     /**
      * Internal record to hold container and its captured snapshot together.
      */
@@ -148,4 +715,12 @@ public class ComplianceOrchestrator {
             JdbcDatabaseContainer<? > container,
             SchemaSnapshot snapshot
     ) {}
+
+    /**
+     * Internal record for the standard and user results of one check.
+     */
+    private record CapturedSchemas(
+            ContainerWithSnapshot standard,
+            ContainerWithSnapshot user
+    ) {}
 }
\ No newline at end of file
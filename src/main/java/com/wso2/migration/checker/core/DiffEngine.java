@@ -1,33 +1,93 @@
 package com.wso2.migration. checker.core;
 
 import com. wso2.migration.checker. model.*;
+import com.wso2.migration.checker.metrics.jfr.DiffCategoryEvent;
 import com.wso2.migration.checker.report.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serial;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
 
 /**
  * Core engine for detecting schema differences between standard and user snapshots.
+ *
+ * <p>Only what the fingerprints of {@link IndexedSnapshot} tell apart is compared:
+ * categories and tables with equal fingerprints on both sides are skipped, so the cost
+ * follows the number of drifted objects rather than the size of the schema.
+ *
+ * <p>Given a {@link ForkJoinPool} the engine compares the object categories
+ * concurrently and the tables in chunks. Drifts are merged in the sequential order, so
+ * both modes produce the same report.
  */
 public class DiffEngine {
 
     private static final Logger LOG = LoggerFactory.getLogger(DiffEngine.class);
 
+    /** Tables compared by one fork-join task. */
+    static final int TABLE_CHUNK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a sequential engine.
+     */
+    public DiffEngine() {
+        this(null);
+    }
+
+    /**
+     * Creates an engine comparing in parallel on the given pool, sequential when null.
+     */
+    public DiffEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
     /**
      * Compares two schema snapshots and generates a compliance report.
      */
     public ComplianceReport compare(SchemaSnapshot standard, SchemaSnapshot user) {
+        return compare(IndexedSnapshot.of(standard), IndexedSnapshot.of(user));
+    }
+
+    /**
+     * Compares two indexed snapshots and generates a compliance report. Drifts are
+     * reported in the order the objects were captured.
+     */
+    public ComplianceReport compare(IndexedSnapshot standard, IndexedSnapshot user) {
         LOG.info("⚖️  Starting schema comparison...");
 
-        ComplianceReport report = new ComplianceReport(standard, user);
+        ComplianceReport report = new ComplianceReport(standard.snapshot(), user.snapshot());
+        if (standard.sameAs(user)) {
+            LOG.info("   Snapshot fingerprints match ({})", standard.fingerprint());
+        }
 
         // Compare all schema objects
-        report.addAllDrifts(compareTables(standard, user));
-        report.addAllDrifts(compareRoutines(standard, user));
-        report.addAllDrifts(compareTriggers(standard, user));
-        report.addAllDrifts(compareSequences(standard, user));
-        report.addAllDrifts(compareViews(standard, user));
+        SnapshotFingerprint std = standard.fingerprint();
+        SnapshotFingerprint usr = user.fingerprint();
+        List<ForkJoinTask<List<DriftItem>>> categories = List.of(
+                category(() -> compareCategory("Tables", standard.tables().size(), user.tables().size(),
+                        std.tables() == usr.tables(), standard, user, this::compareTables)),
+                category(() -> compareCategory("Routines", standard.routines().size(), user.routines().size(),
+                        std.routines() == usr.routines(), standard, user, this::compareRoutines)),
+                category(() -> compareCategory("Triggers", standard.triggers().size(), user.triggers().size(),
+                        std.triggers() == usr.triggers(), standard, user, this::compareTriggers)),
+                category(() -> compareCategory("Sequences", standard.sequences().size(), user.sequences().size(),
+                        std.sequences() == usr.sequences(), standard, user, this::compareSequences)),
+                category(() -> compareCategory("Views", standard.views().size(), user.views().size(),
+                        std.views() == usr.views(), standard, user, this::compareViews)));
+
+        if (pool != null) {
+            categories.forEach(pool::execute);
+        }
+        for (ForkJoinTask<List<DriftItem>> category : categories) {
+            report.addAllDrifts(pool != null ? category.join() : category.invoke());
+        }
 
         report.calculateSummary();
 
@@ -36,28 +96,51 @@ public class DiffEngine {
         return report;
     }
 
+    /**
+     * Wraps a category comparison as a task; typed as a Callable to pick the right adapt overload.
+     */
+    private static ForkJoinTask<List<DriftItem>> category(Callable<List<DriftItem>> comparison) {
+        return ForkJoinTask.adapt(comparison);
+    }
+
+    /**
+     * Runs the comparison of one object category inside a JFR event, skipping it when
+     * the category's fingerprints match.
+     */
+    private List<DriftItem> compareCategory(String category, int standardObjects, int userObjects,
+                                            boolean fingerprintsMatch,
+                                            IndexedSnapshot standard, IndexedSnapshot user,
+                                            BiFunction<IndexedSnapshot, IndexedSnapshot, List<DriftItem>> comparison) {
+        DiffCategoryEvent event = new DiffCategoryEvent(category, standardObjects, userObjects);
+        event.begin();
+        try {
+            List<DriftItem> drifts = fingerprintsMatch ? List.of() : comparison.apply(standard, user);
+            event.setSkipped(fingerprintsMatch);
+            event.setDrifts(drifts.size());
+            return drifts;
+        } finally {
+            event.commit();
+        }
+    }
+
     /**
      * Compares tables between standard and user schemas.
      */
-    private List<DriftItem> compareTables(SchemaSnapshot standard, SchemaSnapshot user) {
+    private List<DriftItem> compareTables(IndexedSnapshot standard, IndexedSnapshot user) {
         List<DriftItem> drifts = new ArrayList<>();
 
-        Map<String, TableInfo> stdTables = standard.tableMap();
-        Map<String, TableInfo> userTables = user. tableMap();
+        NameIndex<IndexedTable> stdTables = standard.tables();
+        NameIndex<IndexedTable> userTables = user.tables();
 
-        // Find missing tables in user schema
-        for (String tableName : stdTables.keySet()) {
-            if (!userTables.containsKey(tableName)) {
-                drifts.add(DriftItem.missing("Tables", "Table", tableName, DriftSeverity.CRITICAL));
-            } else {
-                // Table exists - compare structure
-                drifts.addAll(compareTableStructure(stdTables.get(tableName), userTables.get(tableName)));
-            }
+        if (pool != null && stdTables.size() > TABLE_CHUNK_SIZE) {
+            drifts.addAll(new TableChunk(stdTables, userTables, 0, stdTables.size()).invoke());
+        } else {
+            drifts.addAll(compareTables(stdTables, userTables, 0, stdTables.size()));
         }
 
         // Find extra tables in user schema
-        for (String tableName : userTables. keySet()) {
-            if (! stdTables.containsKey(tableName)) {
+        for (String tableName : userTables.keys()) {
+            if (!stdTables.contains(tableName)) {
                 drifts.add(DriftItem. extra("Tables", "Table", tableName, DriftSeverity. LOW));
             }
         }
@@ -65,18 +148,76 @@ public class DiffEngine {
         return drifts;
     }
 
+    /**
+     * Compares the standard tables from index {@code from} to {@code to} with the user's.
+     */
+    private List<DriftItem> compareTables(NameIndex<IndexedTable> stdTables, NameIndex<IndexedTable> userTables,
+                                          int from, int to) {
+        List<DriftItem> drifts = new ArrayList<>();
+        List<String> tableNames = stdTables.keys();
+
+        for (String tableName : tableNames.subList(from, to)) {
+            IndexedTable stdTable = stdTables.get(tableName);
+            IndexedTable userTable = userTables.get(tableName);
+
+            if (userTable == null) {
+                drifts.add(DriftItem.missing("Tables", "Table", tableName, DriftSeverity.CRITICAL));
+            } else if (stdTable.fingerprint() != userTable.fingerprint()) {
+                // Table exists and differs - compare structure
+                drifts.addAll(compareTableStructure(stdTable, userTable));
+            }
+        }
+
+        return drifts;
+    }
+
+    /**
+     * Compares a range of tables, split in halves down to {@link #TABLE_CHUNK_SIZE}.
+     * The drifts of the left half come first, as in a sequential comparison.
+     */
+    private final class TableChunk extends RecursiveTask<List<DriftItem>> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final NameIndex<IndexedTable> stdTables;
+        private final NameIndex<IndexedTable> userTables;
+        private final int from;
+        private final int to;
+
+        TableChunk(NameIndex<IndexedTable> stdTables, NameIndex<IndexedTable> userTables, int from, int to) {
+            this.stdTables = stdTables;
+            this.userTables = userTables;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<DriftItem> compute() {
+            if (to - from <= TABLE_CHUNK_SIZE) {
+                return compareTables(stdTables, userTables, from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            TableChunk right = new TableChunk(stdTables, userTables, middle, to);
+            right.fork();
+            List<DriftItem> drifts = new TableChunk(stdTables, userTables, from, middle).compute();
+            drifts.addAll(right.join());
+            return drifts;
+        }
+    }
+
     /**
      * Compares structure of two tables.
      */
-    private List<DriftItem> compareTableStructure(TableInfo stdTable, TableInfo userTable) {
+    private List<DriftItem> compareTableStructure(IndexedTable stdTable, IndexedTable userTable) {
         List<DriftItem> drifts = new ArrayList<>();
         String tableName = stdTable.name();
 
-        Map<String, ColumnInfo> stdColumns = stdTable.columnMap();
-        Map<String, ColumnInfo> userColumns = userTable.columnMap();
+        NameIndex<ColumnInfo> stdColumns = stdTable.columns();
+        NameIndex<ColumnInfo> userColumns = userTable.columns();
 
         // Compare columns
-        for (String colName : stdColumns.keySet()) {
+        for (String colName : stdColumns.keys()) {
             ColumnInfo stdCol = stdColumns. get(colName);
             ColumnInfo userCol = userColumns. get(colName);
 
@@ -90,8 +231,8 @@ public class DiffEngine {
         }
 
         // Find extra columns
-        for (String colName : userColumns.keySet()) {
-            if (!stdColumns.containsKey(colName)) {
+        for (String colName : userColumns.keys()) {
+            if (!stdColumns.contains(colName)) {
                 drifts.add(DriftItem.extra("Columns", "Column",
                         tableName + "." + colName, DriftSeverity. MEDIUM));
             }
@@ -114,7 +255,7 @@ public class DiffEngine {
         String colPath = tableName + "." + stdCol.name();
 
         // Data type comparison (normalized)
-        if (!stdCol. normalizedSignature().equals(userCol.normalizedSignature())) {
+        if (!stdCol.signature().equals(userCol.signature())) {
             // Check specific differences
             if (! normalizeDataType(stdCol.dataType()).equals(normalizeDataType(userCol.dataType()))) {
                 drifts.add(DriftItem.modified("Columns", "Column Data Type", colPath,
@@ -170,27 +311,20 @@ public class DiffEngine {
     /**
      * Compares indexes between standard and user tables.
      */
-    private List<DriftItem> compareIndexes(String tableName, List<IndexInfo> stdIndexes, List<IndexInfo> userIndexes) {
+    private List<DriftItem> compareIndexes(String tableName, NameIndex<IndexInfo> stdMap,
+                                           NameIndex<IndexInfo> userMap) {
         List<DriftItem> drifts = new ArrayList<>();
 
-        Map<String, IndexInfo> stdMap = stdIndexes.stream()
-                .collect(java.util.stream.Collectors. toMap(
-                        IndexInfo::normalizedSignature, i -> i, (a, b) -> a));
-
-        Map<String, IndexInfo> userMap = userIndexes.stream()
-                .collect(java. util.stream.Collectors.toMap(
-                        IndexInfo::normalizedSignature, i -> i, (a, b) -> a));
-
-        for (String sig : stdMap.keySet()) {
-            if (!userMap.containsKey(sig)) {
+        for (String sig : stdMap.keys()) {
+            if (!userMap.contains(sig)) {
                 IndexInfo idx = stdMap.get(sig);
                 drifts.add(DriftItem.missing("Indexes", "Index",
                         tableName + "." + idx.name(), DriftSeverity.MEDIUM));
             }
         }
 
-        for (String sig : userMap.keySet()) {
-            if (!stdMap. containsKey(sig)) {
+        for (String sig : userMap.keys()) {
+            if (!stdMap.contains(sig)) {
                 IndexInfo idx = userMap. get(sig);
                 drifts.add(DriftItem. extra("Indexes", "Index",
                         tableName + "." + idx.name(), DriftSeverity.LOW));
@@ -204,20 +338,12 @@ public class DiffEngine {
      * Compares constraints between standard and user tables.
      */
     private List<DriftItem> compareConstraints(String tableName,
-                                               List<ConstraintInfo> stdConstraints,
-                                               List<ConstraintInfo> userConstraints) {
+                                               NameIndex<ConstraintInfo> stdMap,
+                                               NameIndex<ConstraintInfo> userMap) {
         List<DriftItem> drifts = new ArrayList<>();
 
-        Map<String, ConstraintInfo> stdMap = stdConstraints.stream()
-                .collect(java. util.stream.Collectors.toMap(
-                        ConstraintInfo::normalizedSignature, c -> c, (a, b) -> a));
-
-        Map<String, ConstraintInfo> userMap = userConstraints.stream()
-                .collect(java. util.stream.Collectors.toMap(
-                        ConstraintInfo::normalizedSignature, c -> c, (a, b) -> a));
-
-        for (String sig : stdMap.keySet()) {
-            if (!userMap.containsKey(sig)) {
+        for (String sig : stdMap.keys()) {
+            if (!userMap.contains(sig)) {
                 ConstraintInfo con = stdMap.get(sig);
                 DriftSeverity severity = con. type() == ConstraintInfo. ConstraintType.FOREIGN_KEY
                         ? DriftSeverity.HIGH : DriftSeverity. CRITICAL;
@@ -232,13 +358,13 @@ public class DiffEngine {
     /**
      * Compares stored routines (procedures, functions, packages).
      */
-    private List<DriftItem> compareRoutines(SchemaSnapshot standard, SchemaSnapshot user) {
+    private List<DriftItem> compareRoutines(IndexedSnapshot standard, IndexedSnapshot user) {
         List<DriftItem> drifts = new ArrayList<>();
 
-        Map<String, RoutineInfo> stdRoutines = standard.routineMap();
-        Map<String, RoutineInfo> userRoutines = user. routineMap();
+        NameIndex<RoutineInfo> stdRoutines = standard.routines();
+        NameIndex<RoutineInfo> userRoutines = user.routines();
 
-        for (String name : stdRoutines.keySet()) {
+        for (String name : stdRoutines.keys()) {
             RoutineInfo stdRoutine = stdRoutines.get(name);
             RoutineInfo userRoutine = userRoutines. get(name);
 
@@ -247,7 +373,7 @@ public class DiffEngine {
                         name, DriftSeverity.CRITICAL));
             } else {
                 // Compare signature
-                if (!stdRoutine. normalizedSignature().equals(userRoutine.normalizedSignature())) {
+                if (!stdRoutine.signature().equals(userRoutine.signature())) {
                     drifts. add(DriftItem.modified("Routines", stdRoutine. type().name(), name,
                             DriftSeverity.HIGH,
                             stdRoutine.normalizedSignature(),
@@ -268,8 +394,8 @@ public class DiffEngine {
             }
         }
 
-        for (String name : userRoutines. keySet()) {
-            if (! stdRoutines.containsKey(name)) {
+        for (String name : userRoutines.keys()) {
+            if (!stdRoutines.contains(name)) {
                 RoutineInfo routine = userRoutines.get(name);
                 drifts.add(DriftItem.extra("Routines", routine.type().name(),
                         name, DriftSeverity.LOW));
@@ -282,20 +408,20 @@ public class DiffEngine {
     /**
      * Compares triggers.
      */
-    private List<DriftItem> compareTriggers(SchemaSnapshot standard, SchemaSnapshot user) {
+    private List<DriftItem> compareTriggers(IndexedSnapshot standard, IndexedSnapshot user) {
         List<DriftItem> drifts = new ArrayList<>();
 
-        Map<String, TriggerInfo> stdTriggers = standard.triggerMap();
-        Map<String, TriggerInfo> userTriggers = user.triggerMap();
+        NameIndex<TriggerInfo> stdTriggers = standard.triggers();
+        NameIndex<TriggerInfo> userTriggers = user.triggers();
 
-        for (String name : stdTriggers.keySet()) {
+        for (String name : stdTriggers.keys()) {
             TriggerInfo stdTrigger = stdTriggers.get(name);
             TriggerInfo userTrigger = userTriggers.get(name);
 
             if (userTrigger == null) {
                 drifts.add(DriftItem.missing("Triggers", "Trigger", name, DriftSeverity. HIGH));
             } else {
-                if (!stdTrigger.normalizedSignature().equals(userTrigger.normalizedSignature())) {
+                if (!stdTrigger.signature().equals(userTrigger.signature())) {
                     drifts. add(DriftItem.modified("Triggers", "Trigger", name,
                             DriftSeverity.HIGH,
                             stdTrigger. normalizedSignature(),
@@ -313,8 +439,8 @@ public class DiffEngine {
             }
         }
 
-        for (String name :  userTriggers.keySet()) {
-            if (!stdTriggers.containsKey(name)) {
+        for (String name : userTriggers.keys()) {
+            if (!stdTriggers.contains(name)) {
                 drifts.add(DriftItem.extra("Triggers", "Trigger", name, DriftSeverity.LOW));
             }
         }
@@ -325,20 +451,20 @@ public class DiffEngine {
     /**
      * Compares sequences.
      */
-    private List<DriftItem> compareSequences(SchemaSnapshot standard, SchemaSnapshot user) {
+    private List<DriftItem> compareSequences(IndexedSnapshot standard, IndexedSnapshot user) {
         List<DriftItem> drifts = new ArrayList<>();
 
-        Map<String, SequenceInfo> stdSequences = standard.sequenceMap();
-        Map<String, SequenceInfo> userSequences = user.sequenceMap();
+        NameIndex<SequenceInfo> stdSequences = standard.sequences();
+        NameIndex<SequenceInfo> userSequences = user.sequences();
 
-        for (String name : stdSequences.keySet()) {
+        for (String name : stdSequences.keys()) {
             SequenceInfo stdSeq = stdSequences.get(name);
 
-            if (! userSequences.containsKey(name)) {
+            if (!userSequences.contains(name)) {
                 drifts.add(DriftItem.missing("Sequences", "Sequence", name, DriftSeverity. HIGH));
             } else {
                 SequenceInfo userSeq = userSequences.get(name);
-                if (!stdSeq.normalizedSignature().equals(userSeq.normalizedSignature())) {
+                if (!stdSeq.signature().equals(userSeq.signature())) {
                     drifts.add(DriftItem.modified("Sequences", "Sequence", name,
                             DriftSeverity. MEDIUM,
                             stdSeq.normalizedSignature(),
@@ -348,8 +474,8 @@ public class DiffEngine {
             }
         }
 
-        for (String name :  userSequences.keySet()) {
-            if (!stdSequences. containsKey(name)) {
+        for (String name : userSequences.keys()) {
+            if (!stdSequences.contains(name)) {
                 drifts.add(DriftItem.extra("Sequences", "Sequence", name, DriftSeverity.LOW));
             }
         }
@@ -360,21 +486,16 @@ public class DiffEngine {
     /**
      * Compares views.
      */
-    private List<DriftItem> compareViews(SchemaSnapshot standard, SchemaSnapshot user) {
+    private List<DriftItem> compareViews(IndexedSnapshot standard, IndexedSnapshot user) {
         List<DriftItem> drifts = new ArrayList<>();
 
-        Map<String, ViewInfo> stdViews = standard. views().stream()
-                .collect(java.util.stream.Collectors. toMap(
-                        v -> v.name().toUpperCase(), v -> v, (a, b) -> a));
-
-        Map<String, ViewInfo> userViews = user.views().stream()
-                .collect(java. util.stream.Collectors.toMap(
-                        v -> v. name().toUpperCase(), v -> v, (a, b) -> a));
+        NameIndex<ViewInfo> stdViews = standard.views();
+        NameIndex<ViewInfo> userViews = user.views();
 
-        for (String name : stdViews.keySet()) {
+        for (String name : stdViews.keys()) {
             ViewInfo stdView = stdViews.get(name);
 
-            if (!userViews.containsKey(name)) {
+            if (!userViews.contains(name)) {
                 drifts.add(DriftItem.missing("Views", "View", name, DriftSeverity. MEDIUM));
             } else {
                 ViewInfo userView = userViews.get(name);
@@ -388,8 +509,8 @@ public class DiffEngine {
             }
         }
 
-        for (String name : userViews.keySet()) {
-            if (!stdViews.containsKey(name)) {
+        for (String name : userViews.keys()) {
+            if (!stdViews.contains(name)) {
                 drifts.add(DriftItem.extra("Views", "View", name, DriftSeverity.LOW));
             }
         }
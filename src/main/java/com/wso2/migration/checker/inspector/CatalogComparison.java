@@ -0,0 +1,109 @@
+package com.wso2.migration.checker.inspector;
+
+import com.wso2.migration.checker.model.ColumnInfo;
+import com.wso2.migration.checker.model.ConstraintInfo;
+import com.wso2.migration.checker.model.IndexInfo;
+import com.wso2.migration.checker.model.TableInfo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the tables read by SchemaCrawler with the ones read by the native catalog
+ * reader, on everything the diff engine reads: columns with their type, size, scale,
+ * nullability and key flags, index signatures and constraint signatures.
+ */
+final class CatalogComparison {
+
+    private CatalogComparison() {
+        // Utility class
+    }
+
+    /**
+     * Returns one line per difference, empty when both readers agree.
+     */
+    static List<String> differences(List<TableInfo> crawled, List<TableInfo> read) {
+        List<String> differences = new ArrayList<>();
+        Map<String, TableInfo> readTables = byName(read, TableInfo::name);
+
+        for (TableInfo expected : crawled) {
+            TableInfo actual = readTables.remove(expected.name().toUpperCase());
+            if (actual == null) {
+                differences.add("table " + expected.name() + ": missing");
+                continue;
+            }
+            compareColumns(expected, actual, differences);
+            compareSignatures(expected.name(), "index",
+                    signatures(expected.indexes(), IndexInfo::normalizedSignature),
+                    signatures(actual.indexes(), IndexInfo::normalizedSignature), differences);
+            compareSignatures(expected.name(), "constraint",
+                    signatures(expected.constraints(), ConstraintInfo::normalizedSignature),
+                    signatures(actual.constraints(), ConstraintInfo::normalizedSignature), differences);
+        }
+        readTables.values().forEach(extra -> differences.add("table " + extra.name() + ": extra"));
+
+        return differences;
+    }
+
+    private static void compareColumns(TableInfo expected, TableInfo actual, List<String> differences) {
+        Map<String, ColumnInfo> readColumns = byName(actual.columns(), ColumnInfo::name);
+
+        for (ColumnInfo column : expected.columns()) {
+            String path = expected.name() + "." + column.name();
+            ColumnInfo other = readColumns.remove(column.name().toUpperCase());
+            if (other == null) {
+                differences.add("column " + path + ": missing");
+                continue;
+            }
+            String crawledColumn = describe(column);
+            String readColumn = describe(other);
+            if (!crawledColumn.equals(readColumn)) {
+                differences.add("column " + path + ": " + crawledColumn + " vs " + readColumn);
+            }
+        }
+        readColumns.values().forEach(extra ->
+                differences.add("column " + expected.name() + "." + extra.name() + ": extra"));
+    }
+
+    private static String describe(ColumnInfo column) {
+        return String.format("%s(%d,%d)%s%s%s%s",
+                column.dataType(), column.size(), column.scale(),
+                column.nullable() ? "" : " NOT NULL",
+                column.isPrimaryKey() ? " PK" : "",
+                column.isForeignKey() ? " FK" : "",
+                column.isAutoIncrement() ? " AUTO_INCREMENT" : "");
+    }
+
+    private static void compareSignatures(String table, String kind, Set<String> crawled, Set<String> read,
+                                          List<String> differences) {
+        if (Objects.equals(crawled, read)) return;
+
+        for (String signature : crawled) {
+            if (!read.contains(signature)) {
+                differences.add(kind + " " + table + ": missing " + signature);
+            }
+        }
+        for (String signature : read) {
+            if (!crawled.contains(signature)) {
+                differences.add(kind + " " + table + ": extra " + signature);
+            }
+        }
+    }
+
+    private static <T> Set<String> signatures(List<T> items, Function<T, String> signature) {
+        return items.stream().map(signature).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static <T> Map<String, T> byName(List<T> items, Function<T, String> name) {
+        Map<String, T> result = new LinkedHashMap<>();
+        items.forEach(item -> result.put(name.apply(item).toUpperCase(), item));
+        return result;
+    }
+}
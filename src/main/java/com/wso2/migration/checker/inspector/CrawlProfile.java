@@ -0,0 +1,145 @@
+package com.wso2.migration.checker.inspector;
+
+import com.wso2.migration.checker.config.AppConfig;
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.model.SchemaSnapshot;
+import schemacrawler.inclusionrule.ExcludeAll;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * What a snapshot captures. The SchemaCrawler crawl is limited to what the diff engine
+ * reads from tables (columns with their types, primary keys, foreign keys and indexes);
+ * views, routines, triggers and sequences come from the dialect queries, which run
+ * only for the object types enabled in the configuration.
+ *
+ * @param views     Whether views are captured
+ * @param triggers  Whether triggers are captured
+ * @param sequences Whether sequences are captured
+ * @param crawler   How tables are read: SchemaCrawler, the dialect's catalog queries, or both
+ */
+public record CrawlProfile(boolean views, boolean triggers, boolean sequences, CrawlerType crawler) {
+
+    /** Captures every object type. */
+    public static final CrawlProfile FULL = new CrawlProfile(true, true, true, CrawlerType.SCHEMACRAWLER);
+
+    public static CrawlProfile from(AppConfig config) {
+        return new CrawlProfile(config.isIncludeViews(), config.isIncludeTriggers(), config.isIncludeSequences(),
+                config.getCrawlerType());
+    }
+
+    /**
+     * Creates the SchemaCrawler options for a crawl of the given schemas.
+     *
+     * @param schemaScope Regular expression for the schemas to crawl, or null for all schemas
+     */
+    public SchemaCrawlerOptions crawlerOptions(DatabaseType databaseType, String schemaScope) {
+        return crawlerOptions(databaseType, schemaScope, null);
+    }
+
+    /**
+     * Creates the SchemaCrawler options for a crawl of some tables of the given schemas.
+     *
+     * @param schemaScope Regular expression for the schemas to crawl, or null for all schemas
+     * @param tableNames  Names of the tables to crawl, or null for all tables
+     */
+    public SchemaCrawlerOptions crawlerOptions(DatabaseType databaseType, String schemaScope,
+                                               Collection<String> tableNames) {
+        // Table rules match the full name, qualified and quoted where needed
+        String tablePattern = tableNames == null ? ".*"
+                : tableNames.stream().map(Pattern::quote).collect(Collectors.joining("|", ".*\\.\"?(", ")\"?"));
+        LimitOptions limitOptions = LimitOptionsBuilder.builder()
+                .includeSchemas(new RegularExpressionInclusionRule(schemaScope != null ? schemaScope : ".*"))
+                .includeTables(new RegularExpressionInclusionRule(tablePattern))
+                .includeRoutines(new ExcludeAll())
+                .includeSequences(new ExcludeAll())
+                .includeSynonyms(new ExcludeAll())
+                .tableTypes("TABLE")
+                .toOptions();
+
+        LoadOptions loadOptions = LoadOptionsBuilder.builder()
+                .withSchemaInfoLevel(schemaInfoLevel(databaseType))
+                .toOptions();
+
+        return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+                .withLimitOptions(limitOptions)
+                .withLoadOptions(loadOptions);
+    }
+
+    /**
+     * Returns the snapshot without the object types this profile leaves out, so snapshots
+     * parsed offline match the ones captured over JDBC.
+     */
+    public SchemaSnapshot restrict(SchemaSnapshot snapshot) {
+        return new SchemaSnapshot(
+                snapshot.databaseName(),
+                snapshot.databaseType(),
+                snapshot.schemaName(),
+                snapshot.capturedAt(),
+                snapshot.tables(),
+                views ? snapshot.views() : List.of(),
+                snapshot.routines(),
+                triggers ? snapshot.triggers() : List.of(),
+                sequences ? snapshot.sequences() : List.of(),
+                snapshot.metadata(),
+                snapshot.ddlMarkers() != null ? snapshot.ddlMarkers().restrict(views, triggers, sequences) : null
+        );
+    }
+
+    /**
+     * Identifies the profile in snapshot cache keys.
+     */
+    public String cacheKey() {
+        return "views=" + views + ",triggers=" + triggers + ",sequences=" + sequences
+                + ",crawler=" + crawler.getCode();
+    }
+
+    private static SchemaInfoLevel schemaInfoLevel(DatabaseType databaseType) {
+        return SchemaInfoLevelBuilder.builder()
+                .withTag("compliance")
+                .setRetrieveTables(true)
+                .setRetrieveTableColumns(true)
+                .setRetrieveColumnDataTypes(true)
+                .setRetrievePrimaryKeys(true)
+                .setRetrieveForeignKeys(true)
+                .setRetrieveIndexes(true)
+                // TableInfo.engine, reported for MySQL only
+                .setRetrieveAdditionalTableAttributes(databaseType == DatabaseType.MYSQL)
+                .setRetrieveAdditionalColumnAttributes(false)
+                .setRetrieveAdditionalColumnMetadata(false)
+                .setRetrieveAdditionalDatabaseInfo(false)
+                .setRetrieveAdditionalJdbcDriverInfo(false)
+                .setRetrieveDatabaseInfo(false)
+                .setRetrieveDatabaseUsers(false)
+                .setRetrieveIndexInformation(false)
+                .setRetrieveRoutines(false)
+                .setRetrieveRoutineInformation(false)
+                .setRetrieveRoutineParameters(false)
+                .setRetrieveSequenceInformation(false)
+                .setRetrieveServerInfo(false)
+                .setRetrieveSynonymInformation(false)
+                .setRetrieveTableColumnPrivileges(false)
+                .setRetrieveTableConstraints(false)
+                .setRetrieveTableConstraintDefinitions(false)
+                .setRetrieveTableConstraintInformation(false)
+                .setRetrieveTableDefinitionsInformation(false)
+                .setRetrieveTablePrivileges(false)
+                .setRetrieveTriggerInformation(false)
+                .setRetrieveUserDefinedColumnDataTypes(false)
+                .setRetrieveViewInformation(false)
+                .setRetrieveViewViewTableUsage(false)
+                .toOptions();
+    }
+}
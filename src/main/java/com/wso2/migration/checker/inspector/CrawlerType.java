@@ -0,0 +1,30 @@
+package com.wso2.migration.checker.inspector;
+
+/**
+ * How tables, columns, indexes and constraints are read from a live database.
+ */
+public enum CrawlerType {
+    /** Crawl the catalog with SchemaCrawler through the JDBC metadata API. */
+    SCHEMACRAWLER("schemacrawler"),
+    /** Read the catalog with the dialect's set-based catalog queries. */
+    NATIVE("native"),
+    /** Read with both, keep the SchemaCrawler tables and report any difference between the two. */
+    VERIFY("verify");
+
+    private final String code;
+
+    CrawlerType(String code) {
+        this.code = code;
+    }
+
+    public String getCode() { return code; }
+
+    public static CrawlerType fromCode(String code) {
+        for (CrawlerType crawler : values()) {
+            if (crawler.code.equalsIgnoreCase(code)) {
+                return crawler;
+            }
+        }
+        throw new IllegalArgumentException("Unknown crawler: " + code);
+    }
+}
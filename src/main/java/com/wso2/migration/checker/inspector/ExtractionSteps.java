@@ -0,0 +1,94 @@
+package com.wso2.migration.checker.inspector;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the extraction steps of one snapshot concurrently, each on its own virtual thread.
+ * When a step fails, the steps still running are cancelled and {@link #join()} rethrows
+ * the first failure.
+ */
+final class ExtractionSteps implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Future<?>> steps = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Starts a step.
+     */
+    <T> Future<T> fork(Callable<T> step) {
+        FutureTask<T> task = new FutureTask<>(step) {
+            @Override
+            protected void done() {
+                if (!isCancelled()) {
+                    try {
+                        get();
+                    } catch (ExecutionException e) {
+                        fail(e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        steps.add(task);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Waits for every step to finish.
+     *
+     * @throws Exception the failure of the first step that failed
+     */
+    void join() throws Exception {
+        try {
+            for (Future<?> step : steps) {
+                try {
+                    step.get();
+                } catch (ExecutionException e) {
+                    fail(e.getCause());
+                    break;
+                } catch (CancellationException e) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            fail(e);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof Exception exception) {
+            throw exception;
+        }
+        if (cause != null) {
+            throw new IllegalStateException("Extraction step failed", cause);
+        }
+    }
+
+    private void fail(Throwable cause) {
+        if (failure.compareAndSet(null, cause)) {
+            steps.forEach(step -> step.cancel(true));
+        }
+    }
+
+    /**
+     * Waits for the remaining steps to stop. Close the connections they use first, so
+     * cancelled steps blocked in a query return promptly.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,30 @@
+package com.wso2.migration.checker.inspector;
+
+/**
+ * How schema snapshots are captured from SQL dumps.
+ */
+public enum InspectionEngine {
+    /** Load the dump into a database container and inspect it over JDBC. */
+    CONTAINER("container"),
+    /** Parse the DDL in the dump directly, without a database. */
+    OFFLINE("offline"),
+    /** Capture with containers and also parse offline, reporting any difference between the two. */
+    VERIFY("verify");
+
+    private final String code;
+
+    InspectionEngine(String code) {
+        this.code = code;
+    }
+
+    public String getCode() { return code; }
+
+    public static InspectionEngine fromCode(String code) {
+        for (InspectionEngine engine : values()) {
+            if (engine.code.equalsIgnoreCase(code)) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("Unknown inspection engine: " + code);
+    }
+}
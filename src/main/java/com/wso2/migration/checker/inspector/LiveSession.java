@@ -0,0 +1,90 @@
+package com.wso2.migration.checker.inspector;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session settings for inspecting a live database in place, so the checker neither
+ * changes it nor holds up its own workload: read-only connections, a timeout on every
+ * query, and the lowest priority the database offers. The settings are applied to
+ * every connection of a capture, including the SchemaCrawler crawl. A read-only
+ * database account is still recommended.
+ *
+ * @param queryTimeoutSeconds Longest a single query may run
+ */
+public record LiveSession(int queryTimeoutSeconds) {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LiveSession.class);
+
+    private static final String APPLICATION_NAME = "schema-compliance-checker";
+
+    /** How long to wait for a lock before giving up rather than queueing behind DDL. */
+    private static final int LOCK_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Driver properties of live connections, added to the ones of {@code CatalogFetch}.
+     */
+    Map<String, String> connectionProperties(DatabaseType databaseType) {
+        return switch (databaseType) {
+            case MYSQL -> Map.of("connectionAttributes", "program_name:" + APPLICATION_NAME);
+            case ORACLE -> Map.of("v$session.program", APPLICATION_NAME,
+                    "oracle.jdbc.ReadTimeout", String.valueOf(queryTimeoutSeconds * 1000L));
+            // Routed to a readable secondary replica where there is one
+            case MSSQL -> Map.of("applicationName", APPLICATION_NAME, "applicationIntent", "ReadOnly",
+                    "queryTimeout", String.valueOf(queryTimeoutSeconds));
+            case POSTGRESQL -> Map.of("ApplicationName", APPLICATION_NAME, "readOnly", "true");
+        };
+    }
+
+    /**
+     * Configures a new connection. Settings the account may not change, such as the
+     * Oracle consumer group, are skipped with a debug message.
+     */
+    void configure(Connection connection, DatabaseType databaseType) {
+        try {
+            connection.setReadOnly(true);
+        } catch (SQLException e) {
+            LOG.debug("   Could not make the connection read-only: {}", e.getMessage());
+        }
+        try {
+            connection.setNetworkTimeout(Runnable::run, queryTimeoutSeconds * 1000);
+        } catch (SQLException | UnsupportedOperationException e) {
+            LOG.warn("⚠️  Could not set a network timeout on the live connection: {}", e.getMessage());
+        }
+
+        for (String setting : sessionSettings(databaseType)) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute(setting);
+            } catch (SQLException e) {
+                LOG.debug("   Skipped session setting '{}': {}", setting, e.getMessage());
+            }
+        }
+    }
+
+    private List<String> sessionSettings(DatabaseType databaseType) {
+        long timeoutMillis = queryTimeoutSeconds * 1000L;
+        return switch (databaseType) {
+            case MYSQL -> List.of(
+                    "SET SESSION TRANSACTION READ ONLY",
+                    "SET SESSION MAX_EXECUTION_TIME = " + timeoutMillis,
+                    "SET SESSION lock_wait_timeout = " + LOCK_TIMEOUT_SECONDS);
+            case ORACLE -> List.of(
+                    "DECLARE previous VARCHAR2(128); "
+                            + "BEGIN DBMS_SESSION.SWITCH_CURRENT_CONSUMER_GROUP('LOW_GROUP', previous, FALSE); END;");
+            case MSSQL -> List.of(
+                    "SET DEADLOCK_PRIORITY LOW",
+                    "SET LOCK_TIMEOUT " + LOCK_TIMEOUT_SECONDS * 1000);
+            case POSTGRESQL -> List.of(
+                    "SET SESSION CHARACTERISTICS AS TRANSACTION READ ONLY",
+                    "SET statement_timeout = " + timeoutMillis,
+                    "SET lock_timeout = " + LOCK_TIMEOUT_SECONDS * 1000);
+        };
+    }
+}
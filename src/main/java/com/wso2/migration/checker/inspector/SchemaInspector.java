@@ -1,13 +1,16 @@
 package com.wso2.migration.checker.inspector;
 
+import com.wso2.migration.checker.config.LiveDatabase;
 import com.wso2.migration.checker.container.DatabaseType;
 import com.wso2.migration.checker.inspector.dialect.*;
+import com.wso2.migration.checker.metrics.PerformanceRecorder;
+import com.wso2.migration.checker.metrics.PerformanceRecorder.Span;
+import com.wso2.migration.checker.metrics.jfr.CatalogLoadEvent;
+import com.wso2.migration.checker.metrics.jfr.DialectQueryEvent;
 import com.wso2.migration.checker.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
 import schemacrawler.schema.*;
-import schemacrawler.schemacrawler.*;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
 import us.fatehi.utility.datasource.DatabaseConnectionSources;
 import us.fatehi.utility.datasource.UserCredentials;
@@ -18,12 +21,18 @@ import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * Inspects database schemas using SchemaCrawler and custom dialect queries.
  * Combines SchemaCrawler's table/column extraction with dialect-specific
- * stored logic extraction.
+ * stored logic extraction. With the native crawler, tables are read with the
+ * dialect's set-based catalog queries instead of SchemaCrawler.
  */
 public class SchemaInspector {
 
@@ -31,10 +40,43 @@ public class SchemaInspector {
 
     private final DatabaseType databaseType;
     private final DatabaseDialect dialect;
+    private final PerformanceRecorder recorder;
+    private final String label;
+    private final CrawlProfile profile;
+    private final CrawlerType crawler;
+    private final LiveSession liveSession;
 
     public SchemaInspector(DatabaseType databaseType) {
+        this(databaseType, new PerformanceRecorder(), "");
+    }
+
+    public SchemaInspector(DatabaseType databaseType, PerformanceRecorder recorder, String label) {
+        this(databaseType, recorder, label, CrawlProfile.FULL);
+    }
+
+    /**
+     * @param recorder receives the timings of the crawl and each dialect query
+     * @param label    label the timings are recorded under (STANDARD, USER)
+     * @param profile  object types to capture
+     */
+    public SchemaInspector(DatabaseType databaseType, PerformanceRecorder recorder, String label,
+                           CrawlProfile profile) {
+        this(databaseType, recorder, label, profile, null);
+    }
+
+    /**
+     * @param liveSession session settings for a database inspected in place, or null for
+     *                    the checker's own containers
+     */
+    public SchemaInspector(DatabaseType databaseType, PerformanceRecorder recorder, String label,
+                           CrawlProfile profile, LiveSession liveSession) {
         this.databaseType = databaseType;
         this.dialect = createDialect(databaseType);
+        this.recorder = recorder;
+        this.label = label;
+        this.profile = profile;
+        this.crawler = supportedCrawler(profile.crawler());
+        this.liveSession = liveSession;
     }
 
     private DatabaseDialect createDialect(DatabaseType type) {
@@ -42,28 +84,19 @@ public class SchemaInspector {
             case MYSQL -> new MySqlDialect();
             case ORACLE -> new OracleDialect();
             case MSSQL -> new MsSqlDialect();
-            case POSTGRESQL -> new MySqlDialect(); // PostgreSQL uses similar INFORMATION_SCHEMA
+            case POSTGRESQL -> new PostgreSqlDialect();
         };
     }
 
     /**
-     * Creates SchemaCrawler options for maximum schema extraction.
+     * Falls back to SchemaCrawler for databases without a native catalog reader.
      */
-    private SchemaCrawlerOptions createCrawlerOptions() {
-        LimitOptions limitOptions = LimitOptionsBuilder.builder()
-                .includeSchemas(new RegularExpressionInclusionRule(".*"))
-                .includeTables(new RegularExpressionInclusionRule(".*"))
-                .includeRoutines(new RegularExpressionInclusionRule(".*"))
-                .tableTypes("TABLE", "VIEW", "SYSTEM TABLE")
-                .toOptions();
-
-        LoadOptions loadOptions = LoadOptionsBuilder.builder()
-                .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
-                .toOptions();
-
-        return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-                .withLimitOptions(limitOptions)
-                .withLoadOptions(loadOptions);
+    private CrawlerType supportedCrawler(CrawlerType requested) {
+        if (requested != CrawlerType.SCHEMACRAWLER && !(dialect instanceof CatalogReader)) {
+            LOG.warn("⚠️  No native catalog reader for {}, crawling with SchemaCrawler", databaseType);
+            return CrawlerType.SCHEMACRAWLER;
+        }
+        return requested;
     }
 
     /**
@@ -75,69 +108,296 @@ public class SchemaInspector {
      * @return Complete schema snapshot
      */
     public SchemaSnapshot captureSnapshot(String jdbcUrl, String username, String password) {
-        LOG.info("📸 Capturing schema snapshot from: {}", jdbcUrl);
+        return captureSnapshot(jdbcUrl, username, password, null);
+    }
 
-        DatabaseConnectionSource dataSource = DatabaseConnectionSources.newDatabaseConnectionSource(jdbcUrl, new UserCredentials() {
-            @Override
-            public void clearPassword() {}
-            @Override
-            public String getPassword() { return password; }
-            @Override
-            public String getUser() { return username; }
-            @Override
-            public boolean hasPassword() { return password != null; }
-            @Override
-            public boolean hasUser() { return username != null; }
-        });
+    /**
+     * Captures a snapshot limited to the schemas matching the given scope. Used when
+     * one server hosts several databases and the connection can see all of them.
+     *
+     * @param jdbcUrl     JDBC connection URL
+     * @param username    Database username
+     * @param password    Database password
+     * @param schemaScope Regular expression for the schemas to crawl, or null for the
+     *                    connection's current schema
+     * @return Complete schema snapshot
+     */
+    public SchemaSnapshot captureSnapshot(String jdbcUrl, String username, String password, String schemaScope) {
+        return capture(jdbcUrl, username, password, schemaScope, false, null);
+    }
 
-        try (Connection connection = dataSource.get()) {
+    /**
+     * Captures a snapshot for re-checking the same database later, recording the DDL
+     * markers of its objects. Given the previous snapshot of this method, only tables
+     * whose markers changed or that were added are crawled again, dropped ones are
+     * left out, and views, routines, triggers and sequences are extracted again only
+     * when one of their markers changed; everything else is taken from the previous
+     * snapshot. Falls back to a full capture when the previous snapshot has no markers
+     * or is of another schema, and on databases without a marker query (PostgreSQL).
+     *
+     * @param schemaScope Regular expression for the schemas to crawl, or null for the
+     *                    connection's current schema
+     * @param previous    Earlier snapshot of the same schema, or null for a full capture
+     * @return Complete schema snapshot
+     */
+    public SchemaSnapshot captureIncremental(String jdbcUrl, String username, String password, String schemaScope,
+                                             SchemaSnapshot previous) {
+        return capture(jdbcUrl, username, password, schemaScope, true, previous);
+    }
+
+    private SchemaSnapshot capture(String jdbcUrl, String username, String password, String schemaScope,
+                                   boolean incremental, SchemaSnapshot previous) {
+        LOG.info("📸 Capturing schema snapshot from: {}", LiveDatabase.redact(jdbcUrl));
+
+        Span connectSpan = recorder.start("inspect.connect", label);
+        // Declared first so it closes last: closing the data source ends the queries of
+        // cancelled steps before the executor waits for them
+        try (ExtractionSteps steps = new ExtractionSteps();
+             DatabaseConnectionSource dataSource = createConnectionSource(jdbcUrl, username, password);
+             Connection connection = dataSource.get()) {
             // Get schema name
             String schemaName = dialect.getDefaultSchema(connection);
             LOG.info("   Schema: {}", schemaName);
-
-            // 1. Use SchemaCrawler for tables, columns, indexes, constraints
-            Catalog catalog = SchemaCrawlerUtility.getCatalog(dataSource, createCrawlerOptions());
-
-            List<TableInfo> tables = extractTables(catalog);
-            LOG.info("   ✓ Extracted {} tables", tables.size());
-
-            // 2. Use dialect-specific queries for stored logic
-            List<ViewInfo> views = dialect.extractViews(connection, schemaName);
-            LOG.info("   ✓ Extracted {} views", views.size());
-
-            List<RoutineInfo> routines = dialect.extractRoutines(connection, schemaName);
-            LOG.info("   ✓ Extracted {} routines", routines.size());
-
-            List<TriggerInfo> triggers = dialect.extractTriggers(connection, schemaName);
-            LOG.info("   ✓ Extracted {} triggers", triggers.size());
-
-            List<SequenceInfo> sequences = dialect.extractSequences(connection, schemaName);
-            LOG.info("   ✓ Extracted {} sequences", sequences.size());
+            connectSpan.close();
+
+            // Markers are read first, so objects changed during the capture count as
+            // changed on the next one
+            DdlMarkers markers = incremental ? readDdlMarkers(connection, schemaName) : null;
+            SnapshotDelta delta = SnapshotDelta.between(previous, markers, databaseType, schemaName);
+
+            // 1. Use SchemaCrawler or the native catalog reader for tables, columns, indexes, constraints
+            String crawlScope = schemaScope != null ? schemaScope : currentSchemaScope(connection, schemaName);
+            Future<List<TableInfo>> tables = steps.fork(() -> loadTables(dataSource, crawlScope, schemaName, delta));
+
+            // 2. Use dialect-specific queries for stored logic, each on its own connection
+            List<ViewInfo> unchangedViews = delta.unchanged(DdlMarkers::views, SchemaSnapshot::views);
+            List<RoutineInfo> unchangedRoutines = delta.unchanged(DdlMarkers::routines, SchemaSnapshot::routines);
+            List<TriggerInfo> unchangedTriggers = delta.unchanged(DdlMarkers::triggers, SchemaSnapshot::triggers);
+            List<SequenceInfo> unchangedSequences = delta.unchanged(DdlMarkers::sequences, SchemaSnapshot::sequences);
+            if (unchangedViews == null || unchangedRoutines == null || unchangedTriggers == null) {
+                recorder.record("inspect.prefetch", label, () -> {
+                    dialect.prefetch(connection, schemaName);
+                    return null;
+                });
+            }
+            Future<List<ViewInfo>> views = !profile.views() ? skipped() : forkUnlessUnchanged(steps, unchangedViews,
+                    () -> extract("views", dataSource, schemaName, dialect::extractViews));
+            Future<List<RoutineInfo>> routines = forkUnlessUnchanged(steps, unchangedRoutines,
+                    () -> extract("routines", dataSource, schemaName, dialect::extractRoutines));
+            Future<List<TriggerInfo>> triggers = !profile.triggers() ? skipped() : forkUnlessUnchanged(steps,
+                    unchangedTriggers, () -> extract("triggers", dataSource, schemaName, dialect::extractTriggers));
+            Future<List<SequenceInfo>> sequences = !profile.sequences() ? skipped() : forkUnlessUnchanged(steps,
+                    unchangedSequences, () -> extract("sequences", dataSource, schemaName, dialect::extractSequences));
+            steps.join();
+
+            LOG.info("   ✓ Extracted {} tables", tables.get().size());
+            LOG.info("   ✓ Extracted {} views", views.get().size());
+            LOG.info("   ✓ Extracted {} routines", routines.get().size());
+            LOG.info("   ✓ Extracted {} triggers", triggers.get().size());
+            LOG.info("   ✓ Extracted {} sequences", sequences.get().size());
 
             // Build metadata
             Map<String, String> metadata = new HashMap<>();
-            metadata.put("jdbcUrl", jdbcUrl);
+            metadata.put("jdbcUrl", LiveDatabase.redact(jdbcUrl));
             metadata.put("databaseProductName", connection.getMetaData().getDatabaseProductName());
             metadata.put("databaseProductVersion", connection.getMetaData().getDatabaseProductVersion());
             metadata.put("driverName", connection.getMetaData().getDriverName());
+            if (markers != null) {
+                metadata.put("capture", delta.full() ? "full" : "incremental");
+            }
 
             return new SchemaSnapshot(
                     connection.getMetaData().getDatabaseProductName(),
                     databaseType.getCode(),
                     schemaName,
                     Instant.now(),
-                    tables,
-                    views,
-                    routines,
-                    triggers,
-                    sequences,
-                    metadata
+                    tables.get(),
+                    views.get(),
+                    routines.get(),
+                    triggers.get(),
+                    sequences.get(),
+                    metadata,
+                    markers != null ? markers.restrict(profile.views(), profile.triggers(), profile.sequences()) : null
             );
 
-        } catch (SQLException e) {
-            LOG.error("❌ Failed to capture schema snapshot: {}", e.getMessage());
+        } catch (Exception e) {
+            LOG.error("❌ Failed to capture schema snapshot: {}", LiveDatabase.redact(String.valueOf(e.getMessage())));
             throw new RuntimeException("Schema inspection failed", e);
+        } finally {
+            // Still open when connecting failed
+            connectSpan.close();
+        }
+    }
+
+    /**
+     * Loads the tables with the configured crawler. In verify mode both readers run and
+     * every difference between them is logged; the SchemaCrawler tables are kept.
+     */
+    private List<TableInfo> loadTables(DatabaseConnectionSource dataSource, String schemaScope,
+                                       String schemaName, SnapshotDelta delta) throws SQLException {
+        // The native reader's queries are schema-wide, so only the crawl is incremental
+        if (!delta.full() && crawler == CrawlerType.SCHEMACRAWLER) {
+            Set<String> changed = delta.changedTables();
+            return delta.mergeTables(changed.isEmpty() ? List.of() : crawlTables(dataSource, schemaScope, changed));
+        }
+        return switch (crawler) {
+            case SCHEMACRAWLER -> crawlTables(dataSource, schemaScope, null);
+            case NATIVE -> readTables(dataSource, schemaName);
+            case VERIFY -> {
+                List<TableInfo> crawled = crawlTables(dataSource, schemaScope, null);
+                List<String> differences = CatalogComparison.differences(crawled, readTables(dataSource, schemaName));
+                if (differences.isEmpty()) {
+                    LOG.info("   ✓ {} native catalog reader matches SchemaCrawler", label);
+                } else {
+                    LOG.warn("   ⚠️  {} native catalog reader differs from SchemaCrawler: {} difference(s)",
+                            label, differences.size());
+                    differences.forEach(difference -> LOG.warn("      {}", difference));
+                }
+                yield crawled;
+            }
+        };
+    }
+
+    /**
+     * Reads the tables with the dialect's catalog queries on a connection of its own.
+     */
+    private List<TableInfo> readTables(DatabaseConnectionSource dataSource, String schemaName) throws SQLException {
+        try (Connection connection = dataSource.get()) {
+            DialectQueryEvent event = new DialectQueryEvent(dialect.getClass().getSimpleName(), "readTables",
+                    label, schemaName);
+            event.begin();
+            try (Span ignored = recorder.start("inspect.native", label)) {
+                List<TableInfo> tables = ((CatalogReader) dialect).readTables(connection, schemaName);
+                event.setRows(tables.size());
+                return tables;
+            } finally {
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Loads the SchemaCrawler catalog and converts its tables.
+     *
+     * @param tableNames Names of the tables to crawl, or null for all tables
+     */
+    private List<TableInfo> crawlTables(DatabaseConnectionSource dataSource, String schemaScope,
+                                        Set<String> tableNames) {
+        Catalog catalog;
+        CatalogLoadEvent catalogEvent = new CatalogLoadEvent(databaseType.getCode(), label, schemaScope);
+        catalogEvent.begin();
+        try (Span ignored = recorder.start("inspect.catalog", label)) {
+            catalog = SchemaCrawlerUtility.getCatalog(dataSource,
+                    profile.crawlerOptions(databaseType, schemaScope, tableNames));
+            catalogEvent.setTables(catalog.getTables().size());
+        } finally {
+            catalogEvent.commit();
+        }
+
+        return recorder.record("inspect.tables", label, () -> extractTables(catalog));
+    }
+
+    /**
+     * Scope matching the schema the connection is in, named as SchemaCrawler names it:
+     * the catalog (MySQL), the schema (Oracle) or both (MSSQL, PostgreSQL). On
+     * PostgreSQL it matches every schema on the search path the dialect reads.
+     * Returns null, crawling every schema, when the driver reports neither.
+     */
+    private String currentSchemaScope(Connection connection, String schemaName) {
+        String catalog = null;
+        String schema = null;
+        try {
+            catalog = connection.getCatalog();
+            schema = connection.getSchema();
+        } catch (SQLException | AbstractMethodError e) {
+            LOG.debug("   Could not read the current schema: {}", e.getMessage());
+        }
+        if (schema == null) {
+            return catalog != null ? Pattern.quote(catalog) : null;
         }
+        String schemaPattern = databaseType == DatabaseType.POSTGRESQL
+                ? Arrays.stream(schemaName.split(",")).map(Pattern::quote).collect(Collectors.joining("|", "(", ")"))
+                : Pattern.quote(schema);
+        return catalog != null
+                ? "(" + Pattern.quote(catalog) + "\\.)?" + schemaPattern
+                : schemaPattern;
+    }
+
+    private static <T> Future<List<T>> skipped() {
+        return CompletableFuture.completedFuture(List.of());
+    }
+
+    /**
+     * Reuses the objects of the previous snapshot when unchanged, otherwise starts the
+     * extraction.
+     */
+    private static <T> Future<List<T>> forkUnlessUnchanged(ExtractionSteps steps, List<T> unchanged,
+                                                           Callable<List<T>> extraction) {
+        return unchanged != null ? CompletableFuture.completedFuture(unchanged) : steps.fork(extraction);
+    }
+
+    /**
+     * Reads the DDL markers of the schema, or returns null, capturing everything, when
+     * the dialect has no marker query or it fails.
+     */
+    private DdlMarkers readDdlMarkers(Connection connection, String schemaName) {
+        if (!(dialect instanceof DdlMarkerReader reader)) {
+            LOG.warn("⚠️  No DDL markers for {}, capturing everything", databaseType);
+            return null;
+        }
+        try (Span ignored = recorder.start("inspect.markers", label)) {
+            return reader.readDdlMarkers(connection, schemaName);
+        } catch (SQLException e) {
+            LOG.warn("⚠️  Could not read DDL markers, capturing everything: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Runs one dialect extraction on a connection of its own, timing it and emitting a
+     * JFR event with its row count.
+     */
+    private <T> List<T> extract(String objectType, DatabaseConnectionSource dataSource, String schemaName,
+                                BiFunction<Connection, String, List<T>> query) throws SQLException {
+        String method = "extract" + Character.toUpperCase(objectType.charAt(0)) + objectType.substring(1);
+        try (Connection connection = dataSource.get()) {
+            DialectQueryEvent event = new DialectQueryEvent(dialect.getClass().getSimpleName(), method, label, schemaName);
+            event.begin();
+            try (Span ignored = recorder.start("inspect." + objectType, label)) {
+                List<T> rows = query.apply(connection, schemaName);
+                event.setRows(rows.size());
+                return rows;
+            } finally {
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Creates the connection source with the driver properties that let the dialect's
+     * catalog queries stream their results, and the live session settings if any.
+     */
+    private DatabaseConnectionSource createConnectionSource(String jdbcUrl, String username, String password) {
+        Map<String, String> properties = new HashMap<>(CatalogFetch.connectionProperties(databaseType));
+        if (liveSession != null) {
+            properties.putAll(liveSession.connectionProperties(databaseType));
+        }
+        return DatabaseConnectionSources.newDatabaseConnectionSource(jdbcUrl, properties, new UserCredentials() {
+            @Override
+            public void clearPassword() {}
+            @Override
+            public String getPassword() { return password; }
+            @Override
+            public String getUser() { return username; }
+            @Override
+            public boolean hasPassword() { return password != null; }
+            @Override
+            public boolean hasUser() { return username != null; }
+        }, connection -> {
+            if (liveSession != null) {
+                liveSession.configure(connection, databaseType);
+            }
+        });
     }
 
     /**
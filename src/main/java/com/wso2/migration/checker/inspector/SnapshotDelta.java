@@ -0,0 +1,119 @@
+package com.wso2.migration.checker.inspector;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.model.DdlMarkers;
+import com.wso2.migration.checker.model.SchemaSnapshot;
+import com.wso2.migration.checker.model.TableInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * What an incremental capture re-reads: the DDL markers of the previous snapshot
+ * compared with the ones just read. Tables are re-crawled one by one; the other object
+ * types are re-extracted as a whole when any of their markers changed, their dialect
+ * queries being schema-wide already.
+ */
+final class SnapshotDelta {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotDelta.class);
+
+    /** Re-reads everything. */
+    static final SnapshotDelta FULL = new SnapshotDelta(null, null);
+
+    private final SchemaSnapshot previous;
+    private final DdlMarkers markers;
+
+    private SnapshotDelta(SchemaSnapshot previous, DdlMarkers markers) {
+        this.previous = previous;
+        this.markers = markers;
+    }
+
+    /**
+     * Compares the previous snapshot with the current markers, falling back to
+     * {@link #FULL} when the previous snapshot cannot be reused.
+     *
+     * @param markers Markers just read, or null when the dialect has none
+     */
+    static SnapshotDelta between(SchemaSnapshot previous, DdlMarkers markers, DatabaseType databaseType,
+                                 String schemaName) {
+        if (previous == null || markers == null) {
+            return FULL;
+        }
+        if (previous.ddlMarkers() == null) {
+            LOG.info("   Previous snapshot has no DDL markers, capturing everything");
+            return FULL;
+        }
+        if (!databaseType.getCode().equals(previous.databaseType())
+                || !Objects.equals(schemaName, previous.schemaName())) {
+            LOG.warn("⚠️  Previous snapshot is of {} schema {}, capturing everything",
+                    previous.databaseType(), previous.schemaName());
+            return FULL;
+        }
+
+        SnapshotDelta delta = new SnapshotDelta(previous, markers);
+        LOG.info("♻️  Incremental capture: {} of {} tables changed or added, {} dropped",
+                delta.changedTables().size(), markers.tables().size(), delta.droppedTables());
+        return delta;
+    }
+
+    boolean full() {
+        return previous == null;
+    }
+
+    /**
+     * Tables added since the previous snapshot or whose markers changed.
+     */
+    Set<String> changedTables() {
+        Map<String, String> previousTables = previous.ddlMarkers().tables();
+        Set<String> changed = new TreeSet<>();
+        markers.tables().forEach((name, marker) -> {
+            if (previousTables == null || !marker.equals(previousTables.get(name))) {
+                changed.add(name);
+            }
+        });
+        return changed;
+    }
+
+    private long droppedTables() {
+        Map<String, String> previousTables = previous.ddlMarkers().tables();
+        return previousTables == null ? 0
+                : previousTables.keySet().stream().filter(name -> !markers.tables().containsKey(name)).count();
+    }
+
+    /**
+     * Returns the previous objects of one type when none of them changed, null when
+     * they must be extracted again.
+     */
+    <T> List<T> unchanged(Function<DdlMarkers, Map<String, String>> markersOf,
+                          Function<SchemaSnapshot, List<T>> objectsOf) {
+        if (full() || !DdlMarkers.unchanged(markersOf.apply(previous.ddlMarkers()), markersOf.apply(markers))) {
+            return null;
+        }
+        return objectsOf.apply(previous);
+    }
+
+    /**
+     * Merges the re-crawled tables with the unchanged ones of the previous snapshot,
+     * leaving out dropped tables. Returned in name order.
+     */
+    List<TableInfo> mergeTables(List<TableInfo> crawled) {
+        Set<String> changed = changedTables();
+        Map<String, TableInfo> merged = new TreeMap<>();
+        for (TableInfo table : previous.tables()) {
+            if (markers.tables().containsKey(table.name()) && !changed.contains(table.name())) {
+                merged.put(table.name(), table);
+            }
+        }
+        crawled.forEach(table -> merged.put(table.name(), table));
+        return new ArrayList<>(merged.values());
+    }
+}
@@ -0,0 +1,107 @@
+package com.wso2.migration.checker.inspector.dialect;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.metrics.jfr.CatalogFetchEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams the results of the dialects' catalog queries. Every query is prepared
+ * through {@link #prepare}, which sets a fetch size adapted to the rows the same query
+ * returned last time and wraps the statement in a {@link CatalogStatement} that counts
+ * the rows and bytes read from its result sets. Each query is recorded as a
+ * {@link CatalogFetchEvent} when its statement closes.
+ *
+ * <p>The fetch size only streams when the connection is set up for it, see
+ * {@link #connectionProperties}. PostgreSQL streams only outside auto-commit, so its
+ * catalog queries, which run in auto-commit, are still read in one response.
+ */
+public final class CatalogFetch {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogFetch.class);
+
+    /** Rows per round trip for a query not run before. */
+    static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /** Lower bound, leaving room for a catalog that grew since the last run. */
+    static final int MIN_FETCH_SIZE = 100;
+
+    /** Upper bound, keeping the rows buffered by the driver bounded on large schemas. */
+    static final int MAX_FETCH_SIZE = 5000;
+
+    /** Rows returned by the last run of each query, keyed by database type and query. */
+    private static final Map<String, Long> ROWS_FETCHED = new ConcurrentHashMap<>();
+
+    private CatalogFetch() {
+        // Utility class
+    }
+
+    /**
+     * Driver properties that let the fetch size stream results: server-side cursors on
+     * MySQL, which otherwise reads every result whole; a row prefetch on Oracle, also
+     * used by the SchemaCrawler crawl, instead of the driver's 10 rows; adaptive
+     * response buffering on MSSQL.
+     */
+    public static Map<String, String> connectionProperties(DatabaseType databaseType) {
+        return switch (databaseType) {
+            case MYSQL -> Map.of("useCursorFetch", "true");
+            case ORACLE -> Map.of("defaultRowPrefetch", String.valueOf(DEFAULT_FETCH_SIZE));
+            case MSSQL -> Map.of("responseBuffering", "adaptive");
+            case POSTGRESQL -> Map.of("defaultRowFetchSize", String.valueOf(DEFAULT_FETCH_SIZE));
+        };
+    }
+
+    /**
+     * Prepares a forward-only, read-only catalog query.
+     *
+     * @param query Name the query is recorded and sized under
+     */
+    static CatalogStatement prepare(Connection connection, DatabaseType databaseType, String query, String sql)
+            throws SQLException {
+        String key = databaseType.getCode() + ":" + query;
+        int fetchSize = fetchSize(databaseType, ROWS_FETCHED.get(key));
+
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        try {
+            statement.setFetchSize(fetchSize);
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+
+        CatalogFetchEvent event = new CatalogFetchEvent(databaseType.getCode(), query, fetchSize);
+        event.begin();
+        return new CatalogStatement(statement, key, event);
+    }
+
+    /**
+     * Sizes a query after its last run: large enough to read a result of the same size
+     * in one round trip, capped at {@link #MAX_FETCH_SIZE}. MySQL reads results that fit
+     * in one fetch without a server-side cursor, which costs a temporary table per query.
+     */
+    static int fetchSize(DatabaseType databaseType, Long lastRows) {
+        if (lastRows == null) return DEFAULT_FETCH_SIZE;
+        if (lastRows >= MAX_FETCH_SIZE) return MAX_FETCH_SIZE;
+        if (databaseType == DatabaseType.MYSQL) return 0;
+        return (int) Math.max(lastRows + 1, MIN_FETCH_SIZE);
+    }
+
+    /**
+     * Records a closed query: its rows size the next run, and its event is committed.
+     */
+    static void record(String key, CatalogFetchEvent event, long rows, long bytes) {
+        ROWS_FETCHED.put(key, rows);
+        event.setRows(rows);
+        event.setBytes(bytes);
+        event.commit();
+        LOG.debug("   {}: {} rows, {} bytes", key, rows, bytes);
+    }
+}
\ No newline at end of file
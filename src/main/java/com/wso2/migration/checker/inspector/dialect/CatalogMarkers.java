@@ -0,0 +1,60 @@
+package com.wso2.migration.checker.inspector.dialect;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.model.DdlMarkers;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads the result of a {@link DdlMarkerReader} query: one row per object, or per part
+ * of an object such as an index of a table, with the columns KIND (TABLE, VIEW,
+ * ROUTINE, TRIGGER or SEQUENCE), NAME and MARKER. The markers of the parts of one
+ * object are joined in sorted order, so dropping a part changes the object's marker.
+ */
+final class CatalogMarkers {
+
+    private CatalogMarkers() {
+        // Utility class
+    }
+
+    /**
+     * Runs the marker query, binding the schema to each of its parameters.
+     */
+    static DdlMarkers read(Connection connection, DatabaseType databaseType, String sql, int schemaParameters,
+                           String schema) throws SQLException {
+        Map<String, Map<String, List<String>>> rows = new HashMap<>();
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, databaseType, "ddlMarkers", sql)) {
+            for (int i = 1; i <= schemaParameters; i++) {
+                stmt.setString(i, schema);
+            }
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String marker = rs.getString("MARKER");
+                    rows.computeIfAbsent(rs.getString("KIND"), k -> new HashMap<>())
+                            .computeIfAbsent(rs.getString("NAME"), k -> new ArrayList<>())
+                            .add(marker != null ? marker : "");
+                }
+            }
+        }
+
+        return new DdlMarkers(markers(rows, "TABLE"), markers(rows, "VIEW"), markers(rows, "ROUTINE"),
+                markers(rows, "TRIGGER"), markers(rows, "SEQUENCE"));
+    }
+
+    private static Map<String, String> markers(Map<String, Map<String, List<String>>> rows, String kind) {
+        Map<String, String> markers = new TreeMap<>();
+        rows.getOrDefault(kind, Map.of()).forEach((name, parts) -> {
+            List<String> sorted = new ArrayList<>(parts);
+            sorted.sort(null);
+            markers.put(name, String.join(";", sorted));
+        });
+        return markers;
+    }
+}
@@ -0,0 +1,24 @@
+package com.wso2.migration.checker.inspector.dialect;
+
+import com.wso2.migration.checker.model.TableInfo;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Dialect extension that reads tables, columns, indexes and constraints with a few
+ * set-based catalog queries instead of the SchemaCrawler crawl. Tables are reported
+ * the way SchemaCrawler reports them (type names, sizes, index types, referential
+ * rules), so either reader can capture a snapshot.
+ */
+public interface CatalogReader {
+
+    /**
+     * Reads every base table of the schema.
+     *
+     * @throws SQLException when a catalog query fails; unlike the stored logic queries,
+     *                      a snapshot without its tables is of no use
+     */
+    List<TableInfo> readTables(Connection connection, String schema) throws SQLException;
+}
@@ -0,0 +1,82 @@
+package com.wso2.migration.checker.inspector.dialect;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Result of a {@link CatalogStatement}. Counts the rows read and the approximate size
+ * of the values: characters of text, bytes of numbers.
+ */
+final class CatalogResultSet implements AutoCloseable {
+
+    private final ResultSet resultSet;
+    private final CatalogStatement statement;
+
+    CatalogResultSet(ResultSet resultSet, CatalogStatement statement) {
+        this.resultSet = resultSet;
+        this.statement = statement;
+    }
+
+    boolean next() throws SQLException {
+        boolean row = resultSet.next();
+        if (row) statement.rows++;
+        return row;
+    }
+
+    String getString(int columnIndex) throws SQLException {
+        return counted(resultSet.getString(columnIndex));
+    }
+
+    String getString(String columnLabel) throws SQLException {
+        return counted(resultSet.getString(columnLabel));
+    }
+
+    int getInt(String columnLabel) throws SQLException {
+        statement.bytes += Integer.BYTES;
+        return resultSet.getInt(columnLabel);
+    }
+
+    long getLong(String columnLabel) throws SQLException {
+        statement.bytes += Long.BYTES;
+        return resultSet.getLong(columnLabel);
+    }
+
+    boolean getBoolean(String columnLabel) throws SQLException {
+        statement.bytes++;
+        return resultSet.getBoolean(columnLabel);
+    }
+
+    /**
+     * Reads a text array column and frees the array, null for SQL NULL.
+     */
+    String[] getStringArray(String columnLabel) throws SQLException {
+        Array array = resultSet.getArray(columnLabel);
+        if (array == null) {
+            return null;
+        }
+        try {
+            String[] values = (String[]) array.getArray();
+            for (String value : values) {
+                counted(value);
+            }
+            return values;
+        } finally {
+            array.free();
+        }
+    }
+
+    boolean wasNull() throws SQLException {
+        return resultSet.wasNull();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        resultSet.close();
+    }
+
+    private String counted(String value) {
+        if (value != null) statement.bytes += value.length();
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+package com.wso2.migration.checker.inspector.dialect;
+
+import com.wso2.migration.checker.metrics.jfr.CatalogFetchEvent;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A catalog query prepared by {@link CatalogFetch#prepare}. Delegates to the driver's
+ * statement, hands out result sets that count the rows and bytes read, and records the
+ * query when closed. Only the calls the dialects make are exposed.
+ */
+final class CatalogStatement implements AutoCloseable {
+
+    private final PreparedStatement statement;
+    private final String key;
+    private final CatalogFetchEvent event;
+    long rows;
+    long bytes;
+    private boolean closed;
+
+    CatalogStatement(PreparedStatement statement, String key, CatalogFetchEvent event) {
+        this.statement = statement;
+        this.key = key;
+        this.event = event;
+    }
+
+    void setString(int parameterIndex, String value) throws SQLException {
+        statement.setString(parameterIndex, value);
+    }
+
+    CatalogResultSet executeQuery() throws SQLException {
+        return new CatalogResultSet(statement.executeQuery(), this);
+    }
+
+    boolean execute() throws SQLException {
+        return statement.execute();
+    }
+
+    CatalogResultSet getResultSet() throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        return resultSet == null ? null : new CatalogResultSet(resultSet, this);
+    }
+
+    boolean getMoreResults() throws SQLException {
+        return statement.getMoreResults();
+    }
+
+    int getUpdateCount() throws SQLException {
+        return statement.getUpdateCount();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            statement.close();
+        } finally {
+            if (!closed) {
+                closed = true;
+                CatalogFetch.record(key, event, rows, bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.wso2.migration.checker.inspector.dialect;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.inspector.offline.DataTypes;
+import com.wso2.migration.checker.inspector.offline.DataTypes.ResolvedType;
+import com.wso2.migration.checker.model.ColumnInfo;
+import com.wso2.migration.checker.model.ConstraintInfo;
+import com.wso2.migration.checker.model.IndexInfo;
+import com.wso2.migration.checker.model.TableInfo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Assembles {@link TableInfo}s from the rows of the catalog queries of a
+ * {@link CatalogReader}. Rows may arrive in any order of tables; the columns of one
+ * index or key must arrive in key order. Rows of tables that were not added (views,
+ * system tables) are ignored, so the queries need not join against the table list.
+ */
+final class CatalogTables {
+
+    private final DatabaseType databaseType;
+    private final String schema;
+    private final Map<String, TableRows> tables = new TreeMap<>();
+
+    CatalogTables(DatabaseType databaseType, String schema) {
+        this.databaseType = databaseType;
+        this.schema = schema;
+    }
+
+    void table(String name, String engine, String comment) {
+        table(name, schema, engine, comment);
+    }
+
+    /**
+     * Adds a table of a schema other than the one being read, for readers that cover
+     * several schemas.
+     */
+    void table(String name, String tableSchema, String engine, String comment) {
+        tables.put(name, new TableRows(name, tableSchema, engine != null ? engine : "", comment != null ? comment : ""));
+    }
+
+    /**
+     * Adds a column, resolving its declared type to the name, size and scale the
+     * JDBC driver reports.
+     */
+    void column(String table, String name, String declaredType, boolean nullable, String defaultValue,
+                boolean autoIncrement, int ordinalPosition) {
+        TableRows rows = tables.get(table);
+        if (rows == null) return;
+
+        ResolvedType type = DataTypes.resolveDeclared(databaseType, declaredType, autoIncrement);
+        rows.columns.add(new ColumnInfo(name, type.name(), type.size(), type.scale(), nullable,
+                defaultValue, false, false, autoIncrement, ordinalPosition));
+    }
+
+    void indexColumn(String table, String index, boolean unique, boolean clustered, String column) {
+        TableRows rows = tables.get(table);
+        if (rows == null || column == null) return;
+
+        rows.indexes.computeIfAbsent(index, k -> new KeyRows(k, unique, clustered ? "clustered" : "other"))
+                .columns.add(column);
+    }
+
+    void primaryKeyColumn(String table, String constraint, String column) {
+        TableRows rows = tables.get(table);
+        if (rows == null) return;
+
+        if (rows.primaryKey == null) {
+            rows.primaryKey = new KeyRows(constraint, true, null);
+        }
+        rows.primaryKey.columns.add(column);
+    }
+
+    /**
+     * Adds one column pair of a foreign key. The rules are SchemaCrawler's rule
+     * names, see {@link #referentialAction}.
+     */
+    void foreignKeyColumn(String table, String constraint, String column, String referencedTable,
+                          String referencedColumn, String onDelete, String onUpdate) {
+        TableRows rows = tables.get(table);
+        if (rows == null) return;
+
+        rows.foreignKeys.computeIfAbsent(constraint,
+                        k -> new ForeignKeyRows(k, referencedTable, onDelete, onUpdate))
+                .add(column, referencedColumn);
+    }
+
+    /**
+     * Maps a referential action as the catalog spells it (NO ACTION, SET_NULL, ...)
+     * to SchemaCrawler's rule name.
+     */
+    static String referentialAction(String action) {
+        if (action == null) return "unknown";
+        return switch (action.toUpperCase(Locale.ROOT).replace('_', ' ')) {
+            case "CASCADE" -> "cascade";
+            case "SET NULL" -> "setNull";
+            case "SET DEFAULT" -> "setDefault";
+            case "RESTRICT" -> "restrict";
+            case "NO ACTION" -> "noAction";
+            default -> "unknown";
+        };
+    }
+
+    /**
+     * Returns the tables ordered by name, with their columns in ordinal order.
+     */
+    List<TableInfo> build() {
+        List<TableInfo> result = new ArrayList<>(tables.size());
+        for (TableRows table : tables.values()) {
+            result.add(table.build());
+        }
+        return result;
+    }
+
+    private static final class TableRows {
+        final String name;
+        final String schema;
+        final String engine;
+        final String comment;
+        final List<ColumnInfo> columns = new ArrayList<>();
+        final Map<String, KeyRows> indexes = new LinkedHashMap<>();
+        final Map<String, ForeignKeyRows> foreignKeys = new LinkedHashMap<>();
+        KeyRows primaryKey;
+
+        TableRows(String name, String schema, String engine, String comment) {
+            this.name = name;
+            this.schema = schema;
+            this.engine = engine;
+            this.comment = comment;
+        }
+
+        TableInfo build() {
+            Set<String> pkColumns = primaryKey != null ? new HashSet<>(primaryKey.columns) : Set.of();
+            Set<String> fkColumns = new HashSet<>();
+            foreignKeys.values().forEach(fk -> fkColumns.addAll(fk.columns));
+
+            List<ColumnInfo> tableColumns = columns.stream()
+                    .sorted(Comparator.comparingInt(ColumnInfo::ordinalPosition))
+                    .map(c -> new ColumnInfo(c.name(), c.dataType(), c.size(), c.scale(), c.nullable(),
+                            c.defaultValue(), pkColumns.contains(c.name()), fkColumns.contains(c.name()),
+                            c.isAutoIncrement(), c.ordinalPosition()))
+                    .toList();
+
+            List<IndexInfo> tableIndexes = new ArrayList<>();
+            for (KeyRows index : indexes.values()) {
+                tableIndexes.add(new IndexInfo(index.name, name, List.copyOf(index.columns), index.unique,
+                        false, index.indexType));
+            }
+
+            List<ConstraintInfo> constraints = new ArrayList<>();
+            if (primaryKey != null) {
+                constraints.add(new ConstraintInfo(primaryKey.name, name,
+                        ConstraintInfo.ConstraintType.PRIMARY_KEY, List.copyOf(primaryKey.columns),
+                        null, null, null, null, null));
+            }
+            for (ForeignKeyRows fk : foreignKeys.values()) {
+                constraints.add(new ConstraintInfo(fk.name, name,
+                        ConstraintInfo.ConstraintType.FOREIGN_KEY, List.copyOf(fk.columns),
+                        fk.referencedTable, List.copyOf(fk.referencedColumns), fk.onDelete, fk.onUpdate, null));
+            }
+            // Unique constraints from indexes, as with SchemaCrawler
+            for (KeyRows index : indexes.values()) {
+                boolean primaryKeyIndex = primaryKey != null && index.name.equals(primaryKey.name);
+                if (index.unique && !primaryKeyIndex) {
+                    constraints.add(new ConstraintInfo(index.name, name,
+                            ConstraintInfo.ConstraintType.UNIQUE, List.copyOf(index.columns),
+                            null, null, null, null, null));
+                }
+            }
+
+            return new TableInfo(name, schema, tableColumns, tableIndexes, constraints, "TABLE", engine, comment);
+        }
+    }
+
+    private static final class KeyRows {
+        final String name;
+        final boolean unique;
+        final String indexType;
+        final List<String> columns = new ArrayList<>();
+
+        KeyRows(String name, boolean unique, String indexType) {
+            this.name = name;
+            this.unique = unique;
+            this.indexType = indexType;
+        }
+    }
+
+    private static final class ForeignKeyRows {
+        final String name;
+        final String referencedTable;
+        final String onDelete;
+        final String onUpdate;
+        final List<String> columns = new ArrayList<>();
+        final List<String> referencedColumns = new ArrayList<>();
+
+        ForeignKeyRows(String name, String referencedTable, String onDelete, String onUpdate) {
+            this.name = name;
+            this.referencedTable = referencedTable;
+            this.onDelete = onDelete;
+            this.onUpdate = onUpdate;
+        }
+
+        void add(String column, String referencedColumn) {
+            columns.add(column);
+            referencedColumns.add(referencedColumn);
+        }
+    }
+}
@@ -11,6 +11,15 @@ import java.util.List;
  */
 public interface DatabaseDialect {
 
+    /**
+     * Loads everything the extract methods need in as few round trips as possible.
+     * Called once per snapshot before the extract methods, which may then run
+     * concurrently on other connections; dialects that query each object type
+     * separately leave it empty.
+     */
+    default void prefetch(Connection connection, String schema) {
+    }
+
     /**
      * Extracts all stored procedures and functions.
      */
@@ -0,0 +1,21 @@
+package com.wso2.migration.checker.inspector.dialect;
+
+import com.wso2.migration.checker.model.DdlMarkers;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Dialect extension that reads a marker per object changing with the object's DDL,
+ * so a re-check of the same database re-reads only the objects that changed. Table
+ * markers are keyed by table name as the crawl reports it; for the other object types
+ * only whether anything changed is used.
+ */
+public interface DdlMarkerReader {
+
+    /**
+     * Reads the markers of every table, view, routine, trigger and sequence of the schema
+     * in one query.
+     */
+    DdlMarkers readDdlMarkers(Connection connection, String schema) throws SQLException;
+}
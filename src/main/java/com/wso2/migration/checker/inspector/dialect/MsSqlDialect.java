@@ -1,5 +1,6 @@
 package com. wso2.migration.checker. inspector.dialect;
 
+import com.wso2.migration.checker.container.DatabaseType;
 import com. wso2.migration.checker. model.*;
 import com.wso2.migration.checker.model. RoutineInfo.ParameterInfo;
 import com.wso2.migration.checker.model. RoutineInfo.RoutineType;
@@ -10,54 +11,86 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Microsoft SQL Server-specific dialect for schema extraction.
  */
-public class MsSqlDialect implements DatabaseDialect {
+public class MsSqlDialect implements DatabaseDialect, CatalogReader, DdlMarkerReader {
 
     private static final Logger LOG = LoggerFactory.getLogger(MsSqlDialect.class);
 
-    private static final String ROUTINES_QUERY = """
-        SELECT 
-            r. ROUTINE_NAME,
-            r.ROUTINE_SCHEMA,
-            r.ROUTINE_TYPE,
-            r.DATA_TYPE,
+    private static final String ROUTINE_TYPES = "'P', 'PC', 'FN', 'IF', 'TF', 'FS', 'FT'";
+
+    /**
+     * Routines, triggers and views of one schema with their parameters and columns,
+     * as five result sets in one batch. Parameters and view columns come before their
+     * owners so both can be attached while streaming. Definitions come from
+     * sys.sql_modules, which (unlike INFORMATION_SCHEMA) does not truncate them at
+     * 4000 characters.
+     */
+    private static final String CATALOG_BATCH = """
+        SET NOCOUNT ON;
+        DECLARE @schema sysname = ?;
+
+        SELECT
+            p.object_id,
+            p.name,
+            ISNULL(TYPE_NAME(p.system_type_id), TYPE_NAME(p.user_type_id)) AS data_type,
+            p.is_output,
+            p.parameter_id
+        FROM sys.parameters p
+        JOIN sys.objects o ON o.object_id = p.object_id
+        WHERE o.schema_id = SCHEMA_ID(@schema)
+        AND o.type IN (%1$s)
+        AND p.parameter_id > 0
+        ORDER BY p.object_id, p.parameter_id;
+
+        SELECT
+            o.object_id,
+            o.name,
+            o.type,
+            CASE
+                WHEN o.type IN ('IF', 'TF', 'FT') THEN 'TABLE'
+                ELSE (SELECT ISNULL(TYPE_NAME(r.system_type_id), TYPE_NAME(r.user_type_id))
+                      FROM sys.parameters r
+                      WHERE r.object_id = o.object_id AND r.parameter_id = 0)
+            END AS return_type,
             m.definition
-        FROM INFORMATION_SCHEMA. ROUTINES r
-        LEFT JOIN sys.sql_modules m ON OBJECT_ID(r.ROUTINE_SCHEMA + '.' + r.ROUTINE_NAME) = m.object_id
-        WHERE r.ROUTINE_SCHEMA = ? 
-        ORDER BY r.ROUTINE_NAME
-        """;
-
-    private static final String ROUTINE_PARAMS_QUERY = """
-        SELECT 
-            PARAMETER_NAME,
-            DATA_TYPE,
-            PARAMETER_MODE,
-            ORDINAL_POSITION
-        FROM INFORMATION_SCHEMA. PARAMETERS
-        WHERE SPECIFIC_SCHEMA = ? AND SPECIFIC_NAME = ?
-        ORDER BY ORDINAL_POSITION
-        """;
-
-    private static final String TRIGGERS_QUERY = """
-        SELECT 
+        FROM sys.objects o
+        LEFT JOIN sys.sql_modules m ON m.object_id = o.object_id
+        WHERE o.schema_id = SCHEMA_ID(@schema)
+        AND o.type IN (%1$s)
+        ORDER BY o.name;
+
+        SELECT c.object_id, c.name
+        FROM sys.columns c
+        JOIN sys.views v ON v.object_id = c.object_id
+        WHERE v.schema_id = SCHEMA_ID(@schema)
+        ORDER BY c.object_id, c.column_id;
+
+        SELECT v.object_id, v.name, m.definition
+        FROM sys.views v
+        LEFT JOIN sys.sql_modules m ON m.object_id = v.object_id
+        WHERE v.schema_id = SCHEMA_ID(@schema)
+        ORDER BY v.name;
+
+        SELECT
             t.name AS TRIGGER_NAME,
             OBJECT_NAME(t.parent_id) AS TABLE_NAME,
             CASE WHEN t.is_instead_of_trigger = 1 THEN 'INSTEAD OF'
                  ELSE 'AFTER' END AS TRIGGER_TIMING,
             te.type_desc AS TRIGGER_EVENT,
             m.definition AS TRIGGER_BODY,
-            CASE WHEN t. is_disabled = 0 THEN 'ENABLED' ELSE 'DISABLED' END AS STATUS
+            CASE WHEN t.is_disabled = 0 THEN 'ENABLED' ELSE 'DISABLED' END AS STATUS
         FROM sys.triggers t
-        JOIN sys. trigger_events te ON t.object_id = te.object_id
+        JOIN sys.trigger_events te ON t.object_id = te.object_id
         LEFT JOIN sys.sql_modules m ON t.object_id = m.object_id
-        WHERE SCHEMA_NAME(SCHEMA_ID(OBJECT_SCHEMA_NAME(t.parent_id))) = ?
-        ORDER BY t.name
-        """;
+        WHERE OBJECT_SCHEMA_NAME(t.parent_id) = @schema
+        ORDER BY t.name;
+        """.formatted(ROUTINE_TYPES);
 
     private static final String SEQUENCES_QUERY = """
         SELECT 
@@ -74,122 +107,247 @@ public class MsSqlDialect implements DatabaseDialect {
         ORDER BY s.name
         """;
 
-    private static final String VIEWS_QUERY = """
-        SELECT 
-            v.TABLE_NAME,
-            v.TABLE_SCHEMA,
-            v. VIEW_DEFINITION,
-            v.IS_UPDATABLE
-        FROM INFORMATION_SCHEMA. VIEWS v
-        WHERE v.TABLE_SCHEMA = ? 
-        ORDER BY v.TABLE_NAME
+    /**
+     * Tables of one schema with their columns, index columns, primary key columns and
+     * foreign key columns, as five result sets in one batch.
+     */
+    private static final String TABLES_BATCH = """
+        SET NOCOUNT ON;
+        DECLARE @schema sysname = ?;
+
+        SELECT t.name
+        FROM sys.tables t
+        WHERE t.schema_id = SCHEMA_ID(@schema)
+        AND t.is_ms_shipped = 0;
+
+        SELECT
+            t.name AS table_name,
+            c.name,
+            TYPE_NAME(c.user_type_id) AS type_name,
+            c.max_length,
+            c.precision,
+            c.scale,
+            c.is_nullable,
+            c.is_identity,
+            d.definition AS default_value,
+            c.column_id
+        FROM sys.columns c
+        JOIN sys.tables t ON t.object_id = c.object_id
+        LEFT JOIN sys.default_constraints d ON d.object_id = c.default_object_id
+        WHERE t.schema_id = SCHEMA_ID(@schema);
+
+        SELECT
+            t.name AS table_name,
+            i.name,
+            i.is_unique,
+            i.type,
+            COL_NAME(ic.object_id, ic.column_id) AS column_name
+        FROM sys.indexes i
+        JOIN sys.tables t ON t.object_id = i.object_id
+        JOIN sys.index_columns ic ON ic.object_id = i.object_id AND ic.index_id = i.index_id
+        WHERE t.schema_id = SCHEMA_ID(@schema)
+        AND i.type IN (1, 2)
+        AND i.is_hypothetical = 0
+        AND ic.key_ordinal > 0
+        ORDER BY t.name, i.name, ic.key_ordinal;
+
+        SELECT
+            OBJECT_NAME(k.parent_object_id) AS table_name,
+            k.name,
+            COL_NAME(ic.object_id, ic.column_id) AS column_name
+        FROM sys.key_constraints k
+        JOIN sys.index_columns ic ON ic.object_id = k.parent_object_id AND ic.index_id = k.unique_index_id
+        WHERE k.schema_id = SCHEMA_ID(@schema)
+        AND k.type = 'PK'
+        ORDER BY table_name, ic.key_ordinal;
+
+        SELECT
+            OBJECT_NAME(fk.parent_object_id) AS table_name,
+            fk.name,
+            COL_NAME(fkc.parent_object_id, fkc.parent_column_id) AS column_name,
+            OBJECT_NAME(fk.referenced_object_id) AS referenced_table,
+            COL_NAME(fkc.referenced_object_id, fkc.referenced_column_id) AS referenced_column,
+            fk.delete_referential_action_desc,
+            fk.update_referential_action_desc
+        FROM sys.foreign_keys fk
+        JOIN sys.foreign_key_columns fkc ON fkc.constraint_object_id = fk.object_id
+        WHERE fk.schema_id = SCHEMA_ID(@schema)
+        ORDER BY table_name, fk.name, fkc.constraint_column_id;
         """;
 
-    private static final String VIEW_COLUMNS_QUERY = """
-        SELECT COLUMN_NAME
-        FROM INFORMATION_SCHEMA.COLUMNS
-        WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?
-        ORDER BY ORDINAL_POSITION
-        """;
+    /**
+     * DDL markers from modify_date, which for tables also changes when one of their
+     * indexes is created or altered. DML triggers belong to the schema of their table.
+     */
+    private static final String DDL_MARKERS_QUERY = """
+        SELECT
+            CASE o.type
+                WHEN 'U' THEN 'TABLE'
+                WHEN 'V' THEN 'VIEW'
+                WHEN 'TR' THEN 'TRIGGER'
+                WHEN 'SO' THEN 'SEQUENCE'
+                ELSE 'ROUTINE'
+            END AS KIND,
+            o.name AS NAME,
+            CONVERT(varchar(23), o.modify_date, 121) AS MARKER
+        FROM sys.objects o
+        WHERE o.schema_id = SCHEMA_ID(?)
+        AND o.is_ms_shipped = 0
+        AND o.type IN ('U', 'V', 'TR', 'SO', %s)
+        """.formatted(ROUTINE_TYPES);
+
+    /**
+     * Result of {@link #CATALOG_BATCH} for one schema.
+     */
+    private record CatalogBatch(
+            String schema,
+            List<RoutineInfo> routines,
+            List<ViewInfo> views,
+            List<TriggerInfo> triggers
+    ) {}
+
+    private CatalogBatch batch;
+
+    /**
+     * Runs the catalog batch for the snapshot. The extract methods then serve their
+     * objects from it, whichever connection they are called on.
+     */
+    @Override
+    public synchronized void prefetch(Connection connection, String schema) {
+        batch = loadBatch(connection, schema);
+    }
 
     @Override
     public List<RoutineInfo> extractRoutines(Connection connection, String schema) {
-        List<RoutineInfo> routines = new ArrayList<>();
+        return batch(connection, schema).routines();
+    }
 
-        try (PreparedStatement stmt = connection. prepareStatement(ROUTINES_QUERY)) {
-            stmt. setString(1, schema);
+    @Override
+    public List<TriggerInfo> extractTriggers(Connection connection, String schema) {
+        return batch(connection, schema).triggers();
+    }
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String name = rs. getString("ROUTINE_NAME");
-                    String routineSchema = rs.getString("ROUTINE_SCHEMA");
-                    String typeStr = rs.getString("ROUTINE_TYPE");
-                    String returnType = rs.getString("DATA_TYPE");
-                    String definition = rs. getString("definition");
+    @Override
+    public List<ViewInfo> extractViews(Connection connection, String schema) {
+        return batch(connection, schema).views();
+    }
 
-                    RoutineType type = "PROCEDURE".equalsIgnoreCase(typeStr)
-                            ? RoutineType.PROCEDURE
-                            :  RoutineType. FUNCTION;
+    /**
+     * Returns the prefetched batch for the schema, running it if there is none.
+     */
+    private synchronized CatalogBatch batch(Connection connection, String schema) {
+        if (batch == null || !batch.schema().equals(schema)) {
+            batch = loadBatch(connection, schema);
+        }
+        return batch;
+    }
+
+    /**
+     * Runs {@link #CATALOG_BATCH} and reads its result sets as the driver streams them.
+     */
+    private CatalogBatch loadBatch(Connection connection, String schema) {
+        Map<Integer, List<ParameterInfo>> params = new HashMap<>();
+        Map<Integer, List<String>> viewColumns = new HashMap<>();
+        List<RoutineInfo> routines = new ArrayList<>();
+        List<ViewInfo> views = new ArrayList<>();
+        List<TriggerInfo> triggers = new ArrayList<>();
 
-                    List<ParameterInfo> params = extractRoutineParameters(connection, schema, name);
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MSSQL, "catalogBatch",
+                CATALOG_BATCH)) {
+            stmt.setString(1, schema);
 
-                    routines.add(new RoutineInfo(
-                            name, routineSchema, type, returnType, params, definition, "T-SQL"
-                    ));
+            int resultIndex = 0;
+            boolean isResultSet = stmt.execute();
+            while (isResultSet || stmt.getUpdateCount() != -1) {
+                if (isResultSet) {
+                    try (CatalogResultSet rs = stmt.getResultSet()) {
+                        switch (resultIndex++) {
+                            case 0 -> readParameters(rs, params);
+                            case 1 -> readRoutines(rs, schema, params, routines);
+                            case 2 -> readViewColumns(rs, viewColumns);
+                            case 3 -> readViews(rs, schema, viewColumns, views);
+                            case 4 -> readTriggers(rs, triggers);
+                            default -> LOG.debug("Ignoring unexpected MSSQL result set {}", resultIndex);
+                        }
+                    }
                 }
+                isResultSet = stmt.getMoreResults();
             }
         } catch (SQLException e) {
-            LOG.warn("Failed to extract MSSQL routines: {}", e.getMessage());
+            LOG.warn("Failed to extract MSSQL routines, views and triggers: {}", e.getMessage());
         }
 
-        return routines;
+        return new CatalogBatch(schema, routines, views, triggers);
     }
 
-    private List<ParameterInfo> extractRoutineParameters(Connection connection, String schema, String routineName) {
-        List<ParameterInfo> params = new ArrayList<>();
+    private void readParameters(CatalogResultSet rs, Map<Integer, List<ParameterInfo>> params) throws SQLException {
+        while (rs.next()) {
+            String paramName = rs.getString("name");
+            if (paramName == null || paramName.isEmpty()) continue;
 
-        try (PreparedStatement stmt = connection. prepareStatement(ROUTINE_PARAMS_QUERY)) {
-            stmt.setString(1, schema);
-            stmt.setString(2, routineName);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String paramName = rs. getString("PARAMETER_NAME");
-                    if (paramName == null || paramName.isEmpty()) continue;
+            // Remove @ prefix from parameter names
+            if (paramName.startsWith("@")) {
+                paramName = paramName.substring(1);
+            }
 
-                    // Remove @ prefix from parameter names
-                    if (paramName.startsWith("@")) {
-                        paramName = paramName.substring(1);
-                    }
+            // T-SQL OUTPUT parameters are reported as INOUT, as in INFORMATION_SCHEMA
+            ParameterInfo.ParameterMode mode = rs.getBoolean("is_output")
+                    ? ParameterInfo.ParameterMode.INOUT
+                    : ParameterInfo.ParameterMode.IN;
 
-                    String dataType = rs.getString("DATA_TYPE");
-                    String modeStr = rs.getString("PARAMETER_MODE");
-                    int position = rs.getInt("ORDINAL_POSITION");
+            params.computeIfAbsent(rs.getInt("object_id"), k -> new ArrayList<>())
+                    .add(new ParameterInfo(paramName, rs.getString("data_type"), mode, rs.getInt("parameter_id")));
+        }
+    }
 
-                    ParameterInfo. ParameterMode mode = switch (modeStr != null ? modeStr.toUpperCase() : "IN") {
-                        case "OUT" -> ParameterInfo. ParameterMode.OUT;
-                        case "INOUT" -> ParameterInfo.ParameterMode.INOUT;
-                        default -> ParameterInfo.ParameterMode.IN;
-                    };
+    private void readRoutines(CatalogResultSet rs, String schema, Map<Integer, List<ParameterInfo>> params,
+                              List<RoutineInfo> routines) throws SQLException {
+        while (rs.next()) {
+            String typeStr = rs.getString("type").trim();
+            RoutineType type = "P".equals(typeStr) || "PC".equals(typeStr)
+                    ? RoutineType.PROCEDURE
+                    : RoutineType.FUNCTION;
+
+            routines.add(new RoutineInfo(
+                    rs.getString("name"), schema, type, rs.getString("return_type"),
+                    params.getOrDefault(rs.getInt("object_id"), List.of()), rs.getString("definition"), "T-SQL"
+            ));
+        }
+    }
 
-                    params.add(new ParameterInfo(paramName, dataType, mode, position));
-                }
-            }
-        } catch (SQLException e) {
-            LOG.warn("Failed to extract parameters for routine {}: {}", routineName, e.getMessage());
+    private void readViewColumns(CatalogResultSet rs, Map<Integer, List<String>> viewColumns) throws SQLException {
+        while (rs.next()) {
+            viewColumns.computeIfAbsent(rs.getInt("object_id"), k -> new ArrayList<>())
+                    .add(rs.getString("name"));
         }
+    }
 
-        return params;
+    private void readViews(CatalogResultSet rs, String schema, Map<Integer, List<String>> viewColumns,
+                           List<ViewInfo> views) throws SQLException {
+        while (rs.next()) {
+            // INFORMATION_SCHEMA.VIEWS reports IS_UPDATABLE = NO for every SQL Server view
+            views.add(new ViewInfo(
+                    rs.getString("name"), schema, viewColumns.getOrDefault(rs.getInt("object_id"), List.of()),
+                    rs.getString("definition"), false
+            ));
+        }
     }
 
-    @Override
-    public List<TriggerInfo> extractTriggers(Connection connection, String schema) {
-        List<TriggerInfo> triggers = new ArrayList<>();
+    private void readTriggers(CatalogResultSet rs, List<TriggerInfo> triggers) throws SQLException {
+        while (rs.next()) {
+            String name = rs.getString("TRIGGER_NAME");
+            String tableName = rs.getString("TABLE_NAME");
+            String timingStr = rs.getString("TRIGGER_TIMING");
+            String eventStr = rs.getString("TRIGGER_EVENT");
+            String body = rs.getString("TRIGGER_BODY");
+            String status = rs.getString("STATUS");
 
-        try (PreparedStatement stmt = connection.prepareStatement(TRIGGERS_QUERY)) {
-            stmt. setString(1, schema);
+            TriggerTiming timing = parseTriggerTiming(timingStr);
+            TriggerEvent event = parseTriggerEvent(eventStr);
+            boolean enabled = "ENABLED".equalsIgnoreCase(status);
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String name = rs. getString("TRIGGER_NAME");
-                    String tableName = rs.getString("TABLE_NAME");
-                    String timingStr = rs.getString("TRIGGER_TIMING");
-                    String eventStr = rs.getString("TRIGGER_EVENT");
-                    String body = rs.getString("TRIGGER_BODY");
-                    String status = rs.getString("STATUS");
-
-                    TriggerTiming timing = parseTriggerTiming(timingStr);
-                    TriggerEvent event = parseTriggerEvent(eventStr);
-                    boolean enabled = "ENABLED".equalsIgnoreCase(status);
-
-                    triggers.add(new TriggerInfo(name, tableName, timing, event, body, enabled));
-                }
-            }
-        } catch (SQLException e) {
-            LOG.warn("Failed to extract MSSQL triggers: {}", e.getMessage());
+            triggers.add(new TriggerInfo(name, tableName, timing, event, body, enabled));
         }
-
-        return triggers;
     }
 
     private TriggerTiming parseTriggerTiming(String timingStr) {
@@ -215,10 +373,11 @@ public class MsSqlDialect implements DatabaseDialect {
     public List<SequenceInfo> extractSequences(Connection connection, String schema) {
         List<SequenceInfo> sequences = new ArrayList<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(SEQUENCES_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MSSQL, "sequences",
+                SEQUENCES_QUERY)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("SEQUENCE_NAME");
                     String seqSchema = rs.getString("SCHEMA_NAME");
@@ -241,49 +400,106 @@ public class MsSqlDialect implements DatabaseDialect {
         return sequences;
     }
 
+    /**
+     * Reads all tables with {@link #TABLES_BATCH}, one round trip for the schema.
+     */
     @Override
-    public List<ViewInfo> extractViews(Connection connection, String schema) {
-        List<ViewInfo> views = new ArrayList<>();
+    public List<TableInfo> readTables(Connection connection, String schema) throws SQLException {
+        CatalogTables tables = new CatalogTables(DatabaseType.MSSQL, schema);
 
-        try (PreparedStatement stmt = connection.prepareStatement(VIEWS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MSSQL, "tablesBatch",
+                TABLES_BATCH)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt. executeQuery()) {
-                while (rs.next()) {
-                    String name = rs.getString("TABLE_NAME");
-                    String viewSchema = rs.getString("TABLE_SCHEMA");
-                    String definition = rs.getString("VIEW_DEFINITION");
-                    boolean updatable = "YES".equalsIgnoreCase(rs.getString("IS_UPDATABLE"));
-
-                    List<String> columns = extractViewColumns(connection, schema, name);
-
-                    views.add(new ViewInfo(name, viewSchema, columns, definition, updatable));
+            int resultIndex = 0;
+            boolean isResultSet = stmt.execute();
+            while (isResultSet || stmt.getUpdateCount() != -1) {
+                if (isResultSet) {
+                    try (CatalogResultSet rs = stmt.getResultSet()) {
+                        switch (resultIndex++) {
+                            case 0 -> readTableNames(rs, tables);
+                            case 1 -> readColumns(rs, tables);
+                            case 2 -> readIndexColumns(rs, tables);
+                            case 3 -> readPrimaryKeyColumns(rs, tables);
+                            case 4 -> readForeignKeyColumns(rs, tables);
+                            default -> LOG.debug("Ignoring unexpected MSSQL result set {}", resultIndex);
+                        }
+                    }
                 }
+                isResultSet = stmt.getMoreResults();
             }
-        } catch (SQLException e) {
-            LOG.warn("Failed to extract MSSQL views: {}", e.getMessage());
         }
 
-        return views;
+        return tables.build();
     }
 
-    private List<String> extractViewColumns(Connection connection, String schema, String viewName) {
-        List<String> columns = new ArrayList<>();
+    @Override
+    public DdlMarkers readDdlMarkers(Connection connection, String schema) throws SQLException {
+        return CatalogMarkers.read(connection, DatabaseType.MSSQL, DDL_MARKERS_QUERY, 1, schema);
+    }
 
-        try (PreparedStatement stmt = connection.prepareStatement(VIEW_COLUMNS_QUERY)) {
-            stmt.setString(1, schema);
-            stmt.setString(2, viewName);
+    private void readTableNames(CatalogResultSet rs, CatalogTables tables) throws SQLException {
+        while (rs.next()) {
+            // The driver reports neither an engine nor remarks
+            tables.table(rs.getString("name"), "", "");
+        }
+    }
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    columns.add(rs.getString("COLUMN_NAME"));
-                }
-            }
-        } catch (SQLException e) {
-            LOG.warn("Failed to extract columns for view {}: {}", viewName, e.getMessage());
+    private void readColumns(CatalogResultSet rs, CatalogTables tables) throws SQLException {
+        while (rs.next()) {
+            tables.column(
+                    rs.getString("table_name"),
+                    rs.getString("name"),
+                    declaredType(rs.getString("type_name"), rs.getInt("max_length"),
+                            rs.getInt("precision"), rs.getInt("scale")),
+                    rs.getBoolean("is_nullable"),
+                    rs.getString("default_value"),
+                    rs.getBoolean("is_identity"),
+                    rs.getInt("column_id"));
         }
+    }
 
-        return columns;
+    /**
+     * Rebuilds the declared type of a column from sys.columns, where max_length is in
+     * bytes and -1 for MAX.
+     */
+    private static String declaredType(String typeName, int maxLength, int precision, int scale) {
+        return switch (typeName) {
+            case "varchar", "char", "varbinary", "binary" ->
+                    typeName + "(" + (maxLength == -1 ? "MAX" : String.valueOf(maxLength)) + ")";
+            case "nvarchar", "nchar" ->
+                    typeName + "(" + (maxLength == -1 ? "MAX" : String.valueOf(maxLength / 2)) + ")";
+            case "decimal", "numeric" -> typeName + "(" + precision + "," + scale + ")";
+            case "time", "datetime2", "datetimeoffset" -> typeName + "(" + scale + ")";
+            case "float" -> "float(" + precision + ")";
+            default -> typeName;
+        };
+    }
+
+    private void readIndexColumns(CatalogResultSet rs, CatalogTables tables) throws SQLException {
+        while (rs.next()) {
+            tables.indexColumn(rs.getString("table_name"), rs.getString("name"), rs.getBoolean("is_unique"),
+                    rs.getInt("type") == 1, rs.getString("column_name"));
+        }
+    }
+
+    private void readPrimaryKeyColumns(CatalogResultSet rs, CatalogTables tables) throws SQLException {
+        while (rs.next()) {
+            tables.primaryKeyColumn(rs.getString("table_name"), rs.getString("name"), rs.getString("column_name"));
+        }
+    }
+
+    private void readForeignKeyColumns(CatalogResultSet rs, CatalogTables tables) throws SQLException {
+        while (rs.next()) {
+            tables.foreignKeyColumn(
+                    rs.getString("table_name"),
+                    rs.getString("name"),
+                    rs.getString("column_name"),
+                    rs.getString("referenced_table"),
+                    rs.getString("referenced_column"),
+                    CatalogTables.referentialAction(rs.getString("delete_referential_action_desc")),
+                    CatalogTables.referentialAction(rs.getString("update_referential_action_desc")));
+        }
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com. wso2.migration.checker. inspector.dialect;
 
+import com.wso2.migration.checker.container.DatabaseType;
 import com. wso2.migration.checker. model.*;
 import com.wso2.migration.checker.model. RoutineInfo. ParameterInfo;
 import com.wso2.migration.checker.model.RoutineInfo.RoutineType;
@@ -10,12 +11,14 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.util. ArrayList;
+import java.util.HashMap;
 import java.util. List;
+import java.util.Map;
 
 /**
  * MySQL-specific dialect for schema extraction.
  */
-public class MySqlDialect implements DatabaseDialect {
+public class MySqlDialect implements DatabaseDialect, CatalogReader, DdlMarkerReader {
 
     private static final Logger LOG = LoggerFactory.getLogger(MySqlDialect.class);
 
@@ -34,13 +37,14 @@ public class MySqlDialect implements DatabaseDialect {
 
     private static final String ROUTINE_PARAMS_QUERY = """
         SELECT 
+            SPECIFIC_NAME,
             PARAMETER_NAME,
             DATA_TYPE,
             PARAMETER_MODE,
             ORDINAL_POSITION
         FROM INFORMATION_SCHEMA. PARAMETERS
-        WHERE SPECIFIC_SCHEMA = ?  AND SPECIFIC_NAME = ?
-        ORDER BY ORDINAL_POSITION
+        WHERE SPECIFIC_SCHEMA = ?
+        ORDER BY SPECIFIC_NAME, ORDINAL_POSITION
         """;
 
     private static final String TRIGGERS_QUERY = """
@@ -66,20 +70,196 @@ public class MySqlDialect implements DatabaseDialect {
         """;
 
     private static final String VIEW_COLUMNS_QUERY = """
-        SELECT COLUMN_NAME
-        FROM INFORMATION_SCHEMA. COLUMNS
-        WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?
-        ORDER BY ORDINAL_POSITION
+        SELECT c.TABLE_NAME, c.COLUMN_NAME
+        FROM INFORMATION_SCHEMA.COLUMNS c
+        JOIN INFORMATION_SCHEMA.VIEWS v
+            ON v.TABLE_SCHEMA = c.TABLE_SCHEMA AND v.TABLE_NAME = c.TABLE_NAME
+        WHERE c.TABLE_SCHEMA = ?
+        ORDER BY c.TABLE_NAME, c.ORDINAL_POSITION
         """;
 
+    private static final String TABLES_QUERY = """
+        SELECT TABLE_NAME, ENGINE, TABLE_COMMENT
+        FROM INFORMATION_SCHEMA.TABLES
+        WHERE TABLE_SCHEMA = ?
+        AND TABLE_TYPE = 'BASE TABLE'
+        """;
+
+    private static final String COLUMNS_QUERY = """
+        SELECT
+            TABLE_NAME,
+            COLUMN_NAME,
+            COLUMN_TYPE,
+            IS_NULLABLE,
+            COLUMN_DEFAULT,
+            EXTRA,
+            ORDINAL_POSITION
+        FROM INFORMATION_SCHEMA.COLUMNS
+        WHERE TABLE_SCHEMA = ?
+        """;
+
+    private static final String INDEX_COLUMNS_QUERY = """
+        SELECT TABLE_NAME, INDEX_NAME, NON_UNIQUE, COLUMN_NAME
+        FROM INFORMATION_SCHEMA.STATISTICS
+        WHERE TABLE_SCHEMA = ?
+        ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX
+        """;
+
+    private static final String KEY_COLUMNS_QUERY = """
+        SELECT
+            k.TABLE_NAME,
+            k.CONSTRAINT_NAME,
+            k.COLUMN_NAME,
+            k.REFERENCED_TABLE_NAME,
+            k.REFERENCED_COLUMN_NAME,
+            r.DELETE_RULE,
+            r.UPDATE_RULE
+        FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE k
+        LEFT JOIN INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS r
+            ON r.CONSTRAINT_SCHEMA = k.CONSTRAINT_SCHEMA
+            AND r.TABLE_NAME = k.TABLE_NAME
+            AND r.CONSTRAINT_NAME = k.CONSTRAINT_NAME
+        WHERE k.TABLE_SCHEMA = ?
+        AND (k.CONSTRAINT_NAME = 'PRIMARY' OR k.REFERENCED_TABLE_NAME IS NOT NULL)
+        ORDER BY k.TABLE_NAME, k.CONSTRAINT_NAME, k.ORDINAL_POSITION
+        """;
+
+    /**
+     * DDL markers. CREATE_TIME is kept across the in-place and instant forms of ALTER
+     * TABLE, so table markers add checksums of the columns, indexes and keys. Views
+     * have no timestamps and are marked by a hash of their definition.
+     */
+    private static final String DDL_MARKERS_QUERY = """
+        SELECT
+            'TABLE' AS KIND,
+            t.TABLE_NAME AS NAME,
+            CONCAT_WS('/', t.CREATE_TIME, t.ENGINE, CRC32(t.TABLE_COMMENT),
+                (SELECT SUM(CRC32(CONCAT_WS(',', c.ORDINAL_POSITION, c.COLUMN_NAME, c.COLUMN_TYPE,
+                        c.IS_NULLABLE, c.COLUMN_DEFAULT, c.EXTRA)))
+                 FROM INFORMATION_SCHEMA.COLUMNS c
+                 WHERE c.TABLE_SCHEMA = t.TABLE_SCHEMA AND c.TABLE_NAME = t.TABLE_NAME),
+                (SELECT SUM(CRC32(CONCAT_WS(',', s.INDEX_NAME, s.SEQ_IN_INDEX, s.COLUMN_NAME, s.NON_UNIQUE)))
+                 FROM INFORMATION_SCHEMA.STATISTICS s
+                 WHERE s.TABLE_SCHEMA = t.TABLE_SCHEMA AND s.TABLE_NAME = t.TABLE_NAME),
+                (SELECT SUM(CRC32(CONCAT_WS(',', k.CONSTRAINT_NAME, k.COLUMN_NAME, k.REFERENCED_TABLE_NAME,
+                        k.REFERENCED_COLUMN_NAME)))
+                 FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE k
+                 WHERE k.TABLE_SCHEMA = t.TABLE_SCHEMA AND k.TABLE_NAME = t.TABLE_NAME),
+                (SELECT SUM(CRC32(CONCAT_WS(',', r.CONSTRAINT_NAME, r.UPDATE_RULE, r.DELETE_RULE)))
+                 FROM INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS r
+                 WHERE r.CONSTRAINT_SCHEMA = t.TABLE_SCHEMA AND r.TABLE_NAME = t.TABLE_NAME)) AS MARKER
+        FROM INFORMATION_SCHEMA.TABLES t
+        WHERE t.TABLE_SCHEMA = ?
+        AND t.TABLE_TYPE = 'BASE TABLE'
+        UNION ALL
+        SELECT 'VIEW', TABLE_NAME, MD5(VIEW_DEFINITION)
+        FROM INFORMATION_SCHEMA.VIEWS
+        WHERE TABLE_SCHEMA = ?
+        UNION ALL
+        SELECT 'ROUTINE', CONCAT(ROUTINE_TYPE, ' ', ROUTINE_NAME), CAST(LAST_ALTERED AS CHAR)
+        FROM INFORMATION_SCHEMA.ROUTINES
+        WHERE ROUTINE_SCHEMA = ?
+        UNION ALL
+        SELECT 'TRIGGER', TRIGGER_NAME, CAST(CREATED AS CHAR)
+        FROM INFORMATION_SCHEMA.TRIGGERS
+        WHERE TRIGGER_SCHEMA = ?
+        """;
+
+    /**
+     * Reads all tables with four schema-wide queries: tables, columns, index columns,
+     * and primary and foreign key columns.
+     */
+    @Override
+    public List<TableInfo> readTables(Connection connection, String schema) throws SQLException {
+        CatalogTables tables = new CatalogTables(DatabaseType.MYSQL, schema);
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "tables", TABLES_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tables.table(rs.getString("TABLE_NAME"), rs.getString("ENGINE"), rs.getString("TABLE_COMMENT"));
+                }
+            }
+        }
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "columns", COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String extra = rs.getString("EXTRA");
+                    tables.column(
+                            rs.getString("TABLE_NAME"),
+                            rs.getString("COLUMN_NAME"),
+                            rs.getString("COLUMN_TYPE"),
+                            "YES".equals(rs.getString("IS_NULLABLE")),
+                            rs.getString("COLUMN_DEFAULT"),
+                            extra != null && extra.toLowerCase().contains("auto_increment"),
+                            rs.getInt("ORDINAL_POSITION"));
+                }
+            }
+        }
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "indexColumns",
+                INDEX_COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    // COLUMN_NAME is null for functional key parts, which the driver skips too
+                    tables.indexColumn(rs.getString("TABLE_NAME"), rs.getString("INDEX_NAME"),
+                            rs.getInt("NON_UNIQUE") == 0, false, rs.getString("COLUMN_NAME"));
+                }
+            }
+        }
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "keyColumns",
+                KEY_COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("TABLE_NAME");
+                    String constraint = rs.getString("CONSTRAINT_NAME");
+                    String referencedTable = rs.getString("REFERENCED_TABLE_NAME");
+                    if (referencedTable == null) {
+                        tables.primaryKeyColumn(table, constraint, rs.getString("COLUMN_NAME"));
+                    } else {
+                        tables.foreignKeyColumn(table, constraint, rs.getString("COLUMN_NAME"), referencedTable,
+                                rs.getString("REFERENCED_COLUMN_NAME"),
+                                referentialAction(rs.getString("DELETE_RULE")),
+                                referentialAction(rs.getString("UPDATE_RULE")));
+                    }
+                }
+            }
+        }
+
+        return tables.build();
+    }
+
+    /**
+     * Connector/J reports NO ACTION as RESTRICT, which InnoDB treats the same.
+     */
+    private static String referentialAction(String rule) {
+        return "NO ACTION".equalsIgnoreCase(rule) ? "restrict" : CatalogTables.referentialAction(rule);
+    }
+
+    @Override
+    public DdlMarkers readDdlMarkers(Connection connection, String schema) throws SQLException {
+        return CatalogMarkers.read(connection, DatabaseType.MYSQL, DDL_MARKERS_QUERY, 4, schema);
+    }
+
+    /**
+     * Extracts all routines with two queries: one for the routines and one for the
+     * parameters of the whole schema, grouped per routine in memory.
+     */
     @Override
     public List<RoutineInfo> extractRoutines(Connection connection, String schema) {
         List<RoutineInfo> routines = new ArrayList<>();
+        Map<String, List<ParameterInfo>> paramsByRoutine = extractRoutineParameters(connection, schema);
 
-        try (PreparedStatement stmt = connection.prepareStatement(ROUTINES_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "routines",
+                ROUTINES_QUERY)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("ROUTINE_NAME");
                     String routineSchema = rs.getString("ROUTINE_SCHEMA");
@@ -92,7 +272,7 @@ public class MySqlDialect implements DatabaseDialect {
                             ? RoutineType.PROCEDURE
                             :  RoutineType.FUNCTION;
 
-                    List<ParameterInfo> params = extractRoutineParameters(connection, schema, name);
+                    List<ParameterInfo> params = paramsByRoutine.getOrDefault(name, List.of());
 
                     routines.add(new RoutineInfo(
                             name, routineSchema, type, returnType, params, definition, language
@@ -106,15 +286,20 @@ public class MySqlDialect implements DatabaseDialect {
         return routines;
     }
 
-    private List<ParameterInfo> extractRoutineParameters(Connection connection, String schema, String routineName) {
-        List<ParameterInfo> params = new ArrayList<>();
+    /**
+     * Returns the parameters of every routine in the schema, keyed by routine name
+     * (SPECIFIC_NAME) and ordered by position.
+     */
+    private Map<String, List<ParameterInfo>> extractRoutineParameters(Connection connection, String schema) {
+        Map<String, List<ParameterInfo>> params = new HashMap<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(ROUTINE_PARAMS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "routineParams",
+                ROUTINE_PARAMS_QUERY)) {
             stmt.setString(1, schema);
-            stmt.setString(2, routineName);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
+                    String routineName = rs.getString("SPECIFIC_NAME");
                     String paramName = rs.getString("PARAMETER_NAME");
                     if (paramName == null) continue; // Skip return parameter
 
@@ -128,11 +313,12 @@ public class MySqlDialect implements DatabaseDialect {
                         default -> ParameterInfo.ParameterMode.IN;
                     };
 
-                    params.add(new ParameterInfo(paramName, dataType, mode, position));
+                    params.computeIfAbsent(routineName, k -> new ArrayList<>())
+                            .add(new ParameterInfo(paramName, dataType, mode, position));
                 }
             }
         } catch (SQLException e) {
-            LOG.warn("Failed to extract parameters for routine {}: {}", routineName, e.getMessage());
+            LOG.warn("Failed to extract MySQL routine parameters: {}", e.getMessage());
         }
 
         return params;
@@ -142,10 +328,11 @@ public class MySqlDialect implements DatabaseDialect {
     public List<TriggerInfo> extractTriggers(Connection connection, String schema) {
         List<TriggerInfo> triggers = new ArrayList<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(TRIGGERS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "triggers",
+                TRIGGERS_QUERY)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("TRIGGER_NAME");
                     String tableName = rs.getString("EVENT_OBJECT_TABLE");
@@ -187,20 +374,25 @@ public class MySqlDialect implements DatabaseDialect {
         return List.of();
     }
 
+    /**
+     * Extracts all views with two queries: one for the views and one for the
+     * columns of every view in the schema.
+     */
     @Override
     public List<ViewInfo> extractViews(Connection connection, String schema) {
         List<ViewInfo> views = new ArrayList<>();
+        Map<String, List<String>> columnsByView = extractViewColumns(connection, schema);
 
-        try (PreparedStatement stmt = connection.prepareStatement(VIEWS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "views", VIEWS_QUERY)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("TABLE_NAME");
                     String definition = rs.getString("VIEW_DEFINITION");
                     boolean updatable = "YES".equalsIgnoreCase(rs.getString("IS_UPDATABLE"));
 
-                    List<String> columns = extractViewColumns(connection, schema, name);
+                    List<String> columns = columnsByView.getOrDefault(name, List.of());
 
                     views.add(new ViewInfo(name, schema, columns, definition, updatable));
                 }
@@ -212,20 +404,25 @@ public class MySqlDialect implements DatabaseDialect {
         return views;
     }
 
-    private List<String> extractViewColumns(Connection connection, String schema, String viewName) {
-        List<String> columns = new ArrayList<>();
+    /**
+     * Returns the columns of every view in the schema, keyed by view name and
+     * ordered by position.
+     */
+    private Map<String, List<String>> extractViewColumns(Connection connection, String schema) {
+        Map<String, List<String>> columns = new HashMap<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(VIEW_COLUMNS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.MYSQL, "viewColumns",
+                VIEW_COLUMNS_QUERY)) {
             stmt.setString(1, schema);
-            stmt.setString(2, viewName);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    columns.add(rs.getString("COLUMN_NAME"));
+                    columns.computeIfAbsent(rs.getString("TABLE_NAME"), k -> new ArrayList<>())
+                            .add(rs.getString("COLUMN_NAME"));
                 }
             }
         } catch (SQLException e) {
-            LOG.warn("Failed to extract columns for view {}: {}", viewName, e.getMessage());
+            LOG.warn("Failed to extract MySQL view columns: {}", e.getMessage());
         }
 
         return columns;
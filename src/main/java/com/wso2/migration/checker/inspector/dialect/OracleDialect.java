@@ -1,5 +1,6 @@
 package com.wso2.migration. checker.inspector.dialect;
 
+import com.wso2.migration.checker.container.DatabaseType;
 import com.wso2.migration. checker.model.*;
 import com. wso2.migration.checker. model.RoutineInfo. ParameterInfo;
 import com. wso2.migration.checker. model.RoutineInfo. RoutineType;
@@ -10,13 +11,15 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Oracle-specific dialect for schema extraction.
  * Handles PL/SQL procedures, functions, packages, triggers, and sequences.
  */
-public class OracleDialect implements DatabaseDialect {
+public class OracleDialect implements DatabaseDialect, CatalogReader, DdlMarkerReader {
 
     private static final Logger LOG = LoggerFactory.getLogger(OracleDialect.class);
 
@@ -32,22 +35,24 @@ public class OracleDialect implements DatabaseDialect {
         """;
 
     private static final String ROUTINE_SOURCE_QUERY = """
-        SELECT TEXT
+        SELECT NAME, TYPE, TEXT
         FROM ALL_SOURCE
-        WHERE OWNER = UPPER(?) AND NAME = ?  AND TYPE = ? 
-        ORDER BY LINE
+        WHERE OWNER = UPPER(?)
+        AND TYPE IN ('PROCEDURE', 'FUNCTION', 'PACKAGE', 'PACKAGE BODY')
+        ORDER BY NAME, TYPE, LINE
         """;
 
     private static final String ROUTINE_PARAMS_QUERY = """
         SELECT 
+            OBJECT_NAME,
             ARGUMENT_NAME,
             DATA_TYPE,
             IN_OUT,
             POSITION
         FROM ALL_ARGUMENTS
-        WHERE OWNER = UPPER(?) AND OBJECT_NAME = ?
+        WHERE OWNER = UPPER(?)
         AND ARGUMENT_NAME IS NOT NULL
-        ORDER BY POSITION
+        ORDER BY OBJECT_NAME, POSITION
         """;
 
     private static final String TRIGGERS_QUERY = """
@@ -89,28 +94,211 @@ public class OracleDialect implements DatabaseDialect {
         """;
 
     private static final String VIEW_COLUMNS_QUERY = """
-        SELECT COLUMN_NAME
+        SELECT c.TABLE_NAME, c.COLUMN_NAME
+        FROM ALL_TAB_COLUMNS c
+        JOIN ALL_VIEWS v ON v.OWNER = c.OWNER AND v.VIEW_NAME = c.TABLE_NAME
+        WHERE c.OWNER = UPPER(?)
+        ORDER BY c.TABLE_NAME, c.COLUMN_ID
+        """;
+
+    private static final String TABLES_QUERY = """
+        SELECT TABLE_NAME
+        FROM ALL_TABLES
+        WHERE OWNER = UPPER(?)
+        AND DROPPED = 'NO'
+        AND NESTED = 'NO'
+        AND (IOT_TYPE IS NULL OR IOT_TYPE = 'IOT')
+        """;
+
+    private static final String COLUMNS_QUERY = """
+        SELECT
+            TABLE_NAME,
+            COLUMN_NAME,
+            DATA_TYPE,
+            DATA_LENGTH,
+            CHAR_LENGTH,
+            DATA_PRECISION,
+            DATA_SCALE,
+            NULLABLE,
+            DATA_DEFAULT_VC,
+            IDENTITY_COLUMN,
+            COLUMN_ID
         FROM ALL_TAB_COLUMNS
-        WHERE OWNER = UPPER(?) AND TABLE_NAME = ?
-        ORDER BY COLUMN_ID
+        WHERE OWNER = UPPER(?)
+        """;
+
+    private static final String INDEX_COLUMNS_QUERY = """
+        SELECT i.TABLE_NAME, i.INDEX_NAME, i.UNIQUENESS, c.COLUMN_NAME
+        FROM ALL_INDEXES i
+        JOIN ALL_IND_COLUMNS c ON c.INDEX_OWNER = i.OWNER AND c.INDEX_NAME = i.INDEX_NAME
+        WHERE i.TABLE_OWNER = UPPER(?)
+        ORDER BY i.TABLE_NAME, i.INDEX_NAME, c.COLUMN_POSITION
+        """;
+
+    private static final String KEY_COLUMNS_QUERY = """
+        SELECT
+            k.TABLE_NAME,
+            k.CONSTRAINT_NAME,
+            k.CONSTRAINT_TYPE,
+            k.DELETE_RULE,
+            c.COLUMN_NAME,
+            r.TABLE_NAME AS REFERENCED_TABLE_NAME,
+            rc.COLUMN_NAME AS REFERENCED_COLUMN_NAME
+        FROM ALL_CONSTRAINTS k
+        JOIN ALL_CONS_COLUMNS c ON c.OWNER = k.OWNER AND c.CONSTRAINT_NAME = k.CONSTRAINT_NAME
+        LEFT JOIN ALL_CONSTRAINTS r ON r.OWNER = k.R_OWNER AND r.CONSTRAINT_NAME = k.R_CONSTRAINT_NAME
+        LEFT JOIN ALL_CONS_COLUMNS rc ON rc.OWNER = r.OWNER AND rc.CONSTRAINT_NAME = r.CONSTRAINT_NAME
+            AND rc.POSITION = c.POSITION
+        WHERE k.OWNER = UPPER(?)
+        AND k.CONSTRAINT_TYPE IN ('P', 'R')
+        ORDER BY k.TABLE_NAME, k.CONSTRAINT_NAME, c.POSITION
+        """;
+
+    /**
+     * DDL markers from LAST_DDL_TIME. Indexes are objects of their own, so their times
+     * are added to the markers of their tables.
+     */
+    private static final String DDL_MARKERS_QUERY = """
+        SELECT
+            CASE WHEN o.OBJECT_TYPE IN ('TABLE', 'VIEW', 'TRIGGER', 'SEQUENCE') THEN o.OBJECT_TYPE
+                 ELSE 'ROUTINE' END AS KIND,
+            CASE WHEN o.OBJECT_TYPE IN ('TABLE', 'VIEW', 'TRIGGER', 'SEQUENCE') THEN o.OBJECT_NAME
+                 ELSE o.OBJECT_TYPE || ' ' || o.OBJECT_NAME END AS NAME,
+            TO_CHAR(o.LAST_DDL_TIME, 'YYYY-MM-DD HH24:MI:SS') AS MARKER
+        FROM ALL_OBJECTS o
+        WHERE o.OWNER = UPPER(?)
+        AND o.OBJECT_TYPE IN ('TABLE', 'VIEW', 'PROCEDURE', 'FUNCTION', 'PACKAGE', 'PACKAGE BODY',
+                              'TRIGGER', 'SEQUENCE')
+        UNION ALL
+        SELECT 'TABLE', i.TABLE_NAME, i.INDEX_NAME || ' ' || TO_CHAR(o.LAST_DDL_TIME, 'YYYY-MM-DD HH24:MI:SS')
+        FROM ALL_INDEXES i
+        JOIN ALL_OBJECTS o ON o.OWNER = i.OWNER AND o.OBJECT_NAME = i.INDEX_NAME AND o.OBJECT_TYPE = 'INDEX'
+        WHERE i.TABLE_OWNER = UPPER(?)
         """;
 
+    /**
+     * Reads all tables with four owner-wide dictionary queries: tables, columns,
+     * index columns, and primary and foreign key columns.
+     */
+    @Override
+    public List<TableInfo> readTables(Connection connection, String schema) throws SQLException {
+        CatalogTables tables = new CatalogTables(DatabaseType.ORACLE, schema);
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "tables", TABLES_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    // The driver reports no remarks unless remarksReporting is set
+                    tables.table(rs.getString("TABLE_NAME"), "", "");
+                }
+            }
+        }
+
+        // DATA_DEFAULT_VC rather than the LONG DATA_DEFAULT, which makes the driver
+        // fetch one row per round trip
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "columns", COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tables.column(
+                            rs.getString("TABLE_NAME"),
+                            rs.getString("COLUMN_NAME"),
+                            declaredType(rs),
+                            "Y".equals(rs.getString("NULLABLE")),
+                            rs.getString("DATA_DEFAULT_VC"),
+                            "YES".equals(rs.getString("IDENTITY_COLUMN")),
+                            rs.getInt("COLUMN_ID"));
+                }
+            }
+        }
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "indexColumns",
+                INDEX_COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tables.indexColumn(rs.getString("TABLE_NAME"), rs.getString("INDEX_NAME"),
+                            "UNIQUE".equals(rs.getString("UNIQUENESS")), false, rs.getString("COLUMN_NAME"));
+                }
+            }
+        }
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "keyColumns",
+                KEY_COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("TABLE_NAME");
+                    String constraint = rs.getString("CONSTRAINT_NAME");
+                    if ("P".equals(rs.getString("CONSTRAINT_TYPE"))) {
+                        tables.primaryKeyColumn(table, constraint, rs.getString("COLUMN_NAME"));
+                    } else {
+                        // Oracle has no ON UPDATE actions
+                        tables.foreignKeyColumn(table, constraint, rs.getString("COLUMN_NAME"),
+                                rs.getString("REFERENCED_TABLE_NAME"), rs.getString("REFERENCED_COLUMN_NAME"),
+                                CatalogTables.referentialAction(rs.getString("DELETE_RULE")), "noAction");
+                    }
+                }
+            }
+        }
+
+        return tables.build();
+    }
+
+    @Override
+    public DdlMarkers readDdlMarkers(Connection connection, String schema) throws SQLException {
+        return CatalogMarkers.read(connection, DatabaseType.ORACLE, DDL_MARKERS_QUERY, 2, schema);
+    }
+
+    /**
+     * Rebuilds the declared type of a column from ALL_TAB_COLUMNS. Character lengths
+     * are in characters, as the driver reports them; NUMBER without a precision is
+     * NUMBER(*,scale).
+     */
+    private static String declaredType(CatalogResultSet rs) throws SQLException {
+        String dataType = rs.getString("DATA_TYPE");
+        int precision = rs.getInt("DATA_PRECISION");
+        boolean hasPrecision = !rs.wasNull();
+        int scale = rs.getInt("DATA_SCALE");
+        boolean hasScale = !rs.wasNull();
+
+        return switch (dataType) {
+            case "VARCHAR2", "NVARCHAR2", "CHAR", "NCHAR" -> {
+                int charLength = rs.getInt("CHAR_LENGTH");
+                yield dataType + "(" + (charLength > 0 ? charLength : rs.getInt("DATA_LENGTH")) + ")";
+            }
+            case "RAW" -> "RAW(" + rs.getInt("DATA_LENGTH") + ")";
+            case "NUMBER" -> hasPrecision ? "NUMBER(" + precision + "," + scale + ")"
+                    : hasScale ? "NUMBER(*," + scale + ")"
+                    : "NUMBER";
+            case "FLOAT" -> hasPrecision ? "FLOAT(" + precision + ")" : "FLOAT";
+            default -> dataType;
+        };
+    }
+
+    /**
+     * Extracts all routines with three queries: the routine list, the source of every
+     * routine in the schema and the arguments of every routine in the schema.
+     */
     @Override
     public List<RoutineInfo> extractRoutines(Connection connection, String schema) {
         List<RoutineInfo> routines = new ArrayList<>();
+        Map<String, String> sources = extractRoutineSources(connection, schema);
+        Map<String, List<ParameterInfo>> paramsByRoutine = extractRoutineParameters(connection, schema);
 
-        try (PreparedStatement stmt = connection.prepareStatement(ROUTINES_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "routines",
+                ROUTINES_QUERY)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("OBJECT_NAME");
                     String owner = rs.getString("OWNER");
                     String typeStr = rs.getString("OBJECT_TYPE");
 
                     RoutineType type = parseRoutineType(typeStr);
-                    String definition = getRoutineSource(connection, owner, name, typeStr);
-                    List<ParameterInfo> params = extractRoutineParameters(connection, owner, name);
+                    String definition = sources.getOrDefault(sourceKey(name, typeStr), "");
+                    List<ParameterInfo> params = paramsByRoutine.getOrDefault(name, List.of());
 
                     routines.add(new RoutineInfo(
                             name, owner, type, null, params, definition, "PL/SQL"
@@ -134,35 +322,64 @@ public class OracleDialect implements DatabaseDialect {
         };
     }
 
-    private String getRoutineSource(Connection connection, String owner, String name, String type) {
-        StringBuilder source = new StringBuilder();
+    /**
+     * Streams ALL_SOURCE for the whole owner and joins the lines of each routine,
+     * keyed by {@link #sourceKey}. The rows arrive grouped by routine, so one builder
+     * is reused for every definition.
+     */
+    private Map<String, String> extractRoutineSources(Connection connection, String owner) {
+        Map<String, String> sources = new HashMap<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(ROUTINE_SOURCE_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "routineSource",
+                ROUTINE_SOURCE_QUERY)) {
             stmt.setString(1, owner);
-            stmt.setString(2, name);
-            stmt.setString(3, type);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                StringBuilder source = new StringBuilder();
+                String currentKey = null;
                 while (rs.next()) {
-                    source.append(rs.getString("TEXT"));
+                    String key = sourceKey(rs.getString("NAME"), rs.getString("TYPE"));
+                    if (!key.equals(currentKey)) {
+                        if (currentKey != null) {
+                            sources.put(currentKey, source.toString());
+                        }
+                        source.setLength(0);
+                        currentKey = key;
+                    }
+                    String text = rs.getString("TEXT");
+                    if (text != null) {
+                        source.append(text);
+                    }
+                }
+                if (currentKey != null) {
+                    sources.put(currentKey, source.toString());
                 }
             }
         } catch (SQLException e) {
-            LOG.warn("Failed to get source for {}.{}:  {}", owner, name, e. getMessage());
+            LOG.warn("Failed to get Oracle routine source: {}", e.getMessage());
         }
 
-        return source.toString();
+        return sources;
+    }
+
+    private static String sourceKey(String name, String type) {
+        return name + '\0' + type;
     }
 
-    private List<ParameterInfo> extractRoutineParameters(Connection connection, String owner, String routineName) {
-        List<ParameterInfo> params = new ArrayList<>();
+    /**
+     * Returns the arguments of every routine in the schema, keyed by OBJECT_NAME and
+     * ordered by position.
+     */
+    private Map<String, List<ParameterInfo>> extractRoutineParameters(Connection connection, String owner) {
+        Map<String, List<ParameterInfo>> params = new HashMap<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(ROUTINE_PARAMS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "routineParams",
+                ROUTINE_PARAMS_QUERY)) {
             stmt.setString(1, owner);
-            stmt.setString(2, routineName);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
+                    String routineName = rs.getString("OBJECT_NAME");
                     String paramName = rs.getString("ARGUMENT_NAME");
                     String dataType = rs.getString("DATA_TYPE");
                     String inOut = rs.getString("IN_OUT");
@@ -174,11 +391,12 @@ public class OracleDialect implements DatabaseDialect {
                         default -> ParameterInfo.ParameterMode. IN;
                     };
 
-                    params.add(new ParameterInfo(paramName, dataType, mode, position));
+                    params.computeIfAbsent(routineName, k -> new ArrayList<>())
+                            .add(new ParameterInfo(paramName, dataType, mode, position));
                 }
             }
         } catch (SQLException e) {
-            LOG.warn("Failed to extract parameters for routine {}: {}", routineName, e.getMessage());
+            LOG.warn("Failed to extract Oracle routine parameters: {}", e.getMessage());
         }
 
         return params;
@@ -188,10 +406,11 @@ public class OracleDialect implements DatabaseDialect {
     public List<TriggerInfo> extractTriggers(Connection connection, String schema) {
         List<TriggerInfo> triggers = new ArrayList<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(TRIGGERS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "triggers",
+                TRIGGERS_QUERY)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt. executeQuery()) {
+            try (CatalogResultSet rs = stmt. executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("TRIGGER_NAME");
                     String tableName = rs.getString("TABLE_NAME");
@@ -245,10 +464,11 @@ public class OracleDialect implements DatabaseDialect {
     public List<SequenceInfo> extractSequences(Connection connection, String schema) {
         List<SequenceInfo> sequences = new ArrayList<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(SEQUENCES_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "sequences",
+                SEQUENCES_QUERY)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("SEQUENCE_NAME");
                     String owner = rs. getString("SEQUENCE_OWNER");
@@ -270,20 +490,25 @@ public class OracleDialect implements DatabaseDialect {
         return sequences;
     }
 
+    /**
+     * Extracts all views with two queries: one for the views and one for the
+     * columns of every view in the schema.
+     */
     @Override
     public List<ViewInfo> extractViews(Connection connection, String schema) {
         List<ViewInfo> views = new ArrayList<>();
+        Map<String, List<String>> columnsByView = extractViewColumns(connection, schema);
 
-        try (PreparedStatement stmt = connection.prepareStatement(VIEWS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "views", VIEWS_QUERY)) {
             stmt.setString(1, schema);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("VIEW_NAME");
                     String owner = rs.getString("OWNER");
                     String definition = rs.getString("TEXT");
 
-                    List<String> columns = extractViewColumns(connection, owner, name);
+                    List<String> columns = columnsByView.getOrDefault(name, List.of());
 
                     views.add(new ViewInfo(name, owner, columns, definition, false));
                 }
@@ -295,20 +520,25 @@ public class OracleDialect implements DatabaseDialect {
         return views;
     }
 
-    private List<String> extractViewColumns(Connection connection, String owner, String viewName) {
-        List<String> columns = new ArrayList<>();
+    /**
+     * Returns the columns of every view in the schema, keyed by view name and
+     * ordered by column id.
+     */
+    private Map<String, List<String>> extractViewColumns(Connection connection, String owner) {
+        Map<String, List<String>> columns = new HashMap<>();
 
-        try (PreparedStatement stmt = connection.prepareStatement(VIEW_COLUMNS_QUERY)) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.ORACLE, "viewColumns",
+                VIEW_COLUMNS_QUERY)) {
             stmt.setString(1, owner);
-            stmt.setString(2, viewName);
 
-            try (ResultSet rs = stmt.executeQuery()) {
+            try (CatalogResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    columns.add(rs.getString("COLUMN_NAME"));
+                    columns.computeIfAbsent(rs.getString("TABLE_NAME"), k -> new ArrayList<>())
+                            .add(rs.getString("COLUMN_NAME"));
                 }
             }
         } catch (SQLException e) {
-            LOG.warn("Failed to extract columns for view {}: {}", viewName, e.getMessage());
+            LOG.warn("Failed to extract Oracle view columns: {}", e.getMessage());
         }
 
         return columns;
@@ -0,0 +1,507 @@
+package com.wso2.migration.checker.inspector.dialect;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.model.*;
+import com.wso2.migration.checker.model.RoutineInfo.ParameterInfo;
+import com.wso2.migration.checker.model.RoutineInfo.RoutineType;
+import com.wso2.migration.checker.model.TriggerInfo.TriggerEvent;
+import com.wso2.migration.checker.model.TriggerInfo.TriggerTiming;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL-specific dialect for schema extraction. Reads pg_catalog with one query
+ * per object type. The schema name is the comma-separated search path (see
+ * {@link #getDefaultSchema}), so every schema on it is extracted.
+ */
+public class PostgreSqlDialect implements DatabaseDialect, CatalogReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgreSqlDialect.class);
+
+    private static final String SEARCH_PATH_QUERY = "SELECT array_to_string(current_schemas(false), ',')";
+
+    // pg_trigger.tgtype bits
+    private static final int TRIGGER_BEFORE = 1 << 1;
+    private static final int TRIGGER_INSERT = 1 << 2;
+    private static final int TRIGGER_DELETE = 1 << 3;
+    private static final int TRIGGER_UPDATE = 1 << 4;
+    private static final int TRIGGER_INSTEAD = 1 << 6;
+
+    /**
+     * Schemas on the search path, bound as the comma-separated schema name.
+     */
+    private static final String IN_SCHEMAS = "n.nspname = ANY(string_to_array(?, ','))";
+
+    /**
+     * Type name of pg_type {@code t} as INFORMATION_SCHEMA reports it: the SQL name for
+     * built-in types, ARRAY and USER-DEFINED otherwise.
+     */
+    private static final String DATA_TYPE = """
+        CASE WHEN t.typelem <> 0 AND t.typlen = -1 THEN 'ARRAY'
+             WHEN t.typnamespace = 'pg_catalog'::regnamespace THEN format_type(t.oid, NULL)
+             ELSE 'USER-DEFINED' END""";
+
+    /**
+     * Routines with their argument names, modes and types as arrays, so parameters
+     * need no query of their own. Functions created by extensions are left out.
+     */
+    private static final String ROUTINES_QUERY = """
+        SELECT
+            p.proname,
+            n.nspname,
+            p.prokind,
+            (SELECT %1$s FROM pg_type t WHERE t.oid = p.prorettype) AS return_type,
+            p.prosrc,
+            upper(l.lanname) AS language,
+            p.proargnames,
+            p.proargmodes::text[] AS proargmodes,
+            ARRAY(
+                SELECT %1$s
+                FROM unnest(COALESCE(p.proallargtypes, p.proargtypes::oid[])) WITH ORDINALITY AS a(type_oid, position)
+                JOIN pg_type t ON t.oid = a.type_oid
+                ORDER BY a.position
+            ) AS arg_types
+        FROM pg_proc p
+        JOIN pg_namespace n ON n.oid = p.pronamespace
+        JOIN pg_language l ON l.oid = p.prolang
+        WHERE %2$s
+        AND p.prokind IN ('f', 'p')
+        AND NOT EXISTS (
+            SELECT 1 FROM pg_depend d
+            WHERE d.classid = 'pg_proc'::regclass AND d.objid = p.oid AND d.deptype = 'e'
+        )
+        ORDER BY p.proname
+        """.formatted(DATA_TYPE, IN_SCHEMAS);
+
+    private static final String TRIGGERS_QUERY = """
+        SELECT
+            tg.tgname,
+            c.relname,
+            tg.tgtype,
+            tg.tgenabled,
+            pg_get_triggerdef(tg.oid) AS definition
+        FROM pg_trigger tg
+        JOIN pg_class c ON c.oid = tg.tgrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE %s
+        AND NOT tg.tgisinternal
+        ORDER BY tg.tgname
+        """.formatted(IN_SCHEMAS);
+
+    private static final String SEQUENCES_QUERY = """
+        SELECT
+            sequencename,
+            schemaname,
+            start_value,
+            increment_by,
+            min_value,
+            max_value,
+            cycle,
+            cache_size
+        FROM pg_sequences
+        WHERE schemaname = ANY(string_to_array(?, ','))
+        ORDER BY sequencename
+        """;
+
+    private static final String VIEWS_QUERY = """
+        SELECT
+            c.relname,
+            n.nspname,
+            pg_get_viewdef(c.oid) AS definition,
+            (pg_relation_is_updatable(c.oid::regclass, false) & 20) = 20 AS is_updatable,
+            ARRAY(
+                SELECT a.attname
+                FROM pg_attribute a
+                WHERE a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped
+                ORDER BY a.attnum
+            ) AS columns
+        FROM pg_class c
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE %s
+        AND c.relkind = 'v'
+        ORDER BY c.relname
+        """.formatted(IN_SCHEMAS);
+
+    /**
+     * Base tables visible on the search path; a table shadowed by one of the same name
+     * in an earlier schema is left out, as unqualified names would not reach it.
+     */
+    private static final String VISIBLE_TABLES = IN_SCHEMAS + " AND c.relkind = 'r' AND pg_table_is_visible(c.oid)";
+
+    private static final String TABLES_QUERY = """
+        SELECT c.relname, n.nspname, obj_description(c.oid, 'pg_class') AS remarks
+        FROM pg_class c
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE %s
+        """.formatted(VISIBLE_TABLES);
+
+    private static final String COLUMNS_QUERY = """
+        SELECT
+            c.relname,
+            a.attname,
+            format_type(a.atttypid, a.atttypmod) AS declared_type,
+            a.attnotnull,
+            pg_get_expr(d.adbin, d.adrelid) AS default_value,
+            a.attidentity,
+            row_number() OVER (PARTITION BY a.attrelid ORDER BY a.attnum) AS ordinal_position
+        FROM pg_attribute a
+        JOIN pg_class c ON c.oid = a.attrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        LEFT JOIN pg_attrdef d ON d.adrelid = a.attrelid AND d.adnum = a.attnum
+        WHERE %s
+        AND a.attnum > 0
+        AND NOT a.attisdropped
+        """.formatted(VISIBLE_TABLES);
+
+    private static final String INDEX_COLUMNS_QUERY = """
+        SELECT
+            c.relname AS table_name,
+            i.relname AS index_name,
+            x.indisunique,
+            x.indisclustered,
+            a.attname
+        FROM pg_index x
+        JOIN pg_class c ON c.oid = x.indrelid
+        JOIN pg_class i ON i.oid = x.indexrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        CROSS JOIN LATERAL unnest(x.indkey::int2[]) WITH ORDINALITY AS k(attnum, position)
+        LEFT JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum = k.attnum
+        WHERE %s
+        AND k.position <= x.indnkeyatts
+        ORDER BY c.relname, i.relname, k.position
+        """.formatted(VISIBLE_TABLES);
+
+    private static final String KEY_COLUMNS_QUERY = """
+        SELECT
+            c.relname AS table_name,
+            con.conname,
+            con.contype,
+            a.attname,
+            rc.relname AS referenced_table,
+            ra.attname AS referenced_column,
+            con.confdeltype,
+            con.confupdtype
+        FROM pg_constraint con
+        JOIN pg_class c ON c.oid = con.conrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        CROSS JOIN LATERAL unnest(con.conkey) WITH ORDINALITY AS k(attnum, position)
+        JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = k.attnum
+        LEFT JOIN pg_class rc ON rc.oid = con.confrelid
+        LEFT JOIN pg_attribute ra ON ra.attrelid = con.confrelid AND ra.attnum = con.confkey[k.position]
+        WHERE %s
+        AND con.contype IN ('p', 'f')
+        ORDER BY c.relname, con.conname, k.position
+        """.formatted(VISIBLE_TABLES);
+
+    /**
+     * Extracts all routines with one query; parameters are read from the argument
+     * arrays of each routine.
+     */
+    @Override
+    public List<RoutineInfo> extractRoutines(Connection connection, String schema) {
+        List<RoutineInfo> routines = new ArrayList<>();
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "routines",
+                ROUTINES_QUERY)) {
+            stmt.setString(1, schema);
+
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    RoutineType type = "p".equals(rs.getString("prokind"))
+                            ? RoutineType.PROCEDURE
+                            : RoutineType.FUNCTION;
+
+                    routines.add(new RoutineInfo(
+                            rs.getString("proname"),
+                            rs.getString("nspname"),
+                            type,
+                            type == RoutineType.FUNCTION ? rs.getString("return_type") : null,
+                            parameters(rs),
+                            rs.getString("prosrc"),
+                            rs.getString("language")
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            LOG.warn("Failed to extract PostgreSQL routines: {}", e.getMessage());
+        }
+
+        return routines;
+    }
+
+    /**
+     * Builds the named parameters of a routine from proargnames, proargmodes (null
+     * when all arguments are IN) and the argument types. RETURNS TABLE columns are
+     * part of the return type, not parameters.
+     */
+    private List<ParameterInfo> parameters(CatalogResultSet rs) throws SQLException {
+        String[] names = rs.getStringArray("proargnames");
+        String[] modes = rs.getStringArray("proargmodes");
+        String[] types = rs.getStringArray("arg_types");
+        if (types == null) {
+            return List.of();
+        }
+
+        List<ParameterInfo> params = new ArrayList<>();
+        for (int i = 0; i < types.length; i++) {
+            String mode = modes != null && i < modes.length ? modes[i] : "i";
+            String name = names != null && i < names.length ? names[i] : null;
+            if ("t".equals(mode) || name == null || name.isEmpty()) continue;
+
+            ParameterInfo.ParameterMode parameterMode = switch (mode) {
+                case "o" -> ParameterInfo.ParameterMode.OUT;
+                case "b" -> ParameterInfo.ParameterMode.INOUT;
+                default -> ParameterInfo.ParameterMode.IN; // i, v (VARIADIC)
+            };
+            params.add(new ParameterInfo(name, types[i], parameterMode, params.size() + 1));
+        }
+        return params;
+    }
+
+    @Override
+    public List<TriggerInfo> extractTriggers(Connection connection, String schema) {
+        List<TriggerInfo> triggers = new ArrayList<>();
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "triggers",
+                TRIGGERS_QUERY)) {
+            stmt.setString(1, schema);
+
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int tgtype = rs.getInt("tgtype");
+
+                    triggers.add(new TriggerInfo(
+                            rs.getString("tgname"),
+                            rs.getString("relname"),
+                            parseTriggerTiming(tgtype),
+                            parseTriggerEvent(tgtype),
+                            triggerAction(rs.getString("definition")),
+                            !"D".equals(rs.getString("tgenabled"))
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            LOG.warn("Failed to extract PostgreSQL triggers: {}", e.getMessage());
+        }
+
+        return triggers;
+    }
+
+    /**
+     * Returns the EXECUTE FUNCTION clause of a pg_get_triggerdef result, the part
+     * INFORMATION_SCHEMA.TRIGGERS reports as ACTION_STATEMENT.
+     */
+    private String triggerAction(String definition) {
+        if (definition == null) return null;
+        int execute = definition.indexOf(" EXECUTE ");
+        return execute >= 0 ? definition.substring(execute + 1) : definition;
+    }
+
+    private TriggerTiming parseTriggerTiming(int tgtype) {
+        if ((tgtype & TRIGGER_INSTEAD) != 0) return TriggerTiming.INSTEAD_OF;
+        if ((tgtype & TRIGGER_BEFORE) != 0) return TriggerTiming.BEFORE;
+        return TriggerTiming.AFTER;
+    }
+
+    private TriggerEvent parseTriggerEvent(int tgtype) {
+        boolean hasInsert = (tgtype & TRIGGER_INSERT) != 0;
+        boolean hasUpdate = (tgtype & TRIGGER_UPDATE) != 0;
+        boolean hasDelete = (tgtype & TRIGGER_DELETE) != 0;
+
+        if (hasInsert && hasUpdate && hasDelete) return TriggerEvent.INSERT_UPDATE_DELETE;
+        if (hasInsert && hasUpdate) return TriggerEvent.INSERT_UPDATE;
+        if (hasInsert && hasDelete) return TriggerEvent.INSERT_DELETE;
+        if (hasUpdate && hasDelete) return TriggerEvent.UPDATE_DELETE;
+        if (hasUpdate) return TriggerEvent.UPDATE;
+        if (hasDelete) return TriggerEvent.DELETE;
+        return TriggerEvent.INSERT;
+    }
+
+    @Override
+    public List<SequenceInfo> extractSequences(Connection connection, String schema) {
+        List<SequenceInfo> sequences = new ArrayList<>();
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "sequences",
+                SEQUENCES_QUERY)) {
+            stmt.setString(1, schema);
+
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    sequences.add(new SequenceInfo(
+                            rs.getString("sequencename"),
+                            rs.getString("schemaname"),
+                            rs.getLong("start_value"),
+                            rs.getLong("increment_by"),
+                            rs.getLong("min_value"),
+                            rs.getLong("max_value"),
+                            rs.getBoolean("cycle"),
+                            rs.getInt("cache_size")
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            LOG.warn("Failed to extract PostgreSQL sequences: {}", e.getMessage());
+        }
+
+        return sequences;
+    }
+
+    /**
+     * Extracts all views with one query, their columns collected into an array.
+     */
+    @Override
+    public List<ViewInfo> extractViews(Connection connection, String schema) {
+        List<ViewInfo> views = new ArrayList<>();
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "views", VIEWS_QUERY)) {
+            stmt.setString(1, schema);
+
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String[] columns = rs.getStringArray("columns");
+                    String definition = rs.getString("definition");
+
+                    views.add(new ViewInfo(
+                            rs.getString("relname"),
+                            rs.getString("nspname"),
+                            columns != null ? List.of(columns) : List.of(),
+                            definition != null ? definition.strip() : null,
+                            rs.getBoolean("is_updatable")
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            LOG.warn("Failed to extract PostgreSQL views: {}", e.getMessage());
+        }
+
+        return views;
+    }
+
+    /**
+     * Reads all tables visible on the search path with four queries: tables, columns,
+     * index columns, and primary and foreign key columns.
+     */
+    @Override
+    public List<TableInfo> readTables(Connection connection, String schema) throws SQLException {
+        CatalogTables tables = new CatalogTables(DatabaseType.POSTGRESQL, schema);
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "tables",
+                TABLES_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tables.table(rs.getString("relname"), rs.getString("nspname"), "", rs.getString("remarks"));
+                }
+            }
+        }
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "columns",
+                COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String declaredType = rs.getString("declared_type");
+                    String defaultValue = rs.getString("default_value");
+                    String serialType = serialType(declaredType, defaultValue);
+                    String identity = rs.getString("attidentity");
+
+                    tables.column(
+                            rs.getString("relname"),
+                            rs.getString("attname"),
+                            serialType != null ? serialType : declaredType,
+                            !rs.getBoolean("attnotnull"),
+                            defaultValue,
+                            serialType != null || (identity != null && !identity.isBlank()),
+                            rs.getInt("ordinal_position"));
+                }
+            }
+        }
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "indexColumns",
+                INDEX_COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    // attname is null for expression key parts
+                    tables.indexColumn(rs.getString("table_name"), rs.getString("index_name"),
+                            rs.getBoolean("indisunique"), rs.getBoolean("indisclustered"), rs.getString("attname"));
+                }
+            }
+        }
+
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "keyColumns",
+                KEY_COLUMNS_QUERY)) {
+            stmt.setString(1, schema);
+            try (CatalogResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table_name");
+                    String constraint = rs.getString("conname");
+                    if ("p".equals(rs.getString("contype"))) {
+                        tables.primaryKeyColumn(table, constraint, rs.getString("attname"));
+                    } else {
+                        tables.foreignKeyColumn(table, constraint, rs.getString("attname"),
+                                rs.getString("referenced_table"), rs.getString("referenced_column"),
+                                referentialAction(rs.getString("confdeltype")),
+                                referentialAction(rs.getString("confupdtype")));
+                    }
+                }
+            }
+        }
+
+        return tables.build();
+    }
+
+    /**
+     * The driver reports integer columns fed by a sequence as serial types.
+     */
+    private static String serialType(String declaredType, String defaultValue) {
+        if (defaultValue == null || !defaultValue.startsWith("nextval(")) {
+            return null;
+        }
+        return switch (declaredType) {
+            case "integer" -> "serial";
+            case "bigint" -> "bigserial";
+            case "smallint" -> "smallserial";
+            default -> null;
+        };
+    }
+
+    /**
+     * Maps pg_constraint.confdeltype / confupdtype to SchemaCrawler's rule names.
+     */
+    private static String referentialAction(String action) {
+        return switch (action) {
+            case "a" -> "noAction";
+            case "r" -> "restrict";
+            case "c" -> "cascade";
+            case "n" -> "setNull";
+            case "d" -> "setDefault";
+            default -> "unknown";
+        };
+    }
+
+    /**
+     * Returns the schemas on the connection's search path, comma-separated, so the
+     * extract methods read every one of them.
+     */
+    @Override
+    public String getDefaultSchema(Connection connection) {
+        try (CatalogStatement stmt = CatalogFetch.prepare(connection, DatabaseType.POSTGRESQL, "searchPath",
+                SEARCH_PATH_QUERY);
+             CatalogResultSet rs = stmt.executeQuery()) {
+            if (rs.next()) {
+                String searchPath = rs.getString(1);
+                if (searchPath != null && !searchPath.isEmpty()) {
+                    return searchPath;
+                }
+            }
+        } catch (SQLException e) {
+            LOG.debug("Could not read the PostgreSQL search path: {}", e.getMessage());
+        }
+        return "public";
+    }
+}
@@ -0,0 +1,319 @@
+package com.wso2.migration.checker.inspector.offline;
+
+import com.wso2.migration.checker.container.DatabaseType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps data types as written in DDL to the type name, size and scale that the
+ * JDBC driver of each engine reports, so offline snapshots line up with the
+ * ones captured from a container. The native catalog reader resolves the
+ * column types it reads the same way.
+ */
+public final class DataTypes {
+
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    /**
+     * A data type as written in the DDL.
+     *
+     * @param name     upper-cased base name, multi-word names joined by a single space
+     * @param args     arguments inside the parentheses, upper-cased
+     * @param suffix   upper-cased modifiers after the arguments (UNSIGNED, WITH TIME ZONE, ...)
+     * @param array    true for PostgreSQL array types
+     */
+    record TypeSpec(String name, List<String> args, String suffix, boolean array) {
+
+        int intArg(int index, int fallback) {
+            if (args.size() <= index) return fallback;
+            String value = args.get(index).split("\\s+")[0];
+            if (value.equals("MAX")) return -1;
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                return fallback;
+            }
+        }
+
+        boolean unsigned() {
+            return suffix.contains("UNSIGNED");
+        }
+    }
+
+    /**
+     * The column type as reported by the driver.
+     */
+    public record ResolvedType(String name, int size, int scale) {}
+
+    private DataTypes() {
+        // Utility class
+    }
+
+    /**
+     * Resolves a column type as the catalog declares it, e.g. MySQL's COLUMN_TYPE
+     * ({@code int unsigned}, {@code varchar(255)}).
+     *
+     * @param identity true for MSSQL identity columns
+     */
+    public static ResolvedType resolveDeclared(DatabaseType type, String declaredType, boolean identity) {
+        return resolve(type, DdlStatementParser.parseType(type, declaredType), identity);
+    }
+
+    static ResolvedType resolve(DatabaseType type, TypeSpec spec, boolean identity) {
+        return switch (type) {
+            case MYSQL -> mysql(spec);
+            case ORACLE -> oracle(spec);
+            case MSSQL -> mssql(spec, identity);
+            case POSTGRESQL -> postgres(spec);
+        };
+    }
+
+    private static ResolvedType mysql(TypeSpec spec) {
+        boolean unsigned = spec.unsigned();
+        String suffix = unsigned ? " UNSIGNED" : "";
+
+        return switch (spec.name()) {
+            case "BOOL", "BOOLEAN" -> new ResolvedType("BIT", 1, 0);
+            case "TINYINT" -> spec.intArg(0, 0) == 1 && !unsigned
+                    ? new ResolvedType("BIT", 1, 0)
+                    : new ResolvedType("TINYINT" + suffix, 3, 0);
+            case "SMALLINT" -> new ResolvedType("SMALLINT" + suffix, 5, 0);
+            case "MEDIUMINT" -> new ResolvedType("MEDIUMINT" + suffix, unsigned ? 8 : 7, 0);
+            case "INT", "INTEGER" -> new ResolvedType("INT" + suffix, 10, 0);
+            case "BIGINT" -> new ResolvedType("BIGINT" + suffix, unsigned ? 20 : 19, 0);
+            case "SERIAL" -> new ResolvedType("BIGINT UNSIGNED", 20, 0);
+            case "DECIMAL", "DEC", "NUMERIC", "FIXED" ->
+                    new ResolvedType("DECIMAL" + suffix, spec.intArg(0, 10), spec.intArg(1, 0));
+            case "FLOAT" -> new ResolvedType("FLOAT" + suffix, 12, 0);
+            case "DOUBLE", "DOUBLE PRECISION", "REAL" -> new ResolvedType("DOUBLE" + suffix, 22, 0);
+            case "BIT" -> new ResolvedType("BIT", spec.intArg(0, 1), 0);
+            case "CHAR", "CHARACTER", "NCHAR", "NATIONAL CHAR", "NATIONAL CHARACTER" ->
+                    new ResolvedType("CHAR", spec.intArg(0, 1), 0);
+            case "VARCHAR", "CHARACTER VARYING", "CHAR VARYING", "NVARCHAR", "NATIONAL VARCHAR" ->
+                    new ResolvedType("VARCHAR", spec.intArg(0, 0), 0);
+            case "BINARY" -> new ResolvedType("BINARY", spec.intArg(0, 1), 0);
+            case "VARBINARY" -> new ResolvedType("VARBINARY", spec.intArg(0, 0), 0);
+            case "TINYTEXT" -> new ResolvedType("TINYTEXT", 255, 0);
+            case "TEXT" -> new ResolvedType("TEXT", 65535, 0);
+            case "MEDIUMTEXT" -> new ResolvedType("MEDIUMTEXT", 16777215, 0);
+            case "LONGTEXT" -> new ResolvedType("LONGTEXT", UNBOUNDED, 0);
+            case "TINYBLOB" -> new ResolvedType("TINYBLOB", 255, 0);
+            case "BLOB" -> new ResolvedType("BLOB", 65535, 0);
+            case "MEDIUMBLOB" -> new ResolvedType("MEDIUMBLOB", 16777215, 0);
+            case "LONGBLOB" -> new ResolvedType("LONGBLOB", UNBOUNDED, 0);
+            case "DATE" -> new ResolvedType("DATE", 10, 0);
+            case "TIME" -> new ResolvedType("TIME", withFraction(8, spec.intArg(0, 0)), 0);
+            case "DATETIME" -> new ResolvedType("DATETIME", withFraction(19, spec.intArg(0, 0)), 0);
+            case "TIMESTAMP" -> new ResolvedType("TIMESTAMP", withFraction(19, spec.intArg(0, 0)), 0);
+            case "YEAR" -> new ResolvedType("YEAR", 4, 0);
+            case "ENUM" -> new ResolvedType("ENUM",
+                    spec.args().stream().mapToInt(a -> unquote(a).length()).max().orElse(0), 0);
+            case "SET" -> new ResolvedType("SET",
+                    spec.args().stream().mapToInt(a -> unquote(a).length() + 1).sum() - 1, 0);
+            case "JSON" -> new ResolvedType("JSON", 1073741824, 0);
+            default -> new ResolvedType(spec.name(), spec.intArg(0, 0), spec.intArg(1, 0));
+        };
+    }
+
+    private static ResolvedType oracle(TypeSpec spec) {
+        return switch (spec.name()) {
+            case "VARCHAR2", "VARCHAR", "CHARACTER VARYING", "CHAR VARYING" ->
+                    new ResolvedType("VARCHAR2", spec.intArg(0, 1), 0);
+            case "NVARCHAR2", "NATIONAL CHARACTER VARYING" -> new ResolvedType("NVARCHAR2", spec.intArg(0, 1), 0);
+            case "CHAR", "CHARACTER" -> new ResolvedType("CHAR", spec.intArg(0, 1), 0);
+            case "NCHAR", "NATIONAL CHARACTER", "NATIONAL CHAR" -> new ResolvedType("NCHAR", spec.intArg(0, 1), 0);
+            case "NUMBER", "NUMERIC", "DECIMAL", "DEC" -> {
+                if (spec.args().isEmpty() || spec.args().get(0).equals("*")) {
+                    int scale = spec.intArg(1, -1);
+                    yield scale < 0 ? new ResolvedType("NUMBER", 0, 0) : new ResolvedType("NUMBER", 38, scale);
+                }
+                yield new ResolvedType("NUMBER", spec.intArg(0, 38), spec.intArg(1, 0));
+            }
+            case "INTEGER", "INT", "SMALLINT" -> new ResolvedType("NUMBER", 38, 0);
+            case "FLOAT" -> new ResolvedType("FLOAT", spec.intArg(0, 126), 0);
+            case "REAL" -> new ResolvedType("FLOAT", 63, 0);
+            case "DOUBLE PRECISION" -> new ResolvedType("FLOAT", 126, 0);
+            case "BINARY_FLOAT" -> new ResolvedType("BINARY_FLOAT", 4, 0);
+            case "BINARY_DOUBLE" -> new ResolvedType("BINARY_DOUBLE", 8, 0);
+            case "DATE" -> new ResolvedType("DATE", 7, 0);
+            case "TIMESTAMP" -> {
+                int precision = spec.intArg(0, 6);
+                String name = "TIMESTAMP(" + precision + ")";
+                if (spec.suffix().contains("LOCAL TIME ZONE")) {
+                    yield new ResolvedType(name + " WITH LOCAL TIME ZONE", 11, precision);
+                }
+                if (spec.suffix().contains("TIME ZONE")) {
+                    yield new ResolvedType(name + " WITH TIME ZONE", 13, precision);
+                }
+                yield new ResolvedType(name, 11, precision);
+            }
+            case "CLOB", "NCLOB", "BLOB", "BFILE" -> new ResolvedType(spec.name(), 4000, 0);
+            case "RAW" -> new ResolvedType("RAW", spec.intArg(0, 1), 0);
+            case "LONG", "LONG RAW" -> new ResolvedType(spec.name(), 0, 0);
+            default -> new ResolvedType(spec.name(), spec.intArg(0, 0), spec.intArg(1, 0));
+        };
+    }
+
+    private static ResolvedType mssql(TypeSpec spec, boolean identity) {
+        ResolvedType resolved = switch (spec.name()) {
+            case "INT", "INTEGER" -> new ResolvedType("int", 10, 0);
+            case "BIGINT" -> new ResolvedType("bigint", 19, 0);
+            case "SMALLINT" -> new ResolvedType("smallint", 5, 0);
+            case "TINYINT" -> new ResolvedType("tinyint", 3, 0);
+            case "BIT" -> new ResolvedType("bit", 1, 0);
+            case "DECIMAL", "DEC" -> new ResolvedType("decimal", spec.intArg(0, 18), spec.intArg(1, 0));
+            case "NUMERIC" -> new ResolvedType("numeric", spec.intArg(0, 18), spec.intArg(1, 0));
+            case "MONEY" -> new ResolvedType("money", 19, 4);
+            case "SMALLMONEY" -> new ResolvedType("smallmoney", 10, 4);
+            case "FLOAT" -> spec.intArg(0, 53) <= 24
+                    ? new ResolvedType("real", 24, 0)
+                    : new ResolvedType("float", 53, 0);
+            case "REAL" -> new ResolvedType("real", 24, 0);
+            case "CHAR", "CHARACTER" -> new ResolvedType("char", spec.intArg(0, 1), 0);
+            case "NCHAR", "NATIONAL CHARACTER", "NATIONAL CHAR" -> new ResolvedType("nchar", spec.intArg(0, 1), 0);
+            case "VARCHAR", "CHARACTER VARYING", "CHAR VARYING" ->
+                    new ResolvedType("varchar", lengthOrMax(spec, 2147483647), 0);
+            case "NVARCHAR", "NATIONAL CHARACTER VARYING", "NATIONAL CHAR VARYING" ->
+                    new ResolvedType("nvarchar", lengthOrMax(spec, 1073741823), 0);
+            case "BINARY" -> new ResolvedType("binary", spec.intArg(0, 1), 0);
+            case "VARBINARY" -> new ResolvedType("varbinary", lengthOrMax(spec, 2147483647), 0);
+            case "TEXT" -> new ResolvedType("text", 2147483647, 0);
+            case "NTEXT" -> new ResolvedType("ntext", 1073741823, 0);
+            case "IMAGE" -> new ResolvedType("image", 2147483647, 0);
+            case "DATE" -> new ResolvedType("date", 10, 0);
+            case "TIME" -> {
+                int fraction = spec.intArg(0, 7);
+                yield new ResolvedType("time", withFraction(8, fraction), fraction);
+            }
+            case "DATETIME" -> new ResolvedType("datetime", 23, 3);
+            case "DATETIME2" -> {
+                int fraction = spec.intArg(0, 7);
+                yield new ResolvedType("datetime2", withFraction(19, fraction), fraction);
+            }
+            case "SMALLDATETIME" -> new ResolvedType("smalldatetime", 16, 0);
+            case "DATETIMEOFFSET" -> {
+                int fraction = spec.intArg(0, 7);
+                yield new ResolvedType("datetimeoffset", withFraction(26, fraction), fraction);
+            }
+            case "UNIQUEIDENTIFIER" -> new ResolvedType("uniqueidentifier", 36, 0);
+            case "XML" -> new ResolvedType("xml", 1073741823, 0);
+            case "SYSNAME" -> new ResolvedType("sysname", 128, 0);
+            default -> new ResolvedType(spec.name().toLowerCase(Locale.ROOT), spec.intArg(0, 0), spec.intArg(1, 0));
+        };
+        return identity
+                ? new ResolvedType(resolved.name() + " identity", resolved.size(), resolved.scale())
+                : resolved;
+    }
+
+    private static ResolvedType postgres(TypeSpec spec) {
+        if (spec.array()) {
+            ResolvedType element = postgres(new TypeSpec(spec.name(), spec.args(), spec.suffix(), false));
+            return new ResolvedType("_" + element.name(), UNBOUNDED, 0);
+        }
+        boolean withTimeZone = spec.suffix().contains("WITH TIME ZONE");
+
+        return switch (spec.name()) {
+            case "INT", "INTEGER", "INT4" -> new ResolvedType("int4", 10, 0);
+            case "BIGINT", "INT8" -> new ResolvedType("int8", 19, 0);
+            case "SMALLINT", "INT2" -> new ResolvedType("int2", 5, 0);
+            case "SERIAL", "SERIAL4" -> new ResolvedType("serial", 10, 0);
+            case "BIGSERIAL", "SERIAL8" -> new ResolvedType("bigserial", 19, 0);
+            case "SMALLSERIAL", "SERIAL2" -> new ResolvedType("smallserial", 5, 0);
+            case "NUMERIC", "DECIMAL" -> new ResolvedType("numeric", spec.intArg(0, 0), spec.intArg(1, 0));
+            case "REAL", "FLOAT4" -> new ResolvedType("float4", 8, 0);
+            case "DOUBLE PRECISION", "FLOAT8", "FLOAT" -> spec.intArg(0, 53) <= 24
+                    ? new ResolvedType("float4", 8, 0)
+                    : new ResolvedType("float8", 17, 0);
+            case "VARCHAR", "CHARACTER VARYING", "CHAR VARYING" ->
+                    new ResolvedType("varchar", spec.intArg(0, UNBOUNDED), 0);
+            case "CHAR", "CHARACTER", "BPCHAR" -> new ResolvedType("bpchar", spec.intArg(0, 1), 0);
+            case "TEXT" -> new ResolvedType("text", UNBOUNDED, 0);
+            case "BOOLEAN", "BOOL" -> new ResolvedType("bool", 1, 0);
+            case "DATE" -> new ResolvedType("date", 13, 0);
+            case "TIMESTAMP" -> withTimeZone
+                    ? new ResolvedType("timestamptz", 35, spec.intArg(0, 6))
+                    : new ResolvedType("timestamp", 29, spec.intArg(0, 6));
+            case "TIMESTAMPTZ" -> new ResolvedType("timestamptz", 35, spec.intArg(0, 6));
+            case "TIME" -> withTimeZone
+                    ? new ResolvedType("timetz", 21, spec.intArg(0, 6))
+                    : new ResolvedType("time", 15, spec.intArg(0, 6));
+            case "TIMETZ" -> new ResolvedType("timetz", 21, spec.intArg(0, 6));
+            case "INTERVAL" -> new ResolvedType("interval", 49, spec.intArg(0, 6));
+            case "BYTEA" -> new ResolvedType("bytea", UNBOUNDED, 0);
+            case "UUID" -> new ResolvedType("uuid", UNBOUNDED, 0);
+            case "JSON" -> new ResolvedType("json", UNBOUNDED, 0);
+            case "JSONB" -> new ResolvedType("jsonb", UNBOUNDED, 0);
+            case "BIT" -> new ResolvedType("bit", spec.intArg(0, 1), 0);
+            case "BIT VARYING", "VARBIT" -> new ResolvedType("varbit", spec.intArg(0, UNBOUNDED), 0);
+            default -> new ResolvedType(spec.name().toLowerCase(Locale.ROOT), UNBOUNDED, 0);
+        };
+    }
+
+    /**
+     * Returns the type name reported for routine parameters and return values
+     * (INFORMATION_SCHEMA.PARAMETERS / ALL_ARGUMENTS DATA_TYPE).
+     */
+    static String parameterTypeName(DatabaseType type, TypeSpec spec) {
+        return switch (type) {
+            case MYSQL -> switch (spec.name()) {
+                case "INTEGER" -> "int";
+                case "BOOL", "BOOLEAN" -> "tinyint";
+                case "DEC", "NUMERIC", "FIXED" -> "decimal";
+                case "DOUBLE PRECISION", "REAL" -> "double";
+                case "CHARACTER" -> "char";
+                case "CHARACTER VARYING" -> "varchar";
+                default -> spec.name().toLowerCase(Locale.ROOT);
+            };
+            case ORACLE -> switch (spec.name()) {
+                case "VARCHAR" -> "VARCHAR2";
+                case "INTEGER", "INT", "SMALLINT", "DECIMAL", "NUMERIC", "DEC" -> "NUMBER";
+                case "TIMESTAMP" -> spec.suffix().contains("LOCAL TIME ZONE") ? "TIMESTAMP WITH LOCAL TIME ZONE"
+                        : spec.suffix().contains("TIME ZONE") ? "TIMESTAMP WITH TIME ZONE" : "TIMESTAMP";
+                default -> spec.name();
+            };
+            case MSSQL -> switch (spec.name()) {
+                case "INTEGER" -> "int";
+                case "DEC" -> "decimal";
+                default -> spec.name().toLowerCase(Locale.ROOT);
+            };
+            case POSTGRESQL -> {
+                if (spec.array()) yield "ARRAY";
+                yield switch (spec.name()) {
+                    case "INT", "INTEGER", "INT4", "SERIAL" -> "integer";
+                    case "BIGINT", "INT8", "BIGSERIAL" -> "bigint";
+                    case "SMALLINT", "INT2" -> "smallint";
+                    case "NUMERIC", "DECIMAL" -> "numeric";
+                    case "REAL", "FLOAT4" -> "real";
+                    case "DOUBLE PRECISION", "FLOAT8", "FLOAT" -> "double precision";
+                    case "VARCHAR", "CHARACTER VARYING" -> "character varying";
+                    case "CHAR", "CHARACTER", "BPCHAR" -> "character";
+                    case "BOOL", "BOOLEAN" -> "boolean";
+                    case "TIMESTAMP" -> spec.suffix().contains("WITH TIME ZONE")
+                            ? "timestamp with time zone" : "timestamp without time zone";
+                    case "TIMESTAMPTZ" -> "timestamp with time zone";
+                    case "TIME" -> spec.suffix().contains("WITH TIME ZONE")
+                            ? "time with time zone" : "time without time zone";
+                    default -> spec.name().toLowerCase(Locale.ROOT);
+                };
+            }
+        };
+    }
+
+    private static int withFraction(int baseSize, int fraction) {
+        return fraction > 0 ? baseSize + 1 + fraction : baseSize;
+    }
+
+    private static int lengthOrMax(TypeSpec spec, int max) {
+        int length = spec.intArg(0, 1);
+        return length < 0 ? max : length;
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.strip();
+        if (trimmed.length() >= 2 && trimmed.startsWith("'") && trimmed.endsWith("'")) {
+            return trimmed.substring(1, trimmed.length() - 1).replace("''", "'");
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,1594 @@
+package com.wso2.migration.checker.inspector.offline;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.inspector.offline.DataTypes.TypeSpec;
+import com.wso2.migration.checker.inspector.offline.DdlTokenizer.Kind;
+import com.wso2.migration.checker.inspector.offline.DdlTokenizer.Token;
+import com.wso2.migration.checker.inspector.offline.ParsedSchema.ColumnDef;
+import com.wso2.migration.checker.inspector.offline.ParsedSchema.ForeignKeyDef;
+import com.wso2.migration.checker.inspector.offline.ParsedSchema.IndexDef;
+import com.wso2.migration.checker.inspector.offline.ParsedSchema.PrimaryKeyDef;
+import com.wso2.migration.checker.inspector.offline.ParsedSchema.TableDef;
+import com.wso2.migration.checker.model.*;
+import com.wso2.migration.checker.model.RoutineInfo.ParameterInfo;
+import com.wso2.migration.checker.model.RoutineInfo.RoutineType;
+import com.wso2.migration.checker.model.TriggerInfo.TriggerEvent;
+import com.wso2.migration.checker.model.TriggerInfo.TriggerTiming;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses DDL statements (CREATE/ALTER/DROP of tables, indexes, views, triggers,
+ * sequences and routines) and applies them to a {@link ParsedSchema}.
+ *
+ * Statements that are not DDL, or DDL for object kinds the snapshot does not
+ * model, are ignored. The parser is deliberately lenient: clauses it does not
+ * recognise are skipped rather than rejected.
+ */
+final class DdlStatementParser {
+
+    private static final Set<String> COLUMN_CONSTRAINT_KEYWORDS = Set.of(
+            "NOT", "NULL", "DEFAULT", "PRIMARY", "UNIQUE", "REFERENCES", "CHECK", "CONSTRAINT",
+            "AUTO_INCREMENT", "IDENTITY", "GENERATED", "COMMENT", "COLLATE", "CHARACTER", "CHARSET",
+            "ON", "AS", "ENABLE", "DISABLE", "VISIBLE", "INVISIBLE", "SPARSE", "ROWGUIDCOL");
+
+    private static final Set<String> AGGREGATE_FUNCTIONS = Set.of(
+            "COUNT", "SUM", "AVG", "MIN", "MAX", "GROUP_CONCAT", "STRING_AGG", "LISTAGG", "ARRAY_AGG");
+
+    private final DatabaseType type;
+    private final ParsedSchema schema;
+    private int syntheticNames = 0;
+
+    DdlStatementParser(DatabaseType type, ParsedSchema schema) {
+        this.type = type;
+        this.schema = schema;
+    }
+
+    /**
+     * Applies one statement to the schema.
+     *
+     * @return true when the statement defined, altered or dropped a schema object
+     */
+    boolean parse(String sql) {
+        List<Token> tokens = DdlTokenizer.tokenize(sql, type);
+        if (tokens.isEmpty()) {
+            return false;
+        }
+
+        Cursor c = new Cursor(sql, tokens);
+        if (type == DatabaseType.MSSQL && c.accept("IF")) {
+            // IF [NOT] EXISTS (SELECT ...) CREATE ... guards
+            c.accept("NOT");
+            c.accept("EXISTS");
+            if (c.isSymbol("(")) c.skipGroup();
+            c.accept("BEGIN");
+        }
+        if (c.accept("CREATE")) {
+            return parseCreate(c);
+        }
+        if (c.accept("ALTER", "TABLE")) {
+            return parseAlterTable(c);
+        }
+        if (c.accept("DROP")) {
+            return parseDrop(c);
+        }
+        return false;
+    }
+
+    // --- CREATE -----------------------------------------------------------
+
+    private boolean parseCreate(Cursor c) {
+        boolean unique = false;
+        boolean clustered = false;
+        boolean temporary = false;
+
+        while (!c.atEnd()) {
+            if (c.accept("OR", "REPLACE") || c.accept("OR", "ALTER") || c.accept("NO", "FORCE")) continue;
+            if (c.accept("DEFINER")) {
+                c.acceptSymbol("=");
+                skipUserName(c);
+                continue;
+            }
+            if (c.accept("ALGORITHM")) {
+                c.acceptSymbol("=");
+                c.next();
+                continue;
+            }
+            if (c.accept("SQL", "SECURITY")) {
+                c.next();
+                continue;
+            }
+            if (c.accept("UNIQUE")) {
+                unique = true;
+                continue;
+            }
+            if (c.accept("CLUSTERED")) {
+                clustered = true;
+                continue;
+            }
+            if (c.acceptAny("TEMPORARY", "TEMP")) {
+                temporary = true;
+                continue;
+            }
+            if (c.acceptAny("EDITIONABLE", "NONEDITIONABLE", "EDITIONING", "FORCE", "GLOBAL", "LOCAL",
+                    "UNLOGGED", "RECURSIVE", "NONCLUSTERED", "BITMAP", "FULLTEXT", "SPATIAL", "CONSTRAINT")) {
+                continue;
+            }
+            break;
+        }
+
+        if (temporary && type != DatabaseType.ORACLE) {
+            return false; // Session-scoped, not part of the schema
+        }
+
+        Token keyword = c.next();
+        if (keyword == null || keyword.kind() != Kind.WORD) {
+            return false;
+        }
+
+        return switch (keyword.text().toUpperCase(Locale.ROOT)) {
+            case "TABLE" -> parseCreateTable(c);
+            case "INDEX" -> parseCreateIndex(c, unique, clustered);
+            case "VIEW" -> parseCreateView(c);
+            case "TRIGGER" -> parseCreateTrigger(c);
+            case "SEQUENCE" -> parseCreateSequence(c);
+            case "PROCEDURE", "PROC" -> parseCreateRoutine(c, RoutineType.PROCEDURE, c.pos - 1);
+            case "FUNCTION" -> parseCreateRoutine(c, RoutineType.FUNCTION, c.pos - 1);
+            case "PACKAGE" -> c.accept("BODY")
+                    ? parseCreateRoutine(c, RoutineType.PACKAGE_BODY, c.pos - 2)
+                    : parseCreateRoutine(c, RoutineType.PACKAGE, c.pos - 1);
+            default -> false;
+        };
+    }
+
+    private void skipUserName(Cursor c) {
+        if (c.accept("CURRENT_USER")) {
+            if (c.isSymbol("(")) c.skipGroup();
+            return;
+        }
+        c.next();
+        if (c.acceptSymbol("@")) {
+            c.next();
+        }
+    }
+
+    // --- Tables -----------------------------------------------------------
+
+    private boolean parseCreateTable(Cursor c) {
+        c.accept("IF", "NOT", "EXISTS");
+        String name = qualifiedName(c);
+
+        if (c.accept("LIKE") || (c.isSymbol("(") && c.peekIs(1, "LIKE"))) {
+            if (c.acceptSymbol("(")) c.next();
+            TableDef source = schema.table(qualifiedName(c));
+            if (source == null) return false;
+            schema.putTable(source.copyAs(name));
+            return true;
+        }
+        if (!c.isSymbol("(")) {
+            return false; // CREATE TABLE ... AS SELECT, PARTITION OF, OF type
+        }
+
+        TableDef table = new TableDef(name);
+        int end = c.groupEnd();
+        c.next();
+        while (c.pos < end) {
+            parseTableElement(c, table, end);
+            c.skipToElementEnd(end);
+            c.acceptSymbol(",");
+        }
+        c.pos = end + 1;
+
+        parseTableOptions(c, table);
+        schema.putTable(table);
+        return true;
+    }
+
+    /**
+     * Parses one column or table constraint of a CREATE TABLE (or ALTER TABLE ADD).
+     */
+    private void parseTableElement(Cursor c, TableDef table, int end) {
+        String constraintName = null;
+        if (c.accept("CONSTRAINT")) {
+            if (!c.isAny("PRIMARY", "UNIQUE", "FOREIGN", "CHECK")) {
+                constraintName = name(c.next());
+            }
+            if (c.accept("DEFAULT")) {
+                // MSSQL: CONSTRAINT DF_x DEFAULT (expr) FOR column
+                String value = parseDefault(c);
+                if (c.accept("FOR")) {
+                    ColumnDef column = table.column(name(c.next()));
+                    if (column != null) column.defaultValue = value;
+                }
+                return;
+            }
+        }
+
+        if (c.accept("PRIMARY", "KEY")) {
+            boolean clustered = type == DatabaseType.MSSQL;
+            if (c.accept("NONCLUSTERED")) clustered = false;
+            c.accept("CLUSTERED");
+            if (c.accept("USING")) c.next();
+            table.primaryKey = new PrimaryKeyDef(
+                    constraintName != null ? constraintName : primaryKeyName(table),
+                    columnList(c), clustered);
+            return;
+        }
+
+        if (c.accept("UNIQUE")) {
+            c.acceptAny("KEY", "INDEX");
+            String indexName = constraintName;
+            if (c.peek() != null && c.peek().isIdentifier() && !c.isAny("CLUSTERED", "NONCLUSTERED", "USING")) {
+                indexName = name(c.next());
+            }
+            boolean clustered = c.accept("CLUSTERED");
+            c.accept("NONCLUSTERED");
+            if (c.accept("USING")) c.next();
+            List<String> columns = columnList(c);
+            table.indexes.add(new IndexDef(
+                    indexName != null ? indexName : uniqueName(table, columns),
+                    columns, true, clustered ? "clustered" : "other"));
+            return;
+        }
+
+        if (c.accept("FOREIGN", "KEY")) {
+            if (c.peek() != null && c.peek().isIdentifier()) {
+                String indexName = name(c.next());
+                if (constraintName == null) constraintName = indexName;
+            }
+            List<String> columns = columnList(c);
+            if (c.accept("REFERENCES")) {
+                parseReferences(c, table, constraintName, columns);
+            }
+            return;
+        }
+
+        if (c.is("CHECK")) {
+            return; // Check constraints are not part of the snapshot
+        }
+
+        if (c.acceptAny("KEY", "INDEX") || c.acceptAny("FULLTEXT", "SPATIAL")) {
+            c.acceptAny("KEY", "INDEX");
+            String indexName = null;
+            if (c.peek() != null && c.peek().isIdentifier() && !c.is("USING")) {
+                indexName = name(c.next());
+            }
+            if (c.accept("USING")) c.next();
+            List<String> columns = columnList(c);
+            table.indexes.add(new IndexDef(
+                    indexName != null ? indexName : columns.isEmpty() ? syntheticName("IDX") : columns.get(0),
+                    columns, false, "other"));
+            return;
+        }
+
+        if (c.isAny("PERIOD", "EXCLUDE", "LIKE")) {
+            return;
+        }
+
+        Token first = c.peek();
+        if (first == null || !first.isIdentifier()) {
+            return;
+        }
+        ColumnDef column = parseColumn(c, table, end);
+        if (column != null) {
+            table.columns.add(column);
+        }
+    }
+
+    /**
+     * Parses a column definition, including inline constraints, which are applied to the table.
+     */
+    private ColumnDef parseColumn(Cursor c, TableDef table, int end) {
+        String columnName = name(c.next());
+
+        ColumnDef column;
+        if (c.is("AS")) {
+            // MSSQL computed column: the type is derived from the expression
+            column = new ColumnDef(columnName, new TypeSpec("SQL_VARIANT", List.of(), "", false));
+        } else {
+            column = new ColumnDef(columnName, parseType(c));
+        }
+        if (column.spec.name().endsWith("SERIAL") && type == DatabaseType.POSTGRESQL) {
+            addSerialSequence(table, column);
+        }
+        parseColumnConstraints(c, table, column, end);
+        return column;
+    }
+
+    private void parseColumnConstraints(Cursor c, TableDef table, ColumnDef column, int end) {
+        String constraintName = null;
+
+        while (c.pos < end && !c.isSymbol(",") && !c.atEnd()) {
+            if (c.accept("NOT", "NULL")) {
+                column.nullable = false;
+            } else if (c.accept("NULL")) {
+                column.nullable = true;
+            } else if (c.accept("DEFAULT")) {
+                c.accept("ON", "NULL");
+                column.defaultValue = parseDefault(c);
+            } else if (c.accept("PRIMARY", "KEY")) {
+                boolean clustered = type == DatabaseType.MSSQL;
+                if (c.accept("NONCLUSTERED")) clustered = false;
+                c.acceptAny("CLUSTERED", "ASC", "DESC");
+                column.nullable = false;
+                table.primaryKey = new PrimaryKeyDef(
+                        constraintName != null ? constraintName : primaryKeyName(table),
+                        List.of(column.name), clustered);
+                constraintName = null;
+            } else if (c.accept("UNIQUE")) {
+                c.accept("KEY");
+                boolean clustered = c.accept("CLUSTERED");
+                c.accept("NONCLUSTERED");
+                table.indexes.add(new IndexDef(
+                        constraintName != null ? constraintName : uniqueName(table, List.of(column.name)),
+                        List.of(column.name), true, clustered ? "clustered" : "other"));
+                constraintName = null;
+            } else if (c.accept("REFERENCES")) {
+                parseReferences(c, table, constraintName, List.of(column.name));
+                constraintName = null;
+            } else if (c.accept("CHECK")) {
+                if (c.isSymbol("(")) c.skipGroup();
+            } else if (c.accept("CONSTRAINT")) {
+                constraintName = name(c.next());
+            } else if (c.accept("AUTO_INCREMENT")) {
+                column.autoIncrement = true;
+            } else if (c.accept("IDENTITY")) {
+                column.autoIncrement = true;
+                column.nullable = false;
+                if (c.isSymbol("(")) c.skipGroup();
+            } else if (c.accept("GENERATED")) {
+                if (!c.accept("ALWAYS")) {
+                    c.accept("BY", "DEFAULT");
+                    c.accept("ON", "NULL");
+                }
+                if (c.accept("AS", "IDENTITY")) {
+                    column.autoIncrement = true;
+                    column.nullable = false;
+                }
+                c.accept("AS");
+                if (c.isSymbol("(")) c.skipGroup();
+            } else if (c.accept("AS")) {
+                if (c.isSymbol("(")) c.skipGroup();
+                else c.skipToElementEnd(end);
+            } else if (c.accept("ON", "UPDATE")) {
+                parseDefault(c);
+            } else if (c.acceptAny("COMMENT", "COLLATE", "CHARSET")) {
+                c.acceptSymbol("=");
+                c.next();
+            } else if (c.accept("CHARACTER", "SET")) {
+                c.next();
+            } else if (c.isSymbol("(")) {
+                c.skipGroup();
+            } else {
+                c.next();
+            }
+        }
+    }
+
+    private void parseReferences(Cursor c, TableDef table, String constraintName, List<String> columns) {
+        String referencedTable = qualifiedName(c);
+        List<String> referencedColumns = c.isSymbol("(") ? columnList(c) : List.of();
+        String onDelete = null;
+        String onUpdate = null;
+
+        while (!c.atEnd()) {
+            if (c.accept("ON", "DELETE")) {
+                onDelete = referentialAction(c);
+            } else if (c.accept("ON", "UPDATE")) {
+                onUpdate = referentialAction(c);
+            } else if (c.accept("MATCH") || c.accept("INITIALLY")) {
+                c.next();
+            } else if (c.accept("NOT", "FOR", "REPLICATION") || c.accept("NOT", "DEFERRABLE")
+                    || c.acceptAny("DEFERRABLE", "ENABLE", "DISABLE", "VALIDATE", "NOVALIDATE", "RELY", "NORELY")) {
+                // Not modelled
+            } else {
+                break;
+            }
+        }
+
+        String defaultAction = type == DatabaseType.MYSQL ? "restrict" : "noAction";
+        String name = constraintName != null ? constraintName : foreignKeyName(table, columns);
+        table.foreignKeys.add(new ForeignKeyDef(name, columns, referencedTable, referencedColumns,
+                onDelete != null ? onDelete : defaultAction,
+                onUpdate != null ? onUpdate : defaultAction));
+    }
+
+    /**
+     * Reads a referential action, returned with SchemaCrawler's rule names.
+     */
+    private String referentialAction(Cursor c) {
+        if (c.accept("CASCADE")) return "cascade";
+        if (c.accept("SET", "NULL")) return "setNull";
+        if (c.accept("SET", "DEFAULT")) return "setDefault";
+        if (c.accept("RESTRICT")) return "restrict";
+        if (c.accept("NO", "ACTION")) return "noAction";
+        c.next();
+        return "unknown";
+    }
+
+    private void parseTableOptions(Cursor c, TableDef table) {
+        while (!c.atEnd()) {
+            if (c.accept("ENGINE") || c.accept("TYPE")) {
+                c.acceptSymbol("=");
+                Token engine = c.next();
+                if (engine != null) table.engine = engine.text();
+            } else if (c.accept("COMMENT")) {
+                c.acceptSymbol("=");
+                Token comment = c.next();
+                if (comment != null) table.comment = comment.text();
+            } else if (c.isSymbol("(")) {
+                c.skipGroup();
+            } else {
+                c.next();
+            }
+        }
+    }
+
+    private boolean parseAlterTable(Cursor c) {
+        c.accept("IF", "EXISTS");
+        c.accept("ONLY");
+        TableDef table = schema.table(qualifiedName(c));
+        if (table == null) {
+            return false;
+        }
+        c.accept("WITH", "CHECK");
+        c.accept("WITH", "NOCHECK");
+
+        int end = c.tokens.size();
+        while (!c.atEnd()) {
+            if (c.accept("ADD")) {
+                c.accept("COLUMN");
+                c.accept("IF", "NOT", "EXISTS");
+                if (c.isSymbol("(") && type == DatabaseType.ORACLE) {
+                    int groupEnd = c.groupEnd();
+                    c.next();
+                    while (c.pos < groupEnd) {
+                        parseTableElement(c, table, groupEnd);
+                        c.skipToElementEnd(groupEnd);
+                        c.acceptSymbol(",");
+                    }
+                    c.pos = groupEnd + 1;
+                } else {
+                    parseTableElement(c, table, end);
+                }
+            } else if (c.accept("MODIFY")) {
+                c.accept("COLUMN");
+                if (c.isSymbol("(")) {
+                    int groupEnd = c.groupEnd();
+                    c.next();
+                    while (c.pos < groupEnd) {
+                        modifyColumn(c, table, groupEnd);
+                        c.skipToElementEnd(groupEnd);
+                        c.acceptSymbol(",");
+                    }
+                    c.pos = groupEnd + 1;
+                } else {
+                    modifyColumn(c, table, end);
+                }
+            } else if (c.accept("CHANGE")) {
+                c.accept("COLUMN");
+                ColumnDef existing = table.column(name(c.next()));
+                if (existing != null) {
+                    ColumnDef replacement = parseColumn(c, table, end);
+                    table.columns.set(table.columns.indexOf(existing), replacement);
+                }
+            } else if (c.accept("ALTER")) {
+                c.accept("COLUMN");
+                alterColumn(c, table, end);
+            } else if (c.accept("DROP")) {
+                dropFromTable(c, table);
+            }
+            c.skipToElementEnd(end);
+            if (!c.acceptSymbol(",")) break;
+        }
+        return true;
+    }
+
+    /**
+     * MySQL/Oracle MODIFY: either a full column definition or (Oracle) only constraints.
+     */
+    private void modifyColumn(Cursor c, TableDef table, int end) {
+        Token nameToken = c.peek();
+        if (nameToken == null || !nameToken.isIdentifier()) return;
+        ColumnDef existing = table.column(name(nameToken));
+        if (existing == null) return;
+
+        Token afterName = c.peek(1);
+        boolean hasType = afterName != null && afterName.isIdentifier()
+                && !COLUMN_CONSTRAINT_KEYWORDS.contains(afterName.text().toUpperCase(Locale.ROOT));
+        if (hasType) {
+            ColumnDef replacement = parseColumn(c, table, end);
+            table.columns.set(table.columns.indexOf(existing), replacement);
+        } else {
+            c.next();
+            parseColumnConstraints(c, table, existing, end);
+        }
+    }
+
+    private void alterColumn(Cursor c, TableDef table, int end) {
+        ColumnDef column = table.column(name(c.next()));
+        if (column == null) return;
+
+        if (c.accept("SET", "DEFAULT")) {
+            column.defaultValue = parseDefault(c);
+        } else if (c.accept("DROP", "DEFAULT")) {
+            column.defaultValue = null;
+        } else if (c.accept("SET", "NOT", "NULL")) {
+            column.nullable = false;
+        } else if (c.accept("DROP", "NOT", "NULL")) {
+            column.nullable = true;
+        } else if (c.accept("ADD", "GENERATED")) {
+            column.autoIncrement = true;
+            column.nullable = false;
+        } else if (c.accept("SET", "DATA", "TYPE") || c.accept("TYPE")) {
+            column.spec = parseType(c);
+        } else if (type == DatabaseType.MSSQL && c.peek() != null && c.peek().isIdentifier()) {
+            // MSSQL: ALTER COLUMN name type [NULL | NOT NULL]
+            column.spec = parseType(c);
+            parseColumnConstraints(c, table, column, end);
+        }
+    }
+
+    private void dropFromTable(Cursor c, TableDef table) {
+        if (c.accept("PRIMARY", "KEY")) {
+            table.primaryKey = null;
+            return;
+        }
+        if (c.accept("CONSTRAINT") || c.accept("FOREIGN", "KEY") || c.acceptAny("INDEX", "KEY")) {
+            c.accept("IF", "EXISTS");
+            String name = name(c.next());
+            table.foreignKeys.removeIf(fk -> fk.name().equalsIgnoreCase(name));
+            table.indexes.removeIf(i -> i.name().equalsIgnoreCase(name));
+            if (table.primaryKey != null && table.primaryKey.name().equalsIgnoreCase(name)) {
+                table.primaryKey = null;
+            }
+            return;
+        }
+        c.accept("COLUMN");
+        c.accept("IF", "EXISTS");
+        Token columnToken = c.next();
+        if (columnToken != null && columnToken.isIdentifier()) {
+            String column = name(columnToken);
+            table.columns.removeIf(col -> col.name.equalsIgnoreCase(column));
+        }
+    }
+
+    // --- Indexes ----------------------------------------------------------
+
+    private boolean parseCreateIndex(Cursor c, boolean unique, boolean clustered) {
+        c.accept("CONCURRENTLY");
+        c.accept("IF", "NOT", "EXISTS");
+        String indexName = qualifiedName(c);
+        if (c.accept("USING")) c.next();
+        if (!c.accept("ON")) {
+            return false;
+        }
+        c.accept("ONLY");
+        TableDef table = schema.table(qualifiedName(c));
+        if (table == null) {
+            return false;
+        }
+        if (c.accept("USING")) c.next();
+
+        boolean reportedClustered = clustered && type == DatabaseType.MSSQL;
+        table.indexes.add(new IndexDef(indexName, columnList(c), unique, reportedClustered ? "clustered" : "other"));
+        return true;
+    }
+
+    // --- Views ------------------------------------------------------------
+
+    private boolean parseCreateView(Cursor c) {
+        c.accept("IF", "NOT", "EXISTS");
+        String name = qualifiedName(c);
+        List<String> columns = c.isSymbol("(") ? columnList(c) : null;
+
+        if (c.accept("WITH")) {
+            while (!c.atEnd() && !c.is("AS")) c.next();
+        }
+        if (!c.accept("AS")) {
+            return false;
+        }
+
+        int queryStart = c.pos;
+        String query = c.textFrom(queryStart);
+        String definition = type == DatabaseType.MSSQL ? c.sql.strip() : query;
+        ViewShape shape = analyseViewQuery(c, queryStart);
+
+        schema.putView(new ViewInfo(
+                name,
+                schema.schemaName(),
+                columns != null ? columns : shape.columns(),
+                definition,
+                shape.updatable() && (type == DatabaseType.MYSQL || type == DatabaseType.POSTGRESQL)
+        ));
+        return true;
+    }
+
+    private record ViewShape(List<String> columns, boolean updatable) {}
+
+    /**
+     * Derives the column names of a view from its select list, expanding '*'
+     * from the tables in the FROM clause, and whether it is a simple updatable view.
+     */
+    private ViewShape analyseViewQuery(Cursor c, int queryStart) {
+        c.pos = queryStart;
+        while (c.isSymbol("(")) c.next();
+        if (!c.accept("SELECT")) {
+            return new ViewShape(List.of(), false);
+        }
+
+        boolean updatable = true;
+        if (c.acceptAny("DISTINCT", "DISTINCTROW")) updatable = false;
+        c.accept("ALL");
+        if (c.accept("TOP")) {
+            if (c.isSymbol("(")) c.skipGroup();
+            else c.next();
+            c.accept("PERCENT");
+        }
+
+        // Select list elements, split at top-level commas up to FROM
+        List<int[]> items = new ArrayList<>();
+        int itemStart = c.pos;
+        while (!c.atEnd() && !c.isAny("FROM", "INTO", "UNION", "WHERE")) {
+            Token token = c.peek();
+            if (token.isSymbol("(")) {
+                if (c.pos > itemStart && AGGREGATE_FUNCTIONS.contains(c.tokens.get(c.pos - 1).text().toUpperCase(Locale.ROOT))) {
+                    updatable = false;
+                }
+                if (c.peekIs(1, "SELECT")) updatable = false;
+                c.skipGroup();
+                continue;
+            }
+            if (token.isSymbol(",")) {
+                items.add(new int[]{itemStart, c.pos});
+                c.next();
+                itemStart = c.pos;
+                continue;
+            }
+            c.next();
+        }
+        items.add(new int[]{itemStart, c.pos});
+
+        // FROM clause: table references and their aliases
+        Map<String, String> aliases = new LinkedHashMap<>();
+        int tableCount = 0;
+        if (c.accept("FROM")) {
+            boolean expectTable = true;
+            while (!c.atEnd() && !c.isAny("WHERE", "GROUP", "HAVING", "ORDER", "UNION", "LIMIT", "WITH")) {
+                if (c.isSymbol("(")) {
+                    c.skipGroup();
+                    tableCount++;
+                    updatable = false;
+                    expectTable = false;
+                    continue;
+                }
+                if (c.isSymbol(",") || c.is("JOIN")) {
+                    c.next();
+                    expectTable = true;
+                    continue;
+                }
+                if (c.is("ON") || c.is("USING")) {
+                    c.next();
+                    if (c.isSymbol("(")) c.skipGroup();
+                    expectTable = false;
+                    continue;
+                }
+                if (expectTable && c.peek().isIdentifier()
+                        && !c.isAny("INNER", "LEFT", "RIGHT", "FULL", "OUTER", "CROSS", "NATURAL", "LATERAL")) {
+                    String table = qualifiedName(c);
+                    tableCount++;
+                    c.accept("AS");
+                    String alias = table;
+                    if (c.peek() != null && c.peek().isIdentifier() && !isClauseKeyword(c.peek())) {
+                        alias = name(c.next());
+                    }
+                    aliases.put(alias.toUpperCase(Locale.ROOT), table);
+                    expectTable = false;
+                    continue;
+                }
+                c.next();
+            }
+            if (c.isAny("GROUP", "HAVING", "UNION")) updatable = false;
+            while (!c.atEnd()) {
+                if (c.isAny("GROUP", "HAVING", "UNION")) updatable = false;
+                c.next();
+            }
+        }
+        if (tableCount != 1) updatable = false;
+
+        List<String> columns = new ArrayList<>();
+        for (int[] item : items) {
+            columns.addAll(selectItemNames(c, item[0], item[1], aliases));
+        }
+        return new ViewShape(columns, updatable);
+    }
+
+    private List<String> selectItemNames(Cursor c, int start, int end, Map<String, String> aliases) {
+        if (end <= start) return List.of();
+        List<Token> tokens = c.tokens;
+        Token last = tokens.get(end - 1);
+
+        if (last.isSymbol("*")) {
+            List<String> expanded = new ArrayList<>();
+            if (end - start == 1) {
+                for (String table : aliases.values()) expanded.addAll(tableColumns(table));
+            } else if (end - start >= 3 && tokens.get(end - 2).isSymbol(".")) {
+                String alias = name(tokens.get(end - 3)).toUpperCase(Locale.ROOT);
+                expanded.addAll(tableColumns(aliases.getOrDefault(alias, alias)));
+            }
+            return expanded;
+        }
+
+        if (end - start >= 2) {
+            Token previous = tokens.get(end - 2);
+            boolean aliased = previous.is("AS")
+                    || (last.isIdentifier() && !previous.isSymbol(".") && (previous.isIdentifier()
+                    || previous.isSymbol(")") || previous.kind() == Kind.NUMBER || previous.kind() == Kind.STRING));
+            if (aliased && (last.isIdentifier() || last.kind() == Kind.STRING)) {
+                return List.of(last.kind() == Kind.STRING ? last.text() : name(last));
+            }
+        }
+        if (last.isIdentifier()) {
+            boolean qualifiedColumn = true;
+            for (int i = start; i < end; i++) {
+                Token token = tokens.get(i);
+                boolean expected = (i - start) % 2 == 0 ? token.isIdentifier() : token.isSymbol(".");
+                if (!expected) {
+                    qualifiedColumn = false;
+                    break;
+                }
+            }
+            if (qualifiedColumn) return List.of(name(last));
+        }
+
+        // Unaliased expression: named after its text
+        String expression = c.sql.substring(tokens.get(start).start(), last.end());
+        return List.of(type == DatabaseType.ORACLE
+                ? expression.replaceAll("\\s+", "").toUpperCase(Locale.ROOT)
+                : expression);
+    }
+
+    private List<String> tableColumns(String tableName) {
+        TableDef table = schema.table(tableName);
+        if (table == null) return List.of();
+        return table.columns.stream().map(col -> col.name).toList();
+    }
+
+    private static boolean isClauseKeyword(Token token) {
+        return Set.of("WHERE", "GROUP", "HAVING", "ORDER", "UNION", "LIMIT", "ON", "USING", "JOIN", "INNER",
+                "LEFT", "RIGHT", "FULL", "OUTER", "CROSS", "NATURAL", "WITH").contains(token.text().toUpperCase(Locale.ROOT));
+    }
+
+    // --- Triggers ---------------------------------------------------------
+
+    private boolean parseCreateTrigger(Cursor c) {
+        c.accept("IF", "NOT", "EXISTS");
+        String name = qualifiedName(c);
+
+        TriggerTiming timing = null;
+        boolean onInsert = false, onUpdate = false, onDelete = false;
+        boolean enabled = true;
+        String table = null;
+        int bodyStart = -1;
+
+        while (!c.atEnd() && bodyStart < 0) {
+            if (c.accept("BEFORE")) {
+                timing = TriggerTiming.BEFORE;
+            } else if (c.accept("AFTER")) {
+                timing = TriggerTiming.AFTER;
+            } else if (c.accept("INSTEAD", "OF")) {
+                timing = TriggerTiming.INSTEAD_OF;
+            } else if (c.accept("INSERT")) {
+                onInsert = true;
+            } else if (c.accept("DELETE")) {
+                onDelete = true;
+            } else if (c.accept("UPDATE")) {
+                onUpdate = true;
+                if (c.accept("OF")) {
+                    while (!c.atEnd() && !c.isAny("ON", "OR") && (c.peek().isIdentifier() || c.isSymbol(","))) {
+                        c.next();
+                    }
+                }
+            } else if (c.accept("ON") && table == null) {
+                if (c.isAny("DATABASE", "ALL", "SCHEMA")) {
+                    return false; // DDL trigger, not attached to a table
+                }
+                table = qualifiedName(c);
+            } else if (c.accept("FOR", "EACH")) {
+                c.acceptAny("ROW", "STATEMENT");
+                if (type == DatabaseType.MYSQL) {
+                    if (c.acceptAny("FOLLOWS", "PRECEDES")) c.next();
+                    bodyStart = c.pos;
+                }
+            } else if (type == DatabaseType.MSSQL && c.accept("FOR")) {
+                timing = TriggerTiming.AFTER;
+            } else if (c.accept("WHEN")) {
+                if (c.isSymbol("(")) c.skipGroup();
+            } else if (c.accept("REFERENCING")) {
+                while (c.acceptAny("OLD", "NEW", "PARENT", "TABLE", "ROW", "AS")) {
+                    if (c.peek() != null && c.peek().isIdentifier() && !c.isAny("OLD", "NEW", "PARENT", "FOR", "WHEN")) {
+                        c.next();
+                    }
+                }
+            } else if (c.accept("DISABLE")) {
+                enabled = false;
+            } else if (type == DatabaseType.ORACLE && c.isAny("DECLARE", "BEGIN", "COMPOUND", "CALL")) {
+                bodyStart = c.pos;
+            } else if (type == DatabaseType.POSTGRESQL && c.is("EXECUTE")) {
+                bodyStart = c.pos;
+            } else if (type == DatabaseType.MSSQL && c.accept("AS")) {
+                bodyStart = c.pos;
+            } else if (c.isSymbol("(")) {
+                c.skipGroup();
+            } else {
+                c.next();
+            }
+        }
+
+        if (table == null) {
+            return false;
+        }
+
+        String definition = type == DatabaseType.MSSQL || bodyStart < 0
+                ? c.sql.strip()
+                : c.textFrom(bodyStart);
+
+        schema.putTrigger(new TriggerInfo(
+                name,
+                table,
+                timing != null ? timing : TriggerTiming.AFTER,
+                triggerEvent(onInsert, onUpdate, onDelete),
+                definition,
+                enabled
+        ));
+        return true;
+    }
+
+    private static TriggerEvent triggerEvent(boolean insert, boolean update, boolean delete) {
+        if (insert && update && delete) return TriggerEvent.INSERT_UPDATE_DELETE;
+        if (insert && update) return TriggerEvent.INSERT_UPDATE;
+        if (insert && delete) return TriggerEvent.INSERT_DELETE;
+        if (update && delete) return TriggerEvent.UPDATE_DELETE;
+        if (update) return TriggerEvent.UPDATE;
+        if (delete) return TriggerEvent.DELETE;
+        return TriggerEvent.INSERT;
+    }
+
+    // --- Sequences --------------------------------------------------------
+
+    private boolean parseCreateSequence(Cursor c) {
+        if (type == DatabaseType.MYSQL) {
+            return false; // Not captured for MySQL (see MySqlDialect)
+        }
+        c.accept("IF", "NOT", "EXISTS");
+        String name = qualifiedName(c);
+
+        Long start = null, min = null, max = null, cache = null;
+        long increment = 1;
+        boolean cycle = false;
+        String dataType = "BIGINT";
+
+        while (!c.atEnd()) {
+            if (c.accept("AS")) {
+                dataType = parseType(c).name();
+            } else if (c.accept("START")) {
+                c.accept("WITH");
+                start = number(c);
+            } else if (c.accept("INCREMENT")) {
+                c.accept("BY");
+                Long value = number(c);
+                if (value != null) increment = value;
+            } else if (c.accept("MINVALUE")) {
+                min = number(c);
+            } else if (c.accept("MAXVALUE")) {
+                max = number(c);
+            } else if (c.accept("CYCLE")) {
+                cycle = true;
+            } else if (c.accept("NOCYCLE") || c.accept("NO", "CYCLE")) {
+                cycle = false;
+            } else if (c.accept("CACHE")) {
+                cache = number(c);
+            } else if (c.accept("NOCACHE") || c.accept("NO", "CACHE")) {
+                cache = 0L;
+            } else {
+                c.next();
+            }
+        }
+
+        long typeMin = switch (dataType) {
+            case "TINYINT" -> 0;
+            case "SMALLINT", "INT2" -> Short.MIN_VALUE;
+            case "INT", "INTEGER", "INT4" -> Integer.MIN_VALUE;
+            default -> Long.MIN_VALUE;
+        };
+        long typeMax = switch (dataType) {
+            case "TINYINT" -> 255;
+            case "SMALLINT", "INT2" -> Short.MAX_VALUE;
+            case "INT", "INTEGER", "INT4" -> Integer.MAX_VALUE;
+            default -> Long.MAX_VALUE;
+        };
+        boolean ascending = increment > 0;
+
+        long minValue;
+        long maxValue;
+        long startValue;
+        int cacheSize;
+        switch (type) {
+            case MSSQL -> {
+                minValue = min != null ? min : typeMin;
+                maxValue = max != null ? max : typeMax;
+                startValue = start != null ? start : ascending ? minValue : maxValue;
+                cacheSize = cache != null ? cache.intValue() : 0; // NULL (default) is read as 0
+            }
+            case ORACLE -> {
+                minValue = min != null ? min : ascending ? 1 : Long.MIN_VALUE;
+                maxValue = max != null ? max : ascending ? Long.MAX_VALUE : -1;
+                startValue = 1; // OracleDialect does not read the start value
+                cacheSize = cache != null ? cache.intValue() : 20;
+            }
+            default -> {
+                minValue = min != null ? min : ascending ? 1 : typeMin;
+                maxValue = max != null ? max : ascending ? typeMax : -1;
+                startValue = start != null ? start : ascending ? minValue : maxValue;
+                cacheSize = cache != null ? cache.intValue() : 1;
+            }
+        }
+
+        schema.putSequence(new SequenceInfo(name, schema.schemaName(), startValue, increment,
+                minValue, maxValue, cycle, cacheSize));
+        return true;
+    }
+
+    /**
+     * PostgreSQL creates an owned sequence for every serial column.
+     */
+    private void addSerialSequence(TableDef table, ColumnDef column) {
+        column.autoIncrement = true;
+        column.nullable = false;
+        String sequence = table.name + "_" + column.name + "_seq";
+        column.defaultValue = "nextval('" + sequence + "'::regclass)";
+        if (!schema.hasSequence(sequence)) {
+            long max = switch (column.spec.name()) {
+                case "SMALLSERIAL", "SERIAL2" -> Short.MAX_VALUE;
+                case "SERIAL", "SERIAL4" -> Integer.MAX_VALUE;
+                default -> Long.MAX_VALUE;
+            };
+            schema.putSequence(new SequenceInfo(sequence, schema.schemaName(), 1, 1, 1L, max, false, 1));
+        }
+    }
+
+    private Long number(Cursor c) {
+        boolean negative = c.acceptSymbol("-");
+        c.acceptSymbol("+");
+        Token token = c.peek();
+        if (token == null || token.kind() != Kind.NUMBER) {
+            return null;
+        }
+        c.next();
+        BigDecimal value = new BigDecimal(token.text());
+        if (negative) value = value.negate();
+        if (value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) return Long.MAX_VALUE;
+        if (value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) return Long.MIN_VALUE;
+        return value.longValue();
+    }
+
+    // --- Routines ---------------------------------------------------------
+
+    private boolean parseCreateRoutine(Cursor c, RoutineType routineType, int keywordPos) {
+        c.accept("IF", "NOT", "EXISTS");
+        String name = qualifiedName(c);
+
+        RoutineInfo routine = switch (type) {
+            case MYSQL -> mysqlRoutine(c, name, routineType);
+            case MSSQL -> mssqlRoutine(c, name, routineType);
+            case ORACLE -> oracleRoutine(c, name, routineType, keywordPos);
+            case POSTGRESQL -> postgresRoutine(c, name, routineType);
+        };
+        if (routine == null) {
+            return false;
+        }
+        schema.putRoutine(routine);
+        return true;
+    }
+
+    private RoutineInfo mysqlRoutine(Cursor c, String name, RoutineType routineType) {
+        List<ParameterInfo> params = new ArrayList<>();
+        if (c.isSymbol("(")) {
+            List<int[]> elements = c.groupElements();
+            int after = c.pos;
+            for (int[] element : elements) {
+                c.pos = element[0];
+                ParameterInfo.ParameterMode mode = parameterMode(c);
+                String paramName = name(c.next());
+                TypeSpec spec = parseType(c);
+                params.add(new ParameterInfo(paramName, DataTypes.parameterTypeName(type, spec), mode, params.size() + 1));
+            }
+            c.pos = after;
+        }
+
+        String returnType = "";
+        if (c.accept("RETURNS")) {
+            returnType = DataTypes.parameterTypeName(type, parseType(c));
+        }
+
+        while (!c.atEnd()) {
+            if (c.accept("COMMENT")) {
+                c.next();
+            } else if (c.accept("LANGUAGE", "SQL") || c.accept("NOT", "DETERMINISTIC") || c.accept("DETERMINISTIC")
+                    || c.accept("CONTAINS", "SQL") || c.accept("NO", "SQL") || c.accept("READS", "SQL", "DATA")
+                    || c.accept("MODIFIES", "SQL", "DATA")) {
+                // Characteristic
+            } else if (c.accept("SQL", "SECURITY") || c.acceptAny("CHARSET", "COLLATE")) {
+                c.next();
+            } else if (c.accept("CHARACTER", "SET")) {
+                c.next();
+            } else {
+                break;
+            }
+        }
+
+        return new RoutineInfo(name, schema.schemaName(), routineType,
+                routineType == RoutineType.FUNCTION ? returnType : "",
+                params, c.textFrom(c.pos), "SQL");
+    }
+
+    private RoutineInfo mssqlRoutine(Cursor c, String name, RoutineType routineType) {
+        if (c.acceptSymbol(";")) c.next(); // Numbered procedure
+
+        List<ParameterInfo> params = new ArrayList<>();
+        boolean parenthesised = c.isSymbol("(");
+        int listEnd;
+        if (parenthesised) {
+            listEnd = c.groupEnd();
+            c.next();
+        } else {
+            listEnd = c.tokens.size();
+        }
+
+        while (c.pos < listEnd && !c.atEnd() && c.peek().text().startsWith("@")) {
+            String paramName = c.next().text();
+            c.accept("AS");
+            TypeSpec spec = parseType(c);
+            ParameterInfo.ParameterMode mode = ParameterInfo.ParameterMode.IN;
+            while (c.pos < listEnd && !c.atEnd() && !c.isSymbol(",")) {
+                if (c.acceptAny("OUT", "OUTPUT")) {
+                    mode = ParameterInfo.ParameterMode.INOUT;
+                } else if (c.isAny("AS", "WITH", "FOR", "RETURNS") && !parenthesised) {
+                    break;
+                } else if (c.isSymbol("(")) {
+                    c.skipGroup();
+                } else {
+                    c.next();
+                }
+            }
+            params.add(new ParameterInfo(paramName, DataTypes.parameterTypeName(type, spec), mode, params.size() + 1));
+            if (!c.acceptSymbol(",")) break;
+        }
+        if (parenthesised) c.pos = listEnd + 1;
+
+        String returnType = null;
+        if (routineType == RoutineType.FUNCTION && c.accept("RETURNS")) {
+            if (c.accept("TABLE") || (c.peek() != null && c.peek().text().startsWith("@"))) {
+                returnType = "TABLE";
+            } else {
+                returnType = DataTypes.parameterTypeName(type, parseType(c));
+            }
+        }
+
+        return new RoutineInfo(name, schema.schemaName(), routineType, returnType, params, c.sql.strip(), "T-SQL");
+    }
+
+    private RoutineInfo oracleRoutine(Cursor c, String name, RoutineType routineType, int keywordPos) {
+        List<ParameterInfo> params = new ArrayList<>();
+        boolean isPackage = routineType == RoutineType.PACKAGE || routineType == RoutineType.PACKAGE_BODY;
+
+        if (!isPackage && c.isSymbol("(")) {
+            List<int[]> elements = c.groupElements();
+            int after = c.pos;
+            for (int[] element : elements) {
+                c.pos = element[0];
+                String paramName = name(c.next());
+                ParameterInfo.ParameterMode mode = ParameterInfo.ParameterMode.IN;
+                if (c.accept("IN", "OUT")) {
+                    mode = ParameterInfo.ParameterMode.INOUT;
+                } else if (c.accept("OUT")) {
+                    mode = ParameterInfo.ParameterMode.OUT;
+                } else {
+                    c.accept("IN");
+                }
+                c.accept("NOCOPY");
+                params.add(new ParameterInfo(paramName, oracleParameterType(c), mode, params.size() + 1));
+            }
+            c.pos = after;
+        }
+
+        return new RoutineInfo(name, schema.schemaName(), routineType, null, params,
+                c.textFrom(keywordPos), "PL/SQL");
+    }
+
+    /**
+     * Resolves an Oracle parameter type, including anchored {@code table.column%TYPE} types.
+     */
+    private String oracleParameterType(Cursor c) {
+        int start = c.pos;
+        Token first = c.peek();
+        if (first != null && first.isIdentifier() && c.peekIsSymbol(1, ".") && c.peekIsSymbol(3, "%")) {
+            String table = name(c.next());
+            c.next();
+            String column = name(c.next());
+            c.next();
+            if (c.accept("TYPE")) {
+                TableDef tableDef = schema.table(table);
+                ColumnDef columnDef = tableDef != null ? tableDef.column(column) : null;
+                if (columnDef != null) {
+                    return DataTypes.parameterTypeName(type, columnDef.spec);
+                }
+                return "UNDEFINED";
+            }
+        }
+        c.pos = start;
+        if (first != null && c.peekIsSymbol(1, "%")) {
+            c.next();
+            c.next();
+            return c.accept("ROWTYPE") ? "PL/SQL RECORD" : "UNDEFINED";
+        }
+        return DataTypes.parameterTypeName(type, parseType(c));
+    }
+
+    private RoutineInfo postgresRoutine(Cursor c, String name, RoutineType routineType) {
+        List<ParameterInfo> params = new ArrayList<>();
+        boolean hasOutParams = false;
+
+        if (c.isSymbol("(")) {
+            List<int[]> elements = c.groupElements();
+            int after = c.pos;
+            for (int[] element : elements) {
+                c.pos = element[0];
+                ParameterInfo.ParameterMode mode = parameterMode(c);
+                c.accept("VARIADIC");
+                hasOutParams |= mode != ParameterInfo.ParameterMode.IN;
+
+                String paramName = null;
+                Token first = c.peek();
+                Token second = c.peek(1);
+                if (first != null && second != null && first.isIdentifier() && c.pos + 1 < element[1]
+                        && !second.isSymbol("(") && !second.isSymbol("[") && !second.isSymbol(".")
+                        && !isTypeContinuation(first, second)) {
+                    paramName = name(c.next());
+                }
+                TypeSpec spec = parseType(c);
+                if (paramName != null) {
+                    params.add(new ParameterInfo(paramName, DataTypes.parameterTypeName(type, spec), mode,
+                            params.size() + 1));
+                }
+            }
+            c.pos = after;
+        }
+
+        String returnType = null;
+        String language = "SQL";
+        String body = null;
+        while (!c.atEnd()) {
+            if (c.accept("RETURNS")) {
+                if (c.accept("TABLE")) {
+                    returnType = "record";
+                    if (c.isSymbol("(")) c.skipGroup();
+                } else {
+                    c.accept("SETOF");
+                    returnType = DataTypes.parameterTypeName(type, parseType(c));
+                }
+            } else if (c.accept("LANGUAGE")) {
+                Token lang = c.next();
+                if (lang != null) language = lang.text().toUpperCase(Locale.ROOT);
+            } else if (c.accept("AS")) {
+                Token definition = c.next();
+                if (definition != null && definition.kind() == Kind.STRING) body = definition.text();
+            } else if (c.isSymbol("(")) {
+                c.skipGroup();
+            } else {
+                c.next();
+            }
+        }
+        if (routineType == RoutineType.FUNCTION && returnType == null && hasOutParams) {
+            returnType = "record";
+        }
+
+        return new RoutineInfo(name, schema.schemaName(), routineType,
+                routineType == RoutineType.FUNCTION ? returnType : null,
+                params, body, language);
+    }
+
+    private ParameterInfo.ParameterMode parameterMode(Cursor c) {
+        if (c.accept("INOUT")) return ParameterInfo.ParameterMode.INOUT;
+        if (c.accept("OUT")) return ParameterInfo.ParameterMode.OUT;
+        c.accept("IN");
+        return ParameterInfo.ParameterMode.IN;
+    }
+
+    // --- DROP -------------------------------------------------------------
+
+    private boolean parseDrop(Cursor c) {
+        Token kind = c.next();
+        if (kind == null || kind.kind() != Kind.WORD) {
+            return false;
+        }
+        String objectKind = kind.text().toUpperCase(Locale.ROOT);
+        if (objectKind.equals("PACKAGE")) c.accept("BODY");
+        if (objectKind.equals("INDEX")) c.accept("CONCURRENTLY");
+        c.accept("IF", "EXISTS");
+
+        boolean changed = false;
+        do {
+            if (c.atEnd() || !c.peek().isIdentifier()) break;
+            String name = qualifiedName(c);
+            switch (objectKind) {
+                case "TABLE" -> schema.dropTable(name);
+                case "VIEW" -> schema.dropView(name);
+                case "PROCEDURE", "PROC", "FUNCTION", "PACKAGE" -> schema.dropRoutine(name);
+                case "TRIGGER" -> schema.dropTrigger(name);
+                case "SEQUENCE" -> schema.dropSequence(name);
+                case "INDEX" -> schema.dropIndex(name, c.accept("ON") ? qualifiedName(c) : null);
+                default -> {
+                    return false;
+                }
+            }
+            changed = true;
+            if (c.isSymbol("(")) c.skipGroup(); // Function signature
+        } while (c.acceptSymbol(","));
+
+        return changed;
+    }
+
+    // --- Shared pieces ----------------------------------------------------
+
+    /**
+     * Parses a data type on its own, such as a column type read from the catalog.
+     */
+    static TypeSpec parseType(DatabaseType type, String text) {
+        DdlStatementParser parser = new DdlStatementParser(type, new ParsedSchema(type, ""));
+        return parser.parseType(new Cursor(text, DdlTokenizer.tokenize(text, type)));
+    }
+
+    /**
+     * Parses a data type: base name (possibly multi-word or schema-qualified),
+     * arguments, and trailing modifiers.
+     */
+    private TypeSpec parseType(Cursor c) {
+        Token first = c.next();
+        if (first == null) {
+            return new TypeSpec("UNKNOWN", List.of(), "", false);
+        }
+        String base = first.text().toUpperCase(Locale.ROOT);
+        while (c.isSymbol(".") && c.peek(1) != null && c.peek(1).isIdentifier()) {
+            c.next();
+            base = c.next().text().toUpperCase(Locale.ROOT);
+        }
+
+        if (base.equals("DOUBLE") && c.accept("PRECISION")) {
+            base = "DOUBLE PRECISION";
+        } else if (base.equals("NATIONAL") && c.acceptAny("CHARACTER", "CHAR")) {
+            base = "NATIONAL " + c.tokens.get(c.pos - 1).text().toUpperCase(Locale.ROOT);
+            if (c.accept("VARYING")) base += " VARYING";
+        } else if (Set.of("CHARACTER", "CHAR", "NCHAR", "BIT").contains(base) && c.accept("VARYING")) {
+            base += " VARYING";
+        } else if (base.equals("LONG") && c.accept("RAW")) {
+            base = "LONG RAW";
+        } else if (base.equals("INTERVAL")) {
+            while (c.acceptAny("YEAR", "MONTH", "DAY", "HOUR", "MINUTE", "SECOND", "TO")) {
+                if (c.isSymbol("(")) c.skipGroup();
+            }
+        }
+
+        List<String> args = new ArrayList<>();
+        if (c.isSymbol("(")) {
+            for (int[] element : c.groupElements()) {
+                if (element[1] > element[0]) {
+                    args.add(c.text(element[0], element[1]).toUpperCase(Locale.ROOT));
+                }
+            }
+        }
+
+        StringBuilder suffix = new StringBuilder();
+        boolean array = false;
+        while (!c.atEnd()) {
+            if (c.acceptAny("UNSIGNED", "SIGNED", "ZEROFILL")) {
+                suffix.append(' ').append(c.tokens.get(c.pos - 1).text().toUpperCase(Locale.ROOT));
+            } else if (c.accept("WITH", "LOCAL", "TIME", "ZONE")) {
+                suffix.append(" WITH LOCAL TIME ZONE");
+            } else if (c.accept("WITH", "TIME", "ZONE")) {
+                suffix.append(" WITH TIME ZONE");
+            } else if (c.accept("WITHOUT", "TIME", "ZONE")) {
+                suffix.append(" WITHOUT TIME ZONE");
+            } else if (c.isSymbol("[")) {
+                while (!c.atEnd() && !c.isSymbol("]")) c.next();
+                c.acceptSymbol("]");
+                array = true;
+            } else if (type == DatabaseType.POSTGRESQL && c.accept("ARRAY")) {
+                array = true;
+            } else if (type == DatabaseType.MSSQL && c.accept("VARYING")) {
+                // Cursor parameters
+            } else {
+                break;
+            }
+        }
+
+        return new TypeSpec(base, args, suffix.toString().strip(), array);
+    }
+
+    private boolean isTypeContinuation(Token first, Token second) {
+        String a = first.text().toUpperCase(Locale.ROOT);
+        String b = second.text().toUpperCase(Locale.ROOT);
+        return (a.equals("DOUBLE") && b.equals("PRECISION"))
+                || (Set.of("CHARACTER", "CHAR", "BIT", "NATIONAL").contains(a) && Set.of("VARYING", "CHARACTER", "CHAR").contains(b))
+                || (Set.of("TIMESTAMP", "TIME").contains(a) && Set.of("WITH", "WITHOUT").contains(b));
+    }
+
+    /**
+     * Reads a default value expression and returns its text.
+     */
+    private String parseDefault(Cursor c) {
+        if (c.accept("NULL")) {
+            return null; // Reported by the drivers as no default
+        }
+        int start = c.pos;
+        if (c.isSymbol("(")) {
+            c.skipGroup();
+        } else {
+            if (c.isSymbol("-") || c.isSymbol("+")) c.next();
+            c.next();
+        }
+        while (!c.atEnd()) {
+            if (c.isSymbol("(")) {
+                c.skipGroup();
+            } else if (c.isSymbol("::")) {
+                c.next();
+                parseType(c);
+            } else if (c.isSymbol(".") || c.isSymbol("||")) {
+                c.next();
+                c.next();
+            } else {
+                break;
+            }
+        }
+        return c.pos > start ? c.text(start, c.pos) : null;
+    }
+
+    /**
+     * Reads a parenthesised list of column names (index/key columns). Prefix lengths,
+     * sort order and operator classes are dropped; expressions are kept as text.
+     */
+    private List<String> columnList(Cursor c) {
+        List<String> columns = new ArrayList<>();
+        if (!c.isSymbol("(")) {
+            return columns;
+        }
+        for (int[] element : c.groupElements()) {
+            if (element[1] <= element[0]) continue;
+            Token first = c.tokens.get(element[0]);
+            boolean simple = first.isIdentifier()
+                    && (element[1] - element[0] == 1 || !c.tokens.get(element[0] + 1).isSymbol("."));
+            columns.add(simple ? name(first) : c.text(element[0], element[1]));
+        }
+        return columns;
+    }
+
+    /**
+     * Reads a possibly qualified object name and returns its last part.
+     */
+    private String qualifiedName(Cursor c) {
+        Token token = c.next();
+        if (token == null) {
+            throw new IllegalArgumentException("Expected an object name");
+        }
+        String name = name(token);
+        while (c.isSymbol(".") && c.peek(1) != null && c.peek(1).isIdentifier()) {
+            c.next();
+            name = name(c.next());
+        }
+        return name;
+    }
+
+    /**
+     * Applies the engine's identifier case folding to an unquoted name.
+     */
+    private String name(Token token) {
+        if (token == null) {
+            throw new IllegalArgumentException("Unexpected end of statement");
+        }
+        if (token.kind() != Kind.WORD) {
+            return token.text();
+        }
+        return switch (type) {
+            case ORACLE -> token.text().toUpperCase(Locale.ROOT);
+            case POSTGRESQL -> token.text().toLowerCase(Locale.ROOT);
+            default -> token.text();
+        };
+    }
+
+    private String primaryKeyName(TableDef table) {
+        return switch (type) {
+            case MYSQL -> "PRIMARY";
+            case POSTGRESQL -> table.name + "_pkey";
+            case MSSQL -> "PK__" + table.name;
+            case ORACLE -> syntheticName("SYS_C");
+        };
+    }
+
+    private String uniqueName(TableDef table, List<String> columns) {
+        return switch (type) {
+            case MYSQL -> columns.isEmpty() ? syntheticName("UNIQUE") : columns.get(0);
+            case POSTGRESQL -> table.name + "_" + String.join("_", columns) + "_key";
+            case MSSQL -> "UQ__" + table.name + "__" + String.join("_", columns);
+            case ORACLE -> syntheticName("SYS_C");
+        };
+    }
+
+    private String foreignKeyName(TableDef table, List<String> columns) {
+        return switch (type) {
+            case MYSQL -> table.name + "_ibfk_" + (table.foreignKeys.size() + 1);
+            case POSTGRESQL -> table.name + "_" + String.join("_", columns) + "_fkey";
+            case MSSQL -> "FK__" + table.name + "__" + String.join("_", columns);
+            case ORACLE -> syntheticName("SYS_C");
+        };
+    }
+
+    private String syntheticName(String prefix) {
+        return String.format("%s%07d", prefix, ++syntheticNames);
+    }
+
+    /**
+     * Position-based reader over the tokens of one statement.
+     */
+    private static final class Cursor {
+
+        final String sql;
+        final List<Token> tokens;
+        int pos = 0;
+
+        Cursor(String sql, List<Token> tokens) {
+            this.sql = sql;
+            this.tokens = tokens;
+        }
+
+        boolean atEnd() {
+            return pos >= tokens.size();
+        }
+
+        Token peek() {
+            return peek(0);
+        }
+
+        Token peek(int ahead) {
+            int index = pos + ahead;
+            return index < tokens.size() ? tokens.get(index) : null;
+        }
+
+        Token next() {
+            return pos < tokens.size() ? tokens.get(pos++) : null;
+        }
+
+        boolean is(String keyword) {
+            Token token = peek();
+            return token != null && token.is(keyword);
+        }
+
+        boolean isAny(String... keywords) {
+            for (String keyword : keywords) {
+                if (is(keyword)) return true;
+            }
+            return false;
+        }
+
+        boolean peekIs(int ahead, String keyword) {
+            Token token = peek(ahead);
+            return token != null && token.is(keyword);
+        }
+
+        boolean peekIsSymbol(int ahead, String symbol) {
+            Token token = peek(ahead);
+            return token != null && token.isSymbol(symbol);
+        }
+
+        boolean isSymbol(String symbol) {
+            Token token = peek();
+            return token != null && token.isSymbol(symbol);
+        }
+
+        /**
+         * Consumes the keyword sequence if all of it is present; otherwise consumes nothing.
+         */
+        boolean accept(String... keywords) {
+            for (int i = 0; i < keywords.length; i++) {
+                if (!peekIs(i, keywords[i])) return false;
+            }
+            pos += keywords.length;
+            return true;
+        }
+
+        boolean acceptAny(String... keywords) {
+            for (String keyword : keywords) {
+                if (accept(keyword)) return true;
+            }
+            return false;
+        }
+
+        boolean acceptSymbol(String symbol) {
+            if (isSymbol(symbol)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Returns the index of the ')' matching the '(' at the current position.
+         */
+        int groupEnd() {
+            int depth = 0;
+            for (int i = pos; i < tokens.size(); i++) {
+                Token token = tokens.get(i);
+                if (token.isSymbol("(")) depth++;
+                else if (token.isSymbol(")") && --depth == 0) return i;
+            }
+            return tokens.size();
+        }
+
+        void skipGroup() {
+            pos = Math.min(groupEnd() + 1, tokens.size());
+        }
+
+        /**
+         * Splits the parenthesised group at the current position into top-level
+         * comma-separated elements ({start, end} token ranges) and moves past the group.
+         */
+        List<int[]> groupElements() {
+            List<int[]> elements = new ArrayList<>();
+            int end = groupEnd();
+            int depth = 0;
+            int start = pos + 1;
+            for (int i = pos + 1; i < end; i++) {
+                Token token = tokens.get(i);
+                if (token.isSymbol("(") || token.isSymbol("[")) depth++;
+                else if (token.isSymbol(")") || token.isSymbol("]")) depth--;
+                else if (token.isSymbol(",") && depth == 0) {
+                    elements.add(new int[]{start, i});
+                    start = i + 1;
+                }
+            }
+            if (end > start) {
+                elements.add(new int[]{start, end});
+            }
+            pos = Math.min(end + 1, tokens.size());
+            return elements;
+        }
+
+        /**
+         * Moves to the next top-level ',' (or the given end), without consuming it.
+         */
+        void skipToElementEnd(int end) {
+            int depth = 0;
+            while (pos < end && pos < tokens.size()) {
+                Token token = tokens.get(pos);
+                if (token.isSymbol("(")) depth++;
+                else if (token.isSymbol(")")) depth--;
+                else if (token.isSymbol(",") && depth <= 0) return;
+                pos++;
+            }
+        }
+
+        String text(int from, int to) {
+            if (from >= to || from >= tokens.size()) return "";
+            return sql.substring(tokens.get(from).start(), tokens.get(Math.min(to, tokens.size()) - 1).end());
+        }
+
+        String textFrom(int from) {
+            return text(from, tokens.size());
+        }
+    }
+}
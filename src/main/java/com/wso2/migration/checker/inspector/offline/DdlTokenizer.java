@@ -0,0 +1,211 @@
+package com.wso2.migration.checker.inspector.offline;
+
+import com.wso2.migration.checker.container.DatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a single SQL statement into tokens. Comments are dropped; MySQL
+ * conditional comments ({@code /*!50003 ... *}{@code /}) are unwrapped because
+ * mysqldump hides trigger and routine definitions inside them.
+ */
+final class DdlTokenizer {
+
+    enum Kind {
+        WORD,     // Unquoted identifier or keyword
+        QUOTED,   // Quoted identifier; text is the unquoted name
+        STRING,   // String literal or PostgreSQL dollar-quoted body; text is the content
+        NUMBER,
+        SYMBOL
+    }
+
+    /**
+     * A token with its position in the statement text.
+     */
+    record Token(Kind kind, String text, int start, int end) {
+
+        boolean is(String keyword) {
+            return kind == Kind.WORD && text.equalsIgnoreCase(keyword);
+        }
+
+        boolean isSymbol(String symbol) {
+            return kind == Kind.SYMBOL && text.equals(symbol);
+        }
+
+        boolean isIdentifier() {
+            return kind == Kind.WORD || kind == Kind.QUOTED;
+        }
+    }
+
+    private static final String[] MULTI_CHAR_SYMBOLS = {":=", "::", "<=", ">=", "<>", "!=", "=>", "||", "->>", "->"};
+
+    private DdlTokenizer() {
+        // Utility class
+    }
+
+    static List<Token> tokenize(String sql, DatabaseType type) {
+        List<Token> tokens = new ArrayList<>();
+        int length = sql.length();
+        int conditionalDepth = 0;
+        int i = 0;
+
+        while (i < length) {
+            char c = sql.charAt(i);
+            char next = i + 1 < length ? sql.charAt(i + 1) : '\0';
+
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            // Comments
+            if ((c == '-' && next == '-') || (c == '#' && type == DatabaseType.MYSQL)) {
+                int eol = sql.indexOf('\n', i);
+                i = eol < 0 ? length : eol + 1;
+                continue;
+            }
+            if (c == '/' && next == '*') {
+                if (type == DatabaseType.MYSQL && i + 2 < length && sql.charAt(i + 2) == '!') {
+                    i += 3;
+                    while (i < length && Character.isDigit(sql.charAt(i))) i++;
+                    conditionalDepth++;
+                    continue;
+                }
+                int close = sql.indexOf("*/", i + 2);
+                i = close < 0 ? length : close + 2;
+                continue;
+            }
+            if (c == '*' && next == '/' && conditionalDepth > 0) {
+                conditionalDepth--;
+                i += 2;
+                continue;
+            }
+
+            // String literals, including N'', E'', B'' and X'' prefixes
+            if (c == '\'' || (next == '\'' && "NnEeBbXx".indexOf(c) >= 0 && !precededByWordChar(sql, i))) {
+                int quote = c == '\'' ? i : i + 1;
+                int end = scanQuoted(sql, quote, '\'', type == DatabaseType.MYSQL || c == 'E' || c == 'e');
+                tokens.add(new Token(Kind.STRING, unquote(sql, quote, end, '\''), i, end));
+                i = end;
+                continue;
+            }
+
+            // Quoted identifiers (MySQL treats double quotes as strings)
+            if (c == '"') {
+                int end = scanQuoted(sql, i, '"', type == DatabaseType.MYSQL);
+                Kind kind = type == DatabaseType.MYSQL ? Kind.STRING : Kind.QUOTED;
+                tokens.add(new Token(kind, unquote(sql, i, end, '"'), i, end));
+                i = end;
+                continue;
+            }
+            if (c == '`' && type == DatabaseType.MYSQL) {
+                int end = scanQuoted(sql, i, '`', false);
+                tokens.add(new Token(Kind.QUOTED, unquote(sql, i, end, '`'), i, end));
+                i = end;
+                continue;
+            }
+            if (c == '[' && type == DatabaseType.MSSQL) {
+                int end = scanQuoted(sql, i, ']', false);
+                tokens.add(new Token(Kind.QUOTED, unquote(sql, i, end, ']'), i, end));
+                i = end;
+                continue;
+            }
+
+            // PostgreSQL dollar quoting
+            if (c == '$' && type == DatabaseType.POSTGRESQL) {
+                int tagEnd = i + 1;
+                while (tagEnd < length && (Character.isLetterOrDigit(sql.charAt(tagEnd)) || sql.charAt(tagEnd) == '_')) {
+                    tagEnd++;
+                }
+                if (tagEnd < length && sql.charAt(tagEnd) == '$' && !Character.isDigit(next)) {
+                    String tag = sql.substring(i, tagEnd + 1);
+                    int close = sql.indexOf(tag, tagEnd + 1);
+                    int end = close < 0 ? length : close + tag.length();
+                    String body = sql.substring(tagEnd + 1, close < 0 ? length : close);
+                    tokens.add(new Token(Kind.STRING, body, i, end));
+                    i = end;
+                    continue;
+                }
+            }
+
+            // Words: keywords and unquoted identifiers (MSSQL variables and temp tables included)
+            if (Character.isLetter(c) || c == '_'
+                    || (type == DatabaseType.MSSQL && (c == '@' || c == '#'))) {
+                int end = i + 1;
+                while (end < length && isWordChar(sql.charAt(end))) end++;
+                tokens.add(new Token(Kind.WORD, sql.substring(i, end), i, end));
+                i = end;
+                continue;
+            }
+
+            if (Character.isDigit(c) || (c == '.' && Character.isDigit(next))) {
+                int end = i + 1;
+                while (end < length) {
+                    char d = sql.charAt(end);
+                    if (Character.isDigit(d) || d == '.') {
+                        end++;
+                    } else if ((d == 'e' || d == 'E') && end + 1 < length
+                            && (Character.isDigit(sql.charAt(end + 1)) || sql.charAt(end + 1) == '-')) {
+                        end += 2;
+                    } else {
+                        break;
+                    }
+                }
+                tokens.add(new Token(Kind.NUMBER, sql.substring(i, end), i, end));
+                i = end;
+                continue;
+            }
+
+            String symbol = String.valueOf(c);
+            for (String candidate : MULTI_CHAR_SYMBOLS) {
+                if (sql.startsWith(candidate, i)) {
+                    symbol = candidate;
+                    break;
+                }
+            }
+            tokens.add(new Token(Kind.SYMBOL, symbol, i, i + symbol.length()));
+            i += symbol.length();
+        }
+
+        return tokens;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#' || c == '@';
+    }
+
+    private static boolean precededByWordChar(String sql, int i) {
+        return i > 0 && isWordChar(sql.charAt(i - 1));
+    }
+
+    /**
+     * Returns the index just past the closing quote (doubled quotes are escapes).
+     */
+    private static int scanQuoted(String sql, int open, char close, boolean backslashEscapes) {
+        int i = open + 1;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (backslashEscapes && c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == close) {
+                if (i + 1 < length && sql.charAt(i + 1) == close) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return length;
+    }
+
+    private static String unquote(String sql, int open, int end, char close) {
+        int contentEnd = Math.max(open + 1, sql.charAt(end - 1) == close ? end - 1 : end);
+        String doubled = String.valueOf(close) + close;
+        return sql.substring(open + 1, contentEnd).replace(doubled, String.valueOf(close));
+    }
+}
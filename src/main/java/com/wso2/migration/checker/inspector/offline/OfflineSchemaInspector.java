@@ -0,0 +1,110 @@
+package com.wso2.migration.checker.inspector.offline;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.model.*;
+import com.wso2.migration.checker.util.SqlScriptReader;
+import com.wso2.migration.checker.util.SqlScriptReader.SqlStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a schema snapshot by parsing the DDL in a dump file, without starting a
+ * database. The snapshot mirrors what {@link com.wso2.migration.checker.inspector.SchemaInspector}
+ * reports for the same dump (type names, implicit indexes, default constraint names),
+ * so both can be compared with the same diff engine.
+ */
+public class OfflineSchemaInspector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OfflineSchemaInspector.class);
+
+    private final DatabaseType databaseType;
+
+    public OfflineSchemaInspector(DatabaseType databaseType) {
+        this.databaseType = databaseType;
+    }
+
+    /**
+     * Parses the dump and captures the resulting schema.
+     *
+     * @param dumpPath SQL dump to parse
+     * @return Schema snapshot of the objects the dump creates
+     */
+    public SchemaSnapshot captureSnapshot(Path dumpPath) {
+        LOG.info("📸 Parsing schema snapshot from: {}", dumpPath);
+
+        ParsedSchema schema = new ParsedSchema(databaseType, defaultSchemaName());
+        DdlStatementParser parser = new DdlStatementParser(databaseType, schema);
+        int statements = 0;
+        int skipped = 0;
+
+        try (SqlScriptReader reader = SqlScriptReader.open(dumpPath, databaseType)) {
+            SqlStatement statement;
+            while ((statement = reader.next()) != null) {
+                if (statement.blank() || statement.clientCommand()) {
+                    continue;
+                }
+                statements++;
+                try {
+                    parser.parse(statement.sql());
+                } catch (RuntimeException e) {
+                    skipped++;
+                    LOG.debug("   Could not parse statement at line {}: {}", statement.line(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("❌ Failed to read dump: {}", e.getMessage());
+            throw new RuntimeException("Failed to read dump: " + dumpPath, e);
+        }
+
+        List<TableInfo> tables = schema.buildTables();
+        LOG.info("   ✓ Parsed {} tables", tables.size());
+        List<ViewInfo> views = schema.views();
+        LOG.info("   ✓ Parsed {} views", views.size());
+        List<RoutineInfo> routines = schema.routines();
+        LOG.info("   ✓ Parsed {} routines", routines.size());
+        List<TriggerInfo> triggers = schema.triggers();
+        LOG.info("   ✓ Parsed {} triggers", triggers.size());
+        List<SequenceInfo> sequences = schema.sequences();
+        LOG.info("   ✓ Parsed {} sequences", sequences.size());
+        if (skipped > 0) {
+            LOG.warn("   ⚠️  {} of {} statements could not be parsed", skipped, statements);
+        }
+
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("engine", "offline");
+        metadata.put("source", dumpPath.toAbsolutePath().toString());
+        metadata.put("statements", String.valueOf(statements));
+        metadata.put("skippedStatements", String.valueOf(skipped));
+
+        return new SchemaSnapshot(
+                databaseType.getDisplayName(),
+                databaseType.getCode(),
+                schema.schemaName(),
+                Instant.now(),
+                tables,
+                views,
+                routines,
+                triggers,
+                sequences,
+                metadata
+        );
+    }
+
+    /**
+     * Schema name the dialects report for the checker's container databases.
+     */
+    private String defaultSchemaName() {
+        return switch (databaseType) {
+            case MYSQL, POSTGRESQL -> "compliance_check";
+            case ORACLE -> "CHECKER";
+            case MSSQL -> "dbo";
+        };
+    }
+}
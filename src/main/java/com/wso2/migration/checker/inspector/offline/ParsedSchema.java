@@ -0,0 +1,304 @@
+package com.wso2.migration.checker.inspector.offline;
+
+import com.wso2.migration.checker.container.DatabaseType;
+import com.wso2.migration.checker.inspector.offline.DataTypes.ResolvedType;
+import com.wso2.migration.checker.inspector.offline.DataTypes.TypeSpec;
+import com.wso2.migration.checker.model.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Mutable schema state built up statement by statement while a dump is parsed,
+ * and turned into an immutable {@link SchemaSnapshot} at the end.
+ */
+final class ParsedSchema {
+
+    private final DatabaseType type;
+    private final String schemaName;
+
+    private final Map<String, TableDef> tables = new LinkedHashMap<>();
+    private final Map<String, ViewInfo> views = new LinkedHashMap<>();
+    private final Map<String, RoutineInfo> routines = new LinkedHashMap<>();
+    private final Map<String, TriggerInfo> triggers = new LinkedHashMap<>();
+    private final Map<String, SequenceInfo> sequences = new LinkedHashMap<>();
+
+    ParsedSchema(DatabaseType type, String schemaName) {
+        this.type = type;
+        this.schemaName = schemaName;
+    }
+
+    String schemaName() {
+        return schemaName;
+    }
+
+    // --- Tables -----------------------------------------------------------
+
+    void putTable(TableDef table) {
+        tables.put(key(table.name), table);
+    }
+
+    TableDef table(String name) {
+        return tables.get(key(name));
+    }
+
+    void dropTable(String name) {
+        tables.remove(key(name));
+    }
+
+    void dropIndex(String indexName, String tableName) {
+        for (TableDef table : tables.values()) {
+            if (tableName == null || table.name.equalsIgnoreCase(tableName)) {
+                table.indexes.removeIf(i -> i.name().equalsIgnoreCase(indexName));
+            }
+        }
+    }
+
+    // --- Other objects ----------------------------------------------------
+
+    void putView(ViewInfo view) {
+        views.put(key(view.name()), view);
+    }
+
+    void dropView(String name) {
+        views.remove(key(name));
+    }
+
+    void putRoutine(RoutineInfo routine) {
+        routines.put(key(routine.name()) + "|" + routine.type(), routine);
+    }
+
+    void dropRoutine(String name) {
+        routines.keySet().removeIf(k -> k.startsWith(key(name) + "|"));
+    }
+
+    void putTrigger(TriggerInfo trigger) {
+        triggers.put(key(trigger.name()), trigger);
+    }
+
+    void dropTrigger(String name) {
+        triggers.remove(key(name));
+    }
+
+    void putSequence(SequenceInfo sequence) {
+        sequences.put(key(sequence.name()), sequence);
+    }
+
+    void dropSequence(String name) {
+        sequences.remove(key(name));
+    }
+
+    boolean hasSequence(String name) {
+        return sequences.containsKey(key(name));
+    }
+
+    private static String key(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+
+    // --- Snapshot ---------------------------------------------------------
+
+    List<TableInfo> buildTables() {
+        List<TableInfo> result = new ArrayList<>();
+        for (TableDef table : tables.values()) {
+            result.add(buildTable(table));
+        }
+        return result;
+    }
+
+    List<ViewInfo> views() { return new ArrayList<>(views.values()); }
+    List<RoutineInfo> routines() { return new ArrayList<>(routines.values()); }
+    List<TriggerInfo> triggers() { return new ArrayList<>(triggers.values()); }
+    List<SequenceInfo> sequences() { return new ArrayList<>(sequences.values()); }
+
+    private TableInfo buildTable(TableDef table) {
+        Set<String> pkColumns = table.primaryKey != null
+                ? upper(table.primaryKey.columns())
+                : Set.of();
+        Set<String> fkColumns = table.foreignKeys.stream()
+                .flatMap(fk -> fk.columns().stream())
+                .map(c -> c.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+
+        List<ColumnInfo> columns = new ArrayList<>();
+        int position = 1;
+        for (ColumnDef column : table.columns) {
+            TypeSpec spec = serialSpec(column);
+            boolean autoIncrement = column.autoIncrement || spec != column.spec;
+            ResolvedType resolved = DataTypes.resolve(type, spec, autoIncrement);
+            boolean primaryKey = pkColumns.contains(column.name.toUpperCase(Locale.ROOT));
+
+            columns.add(new ColumnInfo(
+                    column.name,
+                    resolved.name(),
+                    resolved.size(),
+                    resolved.scale(),
+                    column.nullable && !primaryKey,
+                    column.defaultValue,
+                    primaryKey,
+                    fkColumns.contains(column.name.toUpperCase(Locale.ROOT)),
+                    autoIncrement,
+                    position++
+            ));
+        }
+
+        List<IndexInfo> indexes = new ArrayList<>();
+        if (table.primaryKey != null) {
+            indexes.add(new IndexInfo(table.primaryKey.name(), table.name, table.primaryKey.columns(), true,
+                    false, table.primaryKey.clustered() ? "clustered" : "other"));
+        }
+        for (IndexDef index : table.indexes) {
+            indexes.add(new IndexInfo(index.name(), table.name, index.columns(), index.unique(),
+                    false, index.indexType()));
+        }
+        if (type == DatabaseType.MYSQL) {
+            // InnoDB creates an index for every foreign key not already covered by one
+            for (ForeignKeyDef fk : table.foreignKeys) {
+                if (!isCovered(fk.columns(), indexes)) {
+                    indexes.add(new IndexInfo(fk.name(), table.name, fk.columns(), false, false, "other"));
+                }
+            }
+        }
+
+        List<ConstraintInfo> constraints = new ArrayList<>();
+        if (table.primaryKey != null) {
+            constraints.add(new ConstraintInfo(table.primaryKey.name(), table.name,
+                    ConstraintInfo.ConstraintType.PRIMARY_KEY, table.primaryKey.columns(),
+                    null, null, null, null, null));
+        }
+        for (ForeignKeyDef fk : table.foreignKeys) {
+            List<String> referencedColumns = fk.referencedColumns();
+            if (referencedColumns.isEmpty()) {
+                TableDef referenced = table(fk.referencedTable());
+                if (referenced != null && referenced.primaryKey != null) {
+                    referencedColumns = referenced.primaryKey.columns();
+                }
+            }
+            constraints.add(new ConstraintInfo(fk.name(), table.name,
+                    ConstraintInfo.ConstraintType.FOREIGN_KEY, fk.columns(),
+                    fk.referencedTable(), referencedColumns, fk.onDelete(), fk.onUpdate(), null));
+        }
+        for (IndexInfo index : indexes) {
+            boolean primaryKeyIndex = table.primaryKey != null && index.name().equals(table.primaryKey.name());
+            if (index.isUnique() && !primaryKeyIndex) {
+                constraints.add(new ConstraintInfo(index.name(), table.name,
+                        ConstraintInfo.ConstraintType.UNIQUE, index.columns(),
+                        null, null, null, null, null));
+            }
+        }
+
+        return new TableInfo(table.name, schemaName, columns, indexes, constraints,
+                "TABLE", table.engine, table.comment);
+    }
+
+    /**
+     * PostgreSQL reports integer columns fed by a sequence as serial types.
+     */
+    private TypeSpec serialSpec(ColumnDef column) {
+        if (type != DatabaseType.POSTGRESQL || column.defaultValue == null
+                || !column.defaultValue.toLowerCase(Locale.ROOT).startsWith("nextval(")) {
+            return column.spec;
+        }
+        String serial = switch (column.spec.name()) {
+            case "INT", "INTEGER", "INT4" -> "SERIAL";
+            case "BIGINT", "INT8" -> "BIGSERIAL";
+            case "SMALLINT", "INT2" -> "SMALLSERIAL";
+            default -> null;
+        };
+        return serial != null ? new TypeSpec(serial, List.of(), "", false) : column.spec;
+    }
+
+    private static boolean isCovered(List<String> columns, List<IndexInfo> indexes) {
+        for (IndexInfo index : indexes) {
+            if (index.columns().size() >= columns.size()) {
+                boolean prefix = true;
+                for (int i = 0; i < columns.size(); i++) {
+                    if (!index.columns().get(i).equalsIgnoreCase(columns.get(i))) {
+                        prefix = false;
+                        break;
+                    }
+                }
+                if (prefix) return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> upper(List<String> names) {
+        Set<String> result = new HashSet<>();
+        names.forEach(n -> result.add(n.toUpperCase(Locale.ROOT)));
+        return result;
+    }
+
+    // --- Definitions ------------------------------------------------------
+
+    static final class TableDef {
+        String name;
+        final List<ColumnDef> columns = new ArrayList<>();
+        final List<IndexDef> indexes = new ArrayList<>();
+        final List<ForeignKeyDef> foreignKeys = new ArrayList<>();
+        PrimaryKeyDef primaryKey;
+        String engine = "";
+        String comment = "";
+
+        TableDef(String name) {
+            this.name = name;
+        }
+
+        ColumnDef column(String columnName) {
+            for (ColumnDef column : columns) {
+                if (column.name.equalsIgnoreCase(columnName)) return column;
+            }
+            return null;
+        }
+
+        TableDef copyAs(String newName) {
+            TableDef copy = new TableDef(newName);
+            columns.forEach(c -> copy.columns.add(c.copy()));
+            copy.indexes.addAll(indexes);
+            copy.primaryKey = primaryKey;
+            copy.engine = engine;
+            return copy;
+        }
+    }
+
+    static final class ColumnDef {
+        String name;
+        TypeSpec spec;
+        boolean nullable = true;
+        String defaultValue;
+        boolean autoIncrement;
+
+        ColumnDef(String name, TypeSpec spec) {
+            this.name = name;
+            this.spec = spec;
+        }
+
+        ColumnDef copy() {
+            ColumnDef copy = new ColumnDef(name, spec);
+            copy.nullable = nullable;
+            copy.defaultValue = defaultValue;
+            copy.autoIncrement = autoIncrement;
+            return copy;
+        }
+    }
+
+    record IndexDef(String name, List<String> columns, boolean unique, String indexType) {}
+
+    record PrimaryKeyDef(String name, List<String> columns, boolean clustered) {}
+
+    record ForeignKeyDef(
+            String name,
+            List<String> columns,
+            String referencedTable,
+            List<String> referencedColumns,
+            String onDelete,
+            String onUpdate
+    ) {}
+}
@@ -0,0 +1,203 @@
+package com.wso2.migration.checker.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records wall time, CPU time and allocated bytes for the phases of a compliance check
+ * (container start, dump load, crawl, dialect queries, diff, report), per label
+ * (STANDARD, USER).
+ *
+ * CPU time and allocations are those of the thread that runs the phase; work handed to
+ * other threads is only reflected in wall time. Values the JVM cannot measure are -1.
+ * A recorder is thread-safe, so parallel captures can share it.
+ */
+public final class PerformanceRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerformanceRecorder.class);
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Instant startedAt = Instant.now();
+    private final List<PhaseMetrics> phases = new ArrayList<>();
+
+    /**
+     * Measurements of one execution of a phase.
+     */
+    public record PhaseMetrics(
+            String phase,
+            String label,
+            long wallMillis,
+            long cpuMillis,
+            long allocatedBytes
+    ) {}
+
+    /**
+     * A running phase; closing it records its measurements, and closing it again has no
+     * effect. Must be closed on the thread that started it.
+     */
+    public final class Span implements AutoCloseable {
+        private final String phase;
+        private final String label;
+        private final long startNanos = System.nanoTime();
+        private final long startCpuNanos = currentThreadCpuNanos();
+        private final long startAllocated = currentThreadAllocatedBytes();
+        private boolean closed;
+
+        private Span(String phase, String label) {
+            this.phase = phase;
+            this.label = label;
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+
+            long cpuNanos = currentThreadCpuNanos();
+            long allocated = currentThreadAllocatedBytes();
+            add(new PhaseMetrics(
+                    phase,
+                    label,
+                    (System.nanoTime() - startNanos) / 1_000_000,
+                    cpuNanos >= 0 && startCpuNanos >= 0 ? (cpuNanos - startCpuNanos) / 1_000_000 : -1,
+                    allocated >= 0 && startAllocated >= 0 ? allocated - startAllocated : -1));
+        }
+    }
+
+    /**
+     * Starts measuring a phase.
+     */
+    public Span start(String phase, String label) {
+        return new Span(phase, label);
+    }
+
+    /**
+     * Runs the action as the given phase and returns its result.
+     */
+    public <T> T record(String phase, String label, Supplier<T> action) {
+        try (Span ignored = start(phase, label)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Adds measurements taken by another recorder, e.g. of one check in a batch.
+     */
+    public void addAll(Collection<PhaseMetrics> metrics) {
+        synchronized (phases) {
+            phases.addAll(metrics);
+        }
+    }
+
+    public List<PhaseMetrics> getPhases() {
+        synchronized (phases) {
+            return List.copyOf(phases);
+        }
+    }
+
+    /**
+     * Returns the {@code performance} section of the JSON report.
+     */
+    public Map<String, Object> toReportSection() {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("startedAt", startedAt.toString());
+        section.put("elapsedMillis", Duration.between(startedAt, Instant.now()).toMillis());
+        section.put("cpuTimeSupported", currentThreadCpuNanos() >= 0);
+        section.put("allocationSupported", currentThreadAllocatedBytes() >= 0);
+        section.put("phases", getPhases());
+        return section;
+    }
+
+    /**
+     * Writes the measurements in the Prometheus text exposition format, summed per
+     * phase and label, e.g. for the node exporter's textfile collector.
+     */
+    public void writePrometheus(Path file) throws IOException {
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (PhaseMetrics metrics : getPhases()) {
+            long[] sums = totals.computeIfAbsent(
+                    "phase=\"" + escape(metrics.phase()) + "\",label=\"" + escape(metrics.label()) + "\"",
+                    key -> new long[4]);
+            sums[0] += metrics.wallMillis();
+            sums[1] += Math.max(0, metrics.cpuMillis());
+            sums[2] += Math.max(0, metrics.allocatedBytes());
+            sums[3]++;
+        }
+
+        StringBuilder text = new StringBuilder();
+        appendMetric(text, totals, "schema_checker_phase_wall_seconds",
+                "Wall-clock time spent in a check phase", 0, 1000.0);
+        appendMetric(text, totals, "schema_checker_phase_cpu_seconds",
+                "CPU time of the thread running a check phase", 1, 1000.0);
+        appendMetric(text, totals, "schema_checker_phase_allocated_bytes",
+                "Heap allocated by the thread running a check phase", 2, 1.0);
+        appendMetric(text, totals, "schema_checker_phase_runs",
+                "Number of times a check phase ran", 3, 1.0);
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // Written next to the target and moved, so collectors never read a partial file
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        Files.writeString(temp, text, StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        LOG.info("📈 Metrics written to: {}", file.toAbsolutePath());
+    }
+
+    private void add(PhaseMetrics metrics) {
+        synchronized (phases) {
+            phases.add(metrics);
+        }
+        LOG.debug("   ⏱️  {} [{}]: {}ms wall, {}ms CPU, {} KB allocated", metrics.phase(), metrics.label(),
+                metrics.wallMillis(), metrics.cpuMillis(), metrics.allocatedBytes() / 1024);
+    }
+
+    private static void appendMetric(StringBuilder text, Map<String, long[]> totals, String name,
+                                     String help, int index, double divisor) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(" gauge\n");
+        for (Map.Entry<String, long[]> entry : totals.entrySet()) {
+            long value = entry.getValue()[index];
+            text.append(name).append('{').append(entry.getKey()).append("} ")
+                    .append(divisor == 1.0 ? Long.toString(value) : Double.toString(value / divisor))
+                    .append('\n');
+        }
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static long currentThreadCpuNanos() {
+        return THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled()
+                ? THREADS.getCurrentThreadCpuTime()
+                : -1;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,52 @@
+package com.wso2.migration.checker.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One catalog query of a database dialect, with what it fetched.
+ */
+@Name("com.wso2.migration.checker.CatalogFetch")
+@Label("Catalog Fetch")
+@Category({"Schema Compliance Checker", "Inspection"})
+@Description("Fetching the result of one dialect catalog query")
+@StackTrace(false)
+public class CatalogFetchEvent extends Event {
+
+    @Label("Database Type")
+    private String databaseType;
+
+    @Label("Query")
+    private String query;
+
+    @Label("Fetch Size")
+    @Description("Rows per round trip requested from the driver, 0 for the driver's default")
+    private int fetchSize;
+
+    @Label("Rows")
+    private long rows;
+
+    @Label("Bytes")
+    @Description("Approximate size of the values read: characters of text, bytes of numbers")
+    @DataAmount
+    private long bytes;
+
+    public CatalogFetchEvent(String databaseType, String query, int fetchSize) {
+        this.databaseType = databaseType;
+        this.query = query;
+        this.fetchSize = fetchSize;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,42 @@
+package com.wso2.migration.checker.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SchemaCrawler catalog load for one snapshot.
+ */
+@Name("com.wso2.migration.checker.CatalogLoad")
+@Label("Catalog Load")
+@Category({"Schema Compliance Checker", "Inspection"})
+@Description("Loading the SchemaCrawler catalog (tables, columns, indexes, constraints)")
+@StackTrace(false)
+public class CatalogLoadEvent extends Event {
+
+    @Label("Database Type")
+    private String databaseType;
+
+    @Label("Snapshot")
+    @Description("STANDARD, USER or the user dump in batch mode")
+    private String snapshot;
+
+    @Label("Schema Scope")
+    private String schemaScope;
+
+    @Label("Tables")
+    private int tables;
+
+    public CatalogLoadEvent(String databaseType, String snapshot, String schemaScope) {
+        this.databaseType = databaseType;
+        this.snapshot = snapshot;
+        this.schemaScope = schemaScope;
+    }
+
+    public void setTables(int tables) {
+        this.tables = tables;
+    }
+}
@@ -0,0 +1,39 @@
+package com.wso2.migration.checker.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Startup of a database container, from {@code start()} until it accepts connections.
+ */
+@Name("com.wso2.migration.checker.ContainerStart")
+@Label("Container Start")
+@Category({"Schema Compliance Checker", "Container"})
+@Description("Starting a database container, including any dump it runs as an init script")
+@StackTrace(false)
+public class ContainerStartEvent extends Event {
+
+    @Label("Database Type")
+    private String databaseType;
+
+    @Label("Container")
+    private String containerName;
+
+    @Label("Image")
+    private String image;
+
+    @Label("Init Script")
+    @Description("Whether the dump is loaded as part of the startup")
+    private boolean initScript;
+
+    public ContainerStartEvent(String databaseType, String containerName, String image, boolean initScript) {
+        this.databaseType = databaseType;
+        this.containerName = containerName;
+        this.image = image;
+        this.initScript = initScript;
+    }
+}
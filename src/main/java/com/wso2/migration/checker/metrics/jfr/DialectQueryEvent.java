@@ -0,0 +1,47 @@
+package com.wso2.migration.checker.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One dialect extraction (views, routines, triggers or sequences) for one snapshot.
+ */
+@Name("com.wso2.migration.checker.DialectQuery")
+@Label("Dialect Query")
+@Category({"Schema Compliance Checker", "Inspection"})
+@Description("Extracting stored logic with a database dialect's catalog queries")
+@StackTrace(false)
+public class DialectQueryEvent extends Event {
+
+    @Label("Dialect")
+    private String dialect;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Snapshot")
+    @Description("STANDARD, USER or the user dump in batch mode")
+    private String snapshot;
+
+    @Label("Schema")
+    private String schema;
+
+    @Label("Rows")
+    @Description("Number of objects extracted")
+    private int rows;
+
+    public DialectQueryEvent(String dialect, String method, String snapshot, String schema) {
+        this.dialect = dialect;
+        this.method = method;
+        this.snapshot = snapshot;
+        this.schema = schema;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,49 @@
+package com.wso2.migration.checker.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Comparison of one category of schema objects between two snapshots.
+ */
+@Name("com.wso2.migration.checker.DiffCategory")
+@Label("Diff Category")
+@Category({"Schema Compliance Checker", "Diff"})
+@Description("Comparing one category of schema objects (tables, routines, ...)")
+@StackTrace(false)
+public class DiffCategoryEvent extends Event {
+
+    @Label("Category")
+    private String category;
+
+    @Label("Standard Objects")
+    private int standardObjects;
+
+    @Label("User Objects")
+    private int userObjects;
+
+    @Label("Drifts")
+    private int drifts;
+
+    @Label("Skipped")
+    @Description("Fingerprints matched, so the objects were not compared")
+    private boolean skipped;
+
+    public DiffCategoryEvent(String category, int standardObjects, int userObjects) {
+        this.category = category;
+        this.standardObjects = standardObjects;
+        this.userObjects = userObjects;
+    }
+
+    public void setDrifts(int drifts) {
+        this.drifts = drifts;
+    }
+
+    public void setSkipped(boolean skipped) {
+        this.skipped = skipped;
+    }
+}
@@ -0,0 +1,62 @@
+package com.wso2.migration.checker.metrics.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+
+/**
+ * Starts a Java Flight Recorder recording of the whole run, with the JDK's default
+ * settings plus the checker's own events. The recording is written to the file when
+ * the JVM exits, including on {@code System.exit}.
+ */
+public final class JfrRecording {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JfrRecording.class);
+
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            ContainerStartEvent.class,
+            CatalogLoadEvent.class,
+            DialectQueryEvent.class,
+            CatalogFetchEvent.class,
+            DiffCategoryEvent.class);
+
+    private JfrRecording() {
+        // Utility class
+    }
+
+    /**
+     * Starts recording to the given file.
+     */
+    public static Recording start(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            for (Class<? extends Event> event : EVENTS) {
+                recording.enable(event);
+            }
+            recording.setName("schema-compliance-checker");
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.setDumpOnExit(true);
+            recording.start();
+
+            LOG.info("🎥 JFR recording started, written on exit to: {}", file.toAbsolutePath());
+            return recording;
+
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to start JFR recording: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,38 +1,116 @@
 package com.wso2.migration. checker.model;
 
-import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * Represents a database column with all its metadata.
  */
-public record ColumnInfo(
-        String name,
-        String dataType,
-        int size,
-        int scale,
-        boolean nullable,
-        String defaultValue,
-        boolean isPrimaryKey,
-        boolean isForeignKey,
-        boolean isAutoIncrement,
-        int ordinalPosition
-) {
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE,
+        isGetterVisibility = Visibility.NONE)
+public final class ColumnInfo {
+
+    private final String name;
+    private final String dataType;
+    private final int size;
+    private final int scale;
+    private final boolean nullable;
+    private final String defaultValue;
+    private final boolean isPrimaryKey;
+    private final boolean isForeignKey;
+    private final boolean isAutoIncrement;
+    private final int ordinalPosition;
+    @JsonIgnore
+    private final Signature signature;
+
+    @JsonCreator
+    public ColumnInfo(@JsonProperty("name") String name,
+                      @JsonProperty("dataType") String dataType,
+                      @JsonProperty("size") int size,
+                      @JsonProperty("scale") int scale,
+                      @JsonProperty("nullable") boolean nullable,
+                      @JsonProperty("defaultValue") String defaultValue,
+                      @JsonProperty("isPrimaryKey") boolean isPrimaryKey,
+                      @JsonProperty("isForeignKey") boolean isForeignKey,
+                      @JsonProperty("isAutoIncrement") boolean isAutoIncrement,
+                      @JsonProperty("ordinalPosition") int ordinalPosition) {
+        this.name = name;
+        this.dataType = dataType;
+        this.size = size;
+        this.scale = scale;
+        this.nullable = nullable;
+        this.defaultValue = defaultValue;
+        this.isPrimaryKey = isPrimaryKey;
+        this.isForeignKey = isForeignKey;
+        this.isAutoIncrement = isAutoIncrement;
+        this.ordinalPosition = ordinalPosition;
+        this.signature = Signature.of(name.toUpperCase().trim()
+                + "|" + normalizeDataType(dataType)
+                + "|" + size
+                + "|" + scale
+                + "|" + nullable
+                + "|" + isPrimaryKey
+                + "|" + isForeignKey);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String dataType() {
+        return dataType;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    public boolean nullable() {
+        return nullable;
+    }
+
+    public String defaultValue() {
+        return defaultValue;
+    }
+
+    public boolean isPrimaryKey() {
+        return isPrimaryKey;
+    }
+
+    public boolean isForeignKey() {
+        return isForeignKey;
+    }
+
+    public boolean isAutoIncrement() {
+        return isAutoIncrement;
+    }
+
+    public int ordinalPosition() {
+        return ordinalPosition;
+    }
+
+    /**
+     * Signature computed when the column was created; columns are equal when their signatures are.
+     */
+    public Signature signature() {
+        return signature;
+    }
+
     /**
      * Creates a normalized identifier for comparison (ignores case and whitespace differences).
      */
     public String normalizedSignature() {
-        return String.format("%s|%s|%d|%d|%b|%b|%b",
-                name. toUpperCase().trim(),
-                normalizeDataType(dataType),
-                size,
-                scale,
-                nullable,
-                isPrimaryKey,
-                isForeignKey
-        );
-    }
-
-    private String normalizeDataType(String type) {
+        return signature.canonical();
+    }
+
+    private static String normalizeDataType(String type) {
         if (type == null) return "UNKNOWN";
         // Normalize common type aliases across databases
         String normalized = type.toUpperCase().trim();
@@ -50,11 +128,19 @@ public record ColumnInfo(
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ColumnInfo that)) return false;
-        return this.normalizedSignature().equals(that.normalizedSignature());
+        return signature.equals(that.signature);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(normalizedSignature());
+        return signature.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnInfo[name=" + name + ", dataType=" + dataType + ", size=" + size + ", scale=" + scale
+                + ", nullable=" + nullable + ", defaultValue=" + defaultValue + ", isPrimaryKey=" + isPrimaryKey
+                + ", isForeignKey=" + isForeignKey + ", isAutoIncrement=" + isAutoIncrement
+                + ", ordinalPosition=" + ordinalPosition + "]";
     }
 }
\ No newline at end of file
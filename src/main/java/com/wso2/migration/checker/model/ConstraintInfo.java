@@ -1,57 +1,126 @@
 package com.wso2.migration.checker.model;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Represents a database constraint (PK, FK, UNIQUE, CHECK).
  */
-public record ConstraintInfo(
-        String name,
-        String tableName,
-        ConstraintType type,
-        List<String> columns,
-        String referencedTable,
-        List<String> referencedColumns,
-        String onDeleteAction,
-        String onUpdateAction,
-        String checkExpression
-) {
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE,
+        isGetterVisibility = Visibility.NONE)
+public final class ConstraintInfo {
+
     public enum ConstraintType {
         PRIMARY_KEY, FOREIGN_KEY, UNIQUE, CHECK
     }
 
+    private final String name;
+    private final String tableName;
+    private final ConstraintType type;
+    private final List<String> columns;
+    private final String referencedTable;
+    private final List<String> referencedColumns;
+    private final String onDeleteAction;
+    private final String onUpdateAction;
+    private final String checkExpression;
+    @JsonIgnore
+    private final Signature signature;
+
+    @JsonCreator
+    public ConstraintInfo(@JsonProperty("name") String name,
+                          @JsonProperty("tableName") String tableName,
+                          @JsonProperty("type") ConstraintType type,
+                          @JsonProperty("columns") List<String> columns,
+                          @JsonProperty("referencedTable") String referencedTable,
+                          @JsonProperty("referencedColumns") List<String> referencedColumns,
+                          @JsonProperty("onDeleteAction") String onDeleteAction,
+                          @JsonProperty("onUpdateAction") String onUpdateAction,
+                          @JsonProperty("checkExpression") String checkExpression) {
+        this.name = name;
+        this.tableName = tableName;
+        this.type = type;
+        this.columns = columns;
+        this.referencedTable = referencedTable;
+        this.referencedColumns = referencedColumns;
+        this.onDeleteAction = onDeleteAction;
+        this.onUpdateAction = onUpdateAction;
+        this.checkExpression = checkExpression;
+        this.signature = Signature.of(tableName.toUpperCase()
+                + "|" + type
+                + "|" + Signature.sortedUpperCase(columns)
+                + "|" + (referencedTable != null ? referencedTable.toUpperCase() : "")
+                + "|" + Signature.sortedUpperCase(referencedColumns));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public ConstraintType type() {
+        return type;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public String referencedTable() {
+        return referencedTable;
+    }
+
+    public List<String> referencedColumns() {
+        return referencedColumns;
+    }
+
+    public String onDeleteAction() {
+        return onDeleteAction;
+    }
+
+    public String onUpdateAction() {
+        return onUpdateAction;
+    }
+
+    public String checkExpression() {
+        return checkExpression;
+    }
+
+    /**
+     * Signature of the table, type and columns on both sides; names and referential actions are not part of it.
+     */
+    public Signature signature() {
+        return signature;
+    }
+
     public String normalizedSignature() {
-        String cols = columns != null ? columns.stream()
-                .map(String::toUpperCase)
-                .sorted()
-                .reduce((a, b) -> a + "," + b)
-                .orElse("") : "";
-
-        String refCols = referencedColumns != null ? referencedColumns.stream()
-                .map(String:: toUpperCase)
-                .sorted()
-                .reduce((a, b) -> a + "," + b)
-                .orElse("") : "";
-
-        return String.format("%s|%s|%s|%s|%s",
-                tableName.toUpperCase(),
-                type,
-                cols,
-                referencedTable != null ? referencedTable.toUpperCase() : "",
-                refCols
-        );
+        return signature.canonical();
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ConstraintInfo that)) return false;
-        return this.normalizedSignature().equals(that.normalizedSignature());
+        return signature.equals(that.signature);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(normalizedSignature());
+        return signature.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ConstraintInfo[name=" + name + ", tableName=" + tableName + ", type=" + type
+                + ", columns=" + columns + ", referencedTable=" + referencedTable
+                + ", referencedColumns=" + referencedColumns + ", onDeleteAction=" + onDeleteAction
+                + ", onUpdateAction=" + onUpdateAction + ", checkExpression=" + checkExpression + "]";
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.wso2.migration.checker.model;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-object markers read from the catalog when a snapshot is captured, each of
+ * which changes whenever the object's DDL does: a last-DDL time, a creation time or a
+ * checksum of the definition, whatever the database records. A later capture of the
+ * same schema compares them to re-read only what changed.
+ *
+ * <p>Each map is keyed by object name. A null map means the object type was not
+ * captured or has no markers, so it is always re-read.
+ */
+public record DdlMarkers(
+        Map<String, String> tables,
+        Map<String, String> views,
+        Map<String, String> routines,
+        Map<String, String> triggers,
+        Map<String, String> sequences
+) {
+    /**
+     * Whether both captures saw the same objects of one type with the same markers.
+     */
+    public static boolean unchanged(Map<String, String> previous, Map<String, String> current) {
+        return previous != null && current != null && Objects.equals(previous, current);
+    }
+
+    /**
+     * Returns the markers without the object types a capture left out.
+     */
+    public DdlMarkers restrict(boolean views, boolean triggers, boolean sequences) {
+        return new DdlMarkers(tables,
+                views ? this.views : null,
+                routines,
+                triggers ? this.triggers : null,
+                sequences ? this.sequences : null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.wso2.migration.checker.model;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * 64-bit hashing for the fingerprints of {@link IndexedSnapshot}: strings are hashed
+ * with FNV-1a, and hashes are combined through the SplitMix64 finalizer so that
+ * nearby inputs spread over the whole range.
+ */
+final class Fingerprints {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Fingerprints() {
+        // Utility class
+    }
+
+    static long hash(CharSequence text) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Combines hashes where their order matters.
+     */
+    static long combine(long first, long second) {
+        return mix(first * 31 + second);
+    }
+
+    /**
+     * Combines the objects of an index independently of their order: a sum over the
+     * objects of their key's hash mixed with their own fingerprint.
+     */
+    static <T> long unordered(NameIndex<T> index, ToLongFunction<T> fingerprint) {
+        long sum = index.size();
+        for (String key : index.keys()) {
+            sum += mix(hash(key) ^ mix(fingerprint.applyAsLong(index.get(key))));
+        }
+        return sum;
+    }
+}
@@ -1,42 +1,98 @@
 package com.wso2.migration.checker.model;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Represents a database index.
  */
-public record IndexInfo(
-        String name,
-        String tableName,
-        List<String> columns,
-        boolean isUnique,
-        boolean isClustered,
-        String indexType
-) {
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE,
+        isGetterVisibility = Visibility.NONE)
+public final class IndexInfo {
+
+    private final String name;
+    private final String tableName;
+    private final List<String> columns;
+    private final boolean isUnique;
+    private final boolean isClustered;
+    private final String indexType;
+    @JsonIgnore
+    private final Signature signature;
+
+    @JsonCreator
+    public IndexInfo(@JsonProperty("name") String name,
+                     @JsonProperty("tableName") String tableName,
+                     @JsonProperty("columns") List<String> columns,
+                     @JsonProperty("isUnique") boolean isUnique,
+                     @JsonProperty("isClustered") boolean isClustered,
+                     @JsonProperty("indexType") String indexType) {
+        this.name = name;
+        this.tableName = tableName;
+        this.columns = columns;
+        this.isUnique = isUnique;
+        this.isClustered = isClustered;
+        this.indexType = indexType;
+        this.signature = Signature.of(tableName.toUpperCase()
+                + "|" + Signature.sortedUpperCase(columns)
+                + "|" + isUnique
+                + "|" + (indexType != null ? indexType.toUpperCase() : "BTREE"));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public boolean isUnique() {
+        return isUnique;
+    }
+
+    public boolean isClustered() {
+        return isClustered;
+    }
+
+    public String indexType() {
+        return indexType;
+    }
+
+    /**
+     * Signature of the table, sorted columns, uniqueness and index type; the index name is not part of it.
+     */
+    public Signature signature() {
+        return signature;
+    }
+
     public String normalizedSignature() {
-        String cols = columns.stream()
-                .map(String::toUpperCase)
-                .sorted()
-                .reduce((a, b) -> a + "," + b)
-                .orElse("");
-        return String.format("%s|%s|%b|%s",
-                tableName.toUpperCase(),
-                cols,
-                isUnique,
-                indexType != null ? indexType. toUpperCase() : "BTREE"
-        );
+        return signature.canonical();
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof IndexInfo that)) return false;
-        return this.normalizedSignature().equals(that.normalizedSignature());
+        return signature.equals(that.signature);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(normalizedSignature());
+        return signature.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "IndexInfo[name=" + name + ", tableName=" + tableName + ", columns=" + columns
+                + ", isUnique=" + isUnique + ", isClustered=" + isClustered + ", indexType=" + indexType + "]";
     }
 }
\ No newline at end of file
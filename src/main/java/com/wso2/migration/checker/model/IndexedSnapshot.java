@@ -0,0 +1,59 @@
+package com.wso2.migration.checker.model;
+
+/**
+ * A snapshot with every object kind indexed by upper-cased name, and every table's
+ * columns, indexes and constraints indexed too. Built once per snapshot and immutable,
+ * so one standard snapshot serves any number of concurrent diffs, as in batch mode,
+ * without re-indexing.
+ *
+ * @param fingerprint Fingerprints of the object categories and the whole snapshot, over
+ *                    what the diff compares
+ */
+public record IndexedSnapshot(
+        SchemaSnapshot snapshot,
+        NameIndex<IndexedTable> tables,
+        NameIndex<ViewInfo> views,
+        NameIndex<RoutineInfo> routines,
+        NameIndex<TriggerInfo> triggers,
+        NameIndex<SequenceInfo> sequences,
+        SnapshotFingerprint fingerprint
+) {
+    public static IndexedSnapshot of(SchemaSnapshot snapshot) {
+        NameIndex<IndexedTable> tables = NameIndex.of(snapshot.tables().stream().map(IndexedTable::of).toList(),
+                t -> t.name().toUpperCase());
+        NameIndex<ViewInfo> views = NameIndex.of(snapshot.views(), v -> v.name().toUpperCase());
+        NameIndex<RoutineInfo> routines = NameIndex.of(snapshot.routines(), r -> r.name().toUpperCase());
+        NameIndex<TriggerInfo> triggers = NameIndex.of(snapshot.triggers(), t -> t.name().toUpperCase());
+        NameIndex<SequenceInfo> sequences = NameIndex.of(snapshot.sequences(), s -> s.name().toUpperCase());
+
+        // Definitions are normalized here once; the diff reuses the cached results
+        SnapshotFingerprint fingerprint = new SnapshotFingerprint(
+                Fingerprints.unordered(tables, IndexedTable::fingerprint),
+                Fingerprints.unordered(views, v -> Fingerprints.hash(v.normalizedDefinition())),
+                Fingerprints.unordered(routines, r -> Fingerprints.combine(r.signature().hash(),
+                        Fingerprints.hash(r.normalizedDefinition()))),
+                Fingerprints.unordered(triggers, t -> Fingerprints.combine(t.signature().hash(),
+                        Fingerprints.hash(t.normalizedDefinition()))),
+                Fingerprints.unordered(sequences, s -> s.signature().hash()));
+
+        return new IndexedSnapshot(snapshot, tables, views, routines, triggers, sequences, fingerprint);
+    }
+
+    /**
+     * Indexes the snapshot and records its fingerprint, a canonical hash of everything
+     * the diff compares, in the snapshot's metadata. Snapshots with equal fingerprints
+     * have no drift between them.
+     */
+    public static IndexedSnapshot fingerprinted(SchemaSnapshot snapshot) {
+        IndexedSnapshot indexed = of(snapshot);
+        return new IndexedSnapshot(snapshot.withFingerprint(indexed.fingerprint.toString()), indexed.tables,
+                indexed.views, indexed.routines, indexed.triggers, indexed.sequences, indexed.fingerprint);
+    }
+
+    /**
+     * Whether the diff of the two snapshots finds nothing, as far as their fingerprints tell.
+     */
+    public boolean sameAs(IndexedSnapshot other) {
+        return fingerprint.equals(other.fingerprint);
+    }
+}
@@ -0,0 +1,34 @@
+package com.wso2.migration.checker.model;
+
+/**
+ * A table with its columns indexed by upper-cased name and its indexes and constraints
+ * by normalized signature.
+ *
+ * @param fingerprint Hash of everything the diff compares: each column's name and
+ *                    signature, and the index and constraint signatures. Two tables with
+ *                    the same fingerprint have no drift between them.
+ */
+public record IndexedTable(
+        TableInfo table,
+        NameIndex<ColumnInfo> columns,
+        NameIndex<IndexInfo> indexes,
+        NameIndex<ConstraintInfo> constraints,
+        long fingerprint
+) {
+    public static IndexedTable of(TableInfo table) {
+        NameIndex<ColumnInfo> columns = NameIndex.of(table.columns(), c -> c.name().toUpperCase());
+        NameIndex<IndexInfo> indexes = NameIndex.of(table.indexes(), IndexInfo::normalizedSignature);
+        NameIndex<ConstraintInfo> constraints = NameIndex.of(table.constraints(), ConstraintInfo::normalizedSignature);
+
+        long fingerprint = Fingerprints.combine(
+                Fingerprints.combine(
+                        Fingerprints.unordered(columns, c -> c.signature().hash()),
+                        Fingerprints.unordered(indexes, i -> i.signature().hash())),
+                Fingerprints.unordered(constraints, c -> c.signature().hash()));
+        return new IndexedTable(table, columns, indexes, constraints, fingerprint);
+    }
+
+    public String name() {
+        return table.name();
+    }
+}
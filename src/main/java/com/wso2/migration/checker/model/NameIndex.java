@@ -0,0 +1,62 @@
+package com.wso2.migration.checker.model;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable lookup of schema objects by a case-folded key. Keys are kept in the order
+ * the objects were captured, which is the order the diff reports them in; when two
+ * objects share a key the first one wins. Lookups go through an open-addressing map of
+ * the JDK's immutable collections. Safe to share between threads.
+ *
+ * @param <T> Object type
+ */
+public final class NameIndex<T> {
+
+    private static final NameIndex<?> EMPTY = new NameIndex<>(List.of(), Map.of());
+
+    private final List<String> keys;
+    private final Map<String, T> objects;
+
+    private NameIndex(List<String> keys, Map<String, T> objects) {
+        this.keys = keys;
+        this.objects = objects;
+    }
+
+    /**
+     * Indexes objects under the given key, for example their upper-cased name.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> NameIndex<T> of(List<T> objects, Function<T, String> key) {
+        if (objects == null || objects.isEmpty()) {
+            return (NameIndex<T>) EMPTY;
+        }
+
+        Map<String, T> byKey = new LinkedHashMap<>();
+        for (T object : objects) {
+            byKey.putIfAbsent(key.apply(object), object);
+        }
+        return new NameIndex<>(List.copyOf(byKey.keySet()), Map.copyOf(byKey));
+    }
+
+    /**
+     * Keys in capture order.
+     */
+    public List<String> keys() {
+        return keys;
+    }
+
+    public T get(String key) {
+        return objects.get(key);
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+}
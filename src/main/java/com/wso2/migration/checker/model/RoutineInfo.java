@@ -1,20 +1,20 @@
 package com.wso2.migration. checker.model;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java. util.List;
-import java. util.Objects;
 
 /**
  * Represents a stored routine (procedure, function, package).
  */
-public record RoutineInfo(
-        String name,
-        String schema,
-        RoutineType type,
-        String returnType,
-        List<ParameterInfo> parameters,
-        String definition,
-        String language
-) {
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE,
+        isGetterVisibility = Visibility.NONE)
+public final class RoutineInfo {
+
     public enum RoutineType {
         PROCEDURE, FUNCTION, PACKAGE, PACKAGE_BODY
     }
@@ -30,42 +30,117 @@ public record RoutineInfo(
         }
     }
 
-    public String normalizedSignature() {
-        String params = parameters != null ? parameters. stream()
-                .map(p -> p.name().toUpperCase() + ":" + p.dataType().toUpperCase() + ":" + p.mode())
-                .reduce((a, b) -> a + "," + b)
-                .orElse("") : "";
+    private final String name;
+    private final String schema;
+    private final RoutineType type;
+    private final String returnType;
+    private final List<ParameterInfo> parameters;
+    private final String definition;
+    private final String language;
+    @JsonIgnore
+    private final Signature signature;
+    @JsonIgnore
+    private volatile String normalizedDefinition;
+
+    @JsonCreator
+    public RoutineInfo(@JsonProperty("name") String name,
+                       @JsonProperty("schema") String schema,
+                       @JsonProperty("type") RoutineType type,
+                       @JsonProperty("returnType") String returnType,
+                       @JsonProperty("parameters") List<ParameterInfo> parameters,
+                       @JsonProperty("definition") String definition,
+                       @JsonProperty("language") String language) {
+        this.name = name;
+        this.schema = schema;
+        this.type = type;
+        this.returnType = returnType;
+        this.parameters = parameters;
+        this.definition = definition;
+        this.language = language;
+
+        StringBuilder params = new StringBuilder();
+        if (parameters != null) {
+            for (ParameterInfo p : parameters) {
+                if (!params.isEmpty()) params.append(',');
+                params.append(p.name().toUpperCase()).append(':')
+                        .append(p.dataType().toUpperCase()).append(':')
+                        .append(p.mode());
+            }
+        }
+
+        this.signature = Signature.of(name.toUpperCase()
+                + "|" + type
+                + "|" + (returnType != null ? returnType.toUpperCase() : "VOID")
+                + "|" + params);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String schema() {
+        return schema;
+    }
+
+    public RoutineType type() {
+        return type;
+    }
+
+    public String returnType() {
+        return returnType;
+    }
 
-        return String.format("%s|%s|%s|%s",
-                name.toUpperCase(),
-                type,
-                returnType != null ? returnType.toUpperCase() : "VOID",
-                params
-        );
+    public List<ParameterInfo> parameters() {
+        return parameters;
+    }
+
+    public String definition() {
+        return definition;
+    }
+
+    public String language() {
+        return language;
     }
 
     /**
-     * Normalizes definition for comparison by removing whitespace and comments.
+     * Signature of the name, type, return type and parameters; the body is compared separately.
+     */
+    public Signature signature() {
+        return signature;
+    }
+
+    public String normalizedSignature() {
+        return signature.canonical();
+    }
+
+    /**
+     * Normalizes definition for comparison by removing whitespace and comments. The
+     * result is kept, so a routine compared against many schemas is normalized once.
      */
     public String normalizedDefinition() {
-        if (definition == null) return "";
-        return definition
-                .replaceAll("--.*?\n", "\n")           // Remove single-line comments
-                .replaceAll("/\\*.*?\\*/", "")         // Remove multi-line comments
-                .replaceAll("\\s+", " ")               // Normalize whitespace
-                .trim()
-                .toUpperCase();
+        String normalized = normalizedDefinition;
+        if (normalized == null) {
+            normalized = SqlBodyNormalizer.normalize(definition);
+            normalizedDefinition = normalized;
+        }
+        return normalized;
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof RoutineInfo that)) return false;
-        return this.normalizedSignature().equals(that.normalizedSignature());
+        return signature.equals(that.signature);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(normalizedSignature());
+        return signature.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RoutineInfo[name=" + name + ", schema=" + schema + ", type=" + type + ", returnType=" + returnType
+                + ", parameters=" + parameters + ", definition=" + definition + ", language=" + language + "]";
     }
 }
\ No newline at end of file
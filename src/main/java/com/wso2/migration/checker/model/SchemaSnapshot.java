@@ -1,12 +1,16 @@
 package com.wso2.migration.checker.model;
 
 import java.time. Instant;
+import java.util.HashMap;
 import java.util. List;
 import java.util. Map;
 import java.util. stream.Collectors;
 
 /**
  * Complete snapshot of a database schema at a point in time.
+ *
+ * @param ddlMarkers Catalog markers of the objects captured, for incremental captures;
+ *                   null when the snapshot was not captured for re-checking
  */
 public record SchemaSnapshot(
         String databaseName,
@@ -18,8 +22,33 @@ public record SchemaSnapshot(
         List<RoutineInfo> routines,
         List<TriggerInfo> triggers,
         List<SequenceInfo> sequences,
-        Map<String, String> metadata
+        Map<String, String> metadata,
+        DdlMarkers ddlMarkers
 ) {
+    /**
+     * Creates a snapshot without DDL markers.
+     */
+    public SchemaSnapshot(String databaseName, String databaseType, String schemaName, Instant capturedAt,
+                          List<TableInfo> tables, List<ViewInfo> views, List<RoutineInfo> routines,
+                          List<TriggerInfo> triggers, List<SequenceInfo> sequences, Map<String, String> metadata) {
+        this(databaseName, databaseType, schemaName, capturedAt, tables, views, routines, triggers, sequences,
+                metadata, null);
+    }
+
+    /** Metadata key of the snapshot's fingerprint. */
+    public static final String FINGERPRINT = "fingerprint";
+
+    /**
+     * Returns the snapshot with the given fingerprint recorded in the metadata, where
+     * the reports show it.
+     */
+    public SchemaSnapshot withFingerprint(String fingerprint) {
+        Map<String, String> fingerprinted = metadata != null ? new HashMap<>(metadata) : new HashMap<>();
+        fingerprinted.put(FINGERPRINT, fingerprint);
+        return new SchemaSnapshot(databaseName, databaseType, schemaName, capturedAt, tables, views, routines,
+                triggers, sequences, fingerprinted, ddlMarkers);
+    }
+
     /**
      * Creates a lookup map for tables by name.
      */
@@ -1,38 +1,111 @@
 package com.wso2.migration.checker.model;
 
-import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * Represents a database sequence (Oracle/PostgreSQL style).
  */
-public record SequenceInfo(
-        String name,
-        String schema,
-        long startValue,
-        long incrementBy,
-        Long minValue,
-        Long maxValue,
-        boolean isCycling,
-        int cacheSize
-) {
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE,
+        isGetterVisibility = Visibility.NONE)
+public final class SequenceInfo {
+
+    private final String name;
+    private final String schema;
+    private final long startValue;
+    private final long incrementBy;
+    private final Long minValue;
+    private final Long maxValue;
+    private final boolean isCycling;
+    private final int cacheSize;
+    @JsonIgnore
+    private final Signature signature;
+
+    @JsonCreator
+    public SequenceInfo(@JsonProperty("name") String name,
+                        @JsonProperty("schema") String schema,
+                        @JsonProperty("startValue") long startValue,
+                        @JsonProperty("incrementBy") long incrementBy,
+                        @JsonProperty("minValue") Long minValue,
+                        @JsonProperty("maxValue") Long maxValue,
+                        @JsonProperty("isCycling") boolean isCycling,
+                        @JsonProperty("cacheSize") int cacheSize) {
+        this.name = name;
+        this.schema = schema;
+        this.startValue = startValue;
+        this.incrementBy = incrementBy;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.isCycling = isCycling;
+        this.cacheSize = cacheSize;
+        this.signature = Signature.of(name.toUpperCase()
+                + "|" + startValue
+                + "|" + incrementBy
+                + "|" + isCycling);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String schema() {
+        return schema;
+    }
+
+    public long startValue() {
+        return startValue;
+    }
+
+    public long incrementBy() {
+        return incrementBy;
+    }
+
+    public Long minValue() {
+        return minValue;
+    }
+
+    public Long maxValue() {
+        return maxValue;
+    }
+
+    public boolean isCycling() {
+        return isCycling;
+    }
+
+    public int cacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Signature of the name, start, increment and cycling; bounds and cache size are not part of it.
+     */
+    public Signature signature() {
+        return signature;
+    }
+
     public String normalizedSignature() {
-        return String.format("%s|%d|%d|%b",
-                name.toUpperCase(),
-                startValue,
-                incrementBy,
-                isCycling
-        );
+        return signature.canonical();
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof SequenceInfo that)) return false;
-        return this.normalizedSignature().equals(that.normalizedSignature());
+        return signature.equals(that.signature);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(normalizedSignature());
+        return signature.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SequenceInfo[name=" + name + ", schema=" + schema + ", startValue=" + startValue
+                + ", incrementBy=" + incrementBy + ", minValue=" + minValue + ", maxValue=" + maxValue
+                + ", isCycling=" + isCycling + ", cacheSize=" + cacheSize + "]";
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.wso2.migration.checker.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Normalized identity of a schema object, computed once when the object is created:
+ * the canonical form compared by the diff, and a 64-bit hash of it. Two signatures are
+ * compared by hash first, so unequal ones rarely compare their canonical forms.
+ *
+ * @param canonical Canonical form, as returned by the objects' {@code normalizedSignature()}
+ * @param hash      64-bit FNV-1a hash of the canonical form
+ */
+public record Signature(String canonical, long hash) {
+
+    /**
+     * Creates the signature of a canonical form.
+     */
+    public static Signature of(String canonical) {
+        return new Signature(canonical, Fingerprints.hash(canonical));
+    }
+
+    /**
+     * Upper-cases and sorts names, joined with commas.
+     */
+    static String sortedUpperCase(List<String> names) {
+        if (names == null || names.isEmpty()) return "";
+
+        String[] upper = new String[names.size()];
+        for (int i = 0; i < upper.length; i++) {
+            upper[i] = names.get(i).toUpperCase();
+        }
+        Arrays.sort(upper);
+        return String.join(",", upper);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Signature that)) return false;
+        return hash == that.hash && canonical.equals(that.canonical);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return canonical;
+    }
+}
@@ -0,0 +1,31 @@
+package com.wso2.migration.checker.model;
+
+/**
+ * Top levels of the fingerprint tree of an {@link IndexedSnapshot}: one hash per object
+ * category, each combining the names and fingerprints of its objects regardless of their
+ * order. Below them are the table fingerprints of {@link IndexedTable} and the column
+ * signatures. The diff only descends into categories and tables whose fingerprints
+ * differ.
+ */
+public record SnapshotFingerprint(
+        long tables,
+        long views,
+        long routines,
+        long triggers,
+        long sequences
+) {
+    /**
+     * Hash of the whole snapshot.
+     */
+    public long snapshot() {
+        long hash = Fingerprints.combine(tables, views);
+        hash = Fingerprints.combine(hash, routines);
+        hash = Fingerprints.combine(hash, triggers);
+        return Fingerprints.combine(hash, sequences);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x", snapshot());
+    }
+}
@@ -0,0 +1,103 @@
+package com.wso2.migration.checker.model;
+
+/**
+ * Normalizes the SQL bodies of routines, triggers and views for comparison, in one
+ * pass: comments are dropped, whitespace runs become one space and everything outside
+ * string literals is upper-cased. Comment markers inside literals and quoted
+ * identifiers are left alone. Literals keep their case, so a changed message text
+ * counts as a changed body.
+ *
+ * <p>Nothing is cached here: routines, triggers and views keep their own normalized
+ * body, so a standard schema compared against many user schemas normalizes it once.
+ */
+public final class SqlBodyNormalizer {
+
+    private SqlBodyNormalizer() {
+        // Utility class
+    }
+
+    /**
+     * Returns the normalized form of a definition, "" for null.
+     */
+    public static String normalize(String sql) {
+        if (sql == null) return "";
+
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(length);
+        boolean space = false;
+        int i = 0;
+
+        while (i < length) {
+            char c = sql.charAt(i);
+            char next = i + 1 < length ? sql.charAt(i + 1) : 0;
+
+            if (c == '-' && next == '-') {
+                i = indexOf(sql, "\n", i + 2);
+                space = true;
+                continue;
+            }
+            if (c == '/' && next == '*') {
+                int end = indexOf(sql, "*/", i + 2);
+                i = end < length ? end + 2 : length;
+                space = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+                continue;
+            }
+
+            if (space && !out.isEmpty()) {
+                out.append(' ');
+            }
+            space = false;
+
+            switch (c) {
+                case '\'' -> i = copyQuoted(sql, i, '\'', false, out);
+                case '"' -> i = copyQuoted(sql, i, '"', true, out);
+                case '`' -> i = copyQuoted(sql, i, '`', true, out);
+                case '[' -> i = copyQuoted(sql, i, ']', true, out);
+                default -> {
+                    out.append(Character.toUpperCase(c));
+                    i++;
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Copies a quoted literal or identifier through its closing quote, where a doubled
+     * quote stands for the quote itself.
+     *
+     * @return Index after the closing quote
+     */
+    private static int copyQuoted(CharSequence sql, int start, char close, boolean upperCase, StringBuilder out) {
+        out.append(sql.charAt(start));
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i++);
+            out.append(upperCase ? Character.toUpperCase(c) : c);
+            if (c == close) {
+                if (i < sql.length() && sql.charAt(i) == close) {
+                    out.append(close);
+                    i++;
+                } else {
+                    break;
+                }
+            }
+        }
+        return i;
+    }
+
+    private static int indexOf(CharSequence sql, String marker, int from) {
+        for (int i = from; i <= sql.length() - marker.length(); i++) {
+            if (sql.charAt(i) == marker.charAt(0)
+                    && (marker.length() == 1 || sql.charAt(i + 1) == marker.charAt(1))) {
+                return i;
+            }
+        }
+        return sql.length();
+    }
+}
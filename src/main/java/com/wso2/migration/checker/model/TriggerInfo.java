@@ -1,18 +1,18 @@
 package com.wso2.migration.checker.model;
 
-import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * Represents a database trigger.
  */
-public record TriggerInfo(
-        String name,
-        String tableName,
-        TriggerTiming timing,
-        TriggerEvent event,
-        String definition,
-        boolean isEnabled
-) {
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE,
+        isGetterVisibility = Visibility.NONE)
+public final class TriggerInfo {
+
     public enum TriggerTiming {
         BEFORE, AFTER, INSTEAD_OF
     }
@@ -21,34 +21,98 @@ public record TriggerInfo(
         INSERT, UPDATE, DELETE, INSERT_UPDATE, INSERT_DELETE, UPDATE_DELETE, INSERT_UPDATE_DELETE
     }
 
+    private final String name;
+    private final String tableName;
+    private final TriggerTiming timing;
+    private final TriggerEvent event;
+    private final String definition;
+    private final boolean isEnabled;
+    @JsonIgnore
+    private final Signature signature;
+    @JsonIgnore
+    private volatile String normalizedDefinition;
+
+    @JsonCreator
+    public TriggerInfo(@JsonProperty("name") String name,
+                       @JsonProperty("tableName") String tableName,
+                       @JsonProperty("timing") TriggerTiming timing,
+                       @JsonProperty("event") TriggerEvent event,
+                       @JsonProperty("definition") String definition,
+                       @JsonProperty("isEnabled") boolean isEnabled) {
+        this.name = name;
+        this.tableName = tableName;
+        this.timing = timing;
+        this.event = event;
+        this.definition = definition;
+        this.isEnabled = isEnabled;
+        this.signature = Signature.of(name.toUpperCase()
+                + "|" + tableName.toUpperCase()
+                + "|" + timing
+                + "|" + event);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public TriggerTiming timing() {
+        return timing;
+    }
+
+    public TriggerEvent event() {
+        return event;
+    }
+
+    public String definition() {
+        return definition;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Signature of the name, table, timing and event.
+     */
+    public Signature signature() {
+        return signature;
+    }
+
     public String normalizedSignature() {
-        return String.format("%s|%s|%s|%s",
-                name.toUpperCase(),
-                tableName.toUpperCase(),
-                timing,
-                event
-        );
+        return signature.canonical();
     }
 
+    /**
+     * Normalized body, computed on first use and kept for later comparisons.
+     */
     public String normalizedDefinition() {
-        if (definition == null) return "";
-        return definition
-                .replaceAll("--.*?\n", "\n")
-                .replaceAll("/\\*.*?\\*/", "")
-                .replaceAll("\\s+", " ")
-                .trim()
-                .toUpperCase();
+        String normalized = normalizedDefinition;
+        if (normalized == null) {
+            normalized = SqlBodyNormalizer.normalize(definition);
+            normalizedDefinition = normalized;
+        }
+        return normalized;
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof TriggerInfo that)) return false;
-        return this.normalizedSignature().equals(that.normalizedSignature());
+        return signature.equals(that.signature);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(normalizedSignature());
+        return signature.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TriggerInfo[name=" + name + ", tableName=" + tableName + ", timing=" + timing + ", event=" + event
+                + ", definition=" + definition + ", isEnabled=" + isEnabled + "]";
     }
 }
\ No newline at end of file
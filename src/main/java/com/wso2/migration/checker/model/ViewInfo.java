@@ -1,18 +1,62 @@
 package com.wso2.migration. checker.model;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java. util.List;
 import java. util.Objects;
 
 /**
  * Represents a database view.
  */
-public record ViewInfo(
-        String name,
-        String schema,
-        List<String> columns,
-        String definition,
-        boolean isUpdatable
-) {
+@JsonAutoDetect(fieldVisibility = Visibility.ANY, getterVisibility = Visibility.NONE,
+        isGetterVisibility = Visibility.NONE)
+public final class ViewInfo {
+
+    private final String name;
+    private final String schema;
+    private final List<String> columns;
+    private final String definition;
+    private final boolean isUpdatable;
+    @JsonIgnore
+    private volatile String normalizedDefinition;
+
+    @JsonCreator
+    public ViewInfo(@JsonProperty("name") String name,
+                    @JsonProperty("schema") String schema,
+                    @JsonProperty("columns") List<String> columns,
+                    @JsonProperty("definition") String definition,
+                    @JsonProperty("isUpdatable") boolean isUpdatable) {
+        this.name = name;
+        this.schema = schema;
+        this.columns = columns;
+        this.definition = definition;
+        this.isUpdatable = isUpdatable;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String schema() {
+        return schema;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public String definition() {
+        return definition;
+    }
+
+    public boolean isUpdatable() {
+        return isUpdatable;
+    }
+
     public String normalizedSignature() {
         String cols = columns != null ? columns.stream()
                 .map(String:: toUpperCase)
@@ -22,14 +66,16 @@ public record ViewInfo(
         return String.format("%s|%s", name.toUpperCase(), cols);
     }
 
+    /**
+     * Normalized query, computed on first use and kept for later comparisons.
+     */
     public String normalizedDefinition() {
-        if (definition == null) return "";
-        return definition
-                . replaceAll("--.*?\n", "\n")
-                .replaceAll("/\\*.*?\\*/", "")
-                .replaceAll("\\s+", " ")
-                .trim()
-                .toUpperCase();
+        String normalized = normalizedDefinition;
+        if (normalized == null) {
+            normalized = SqlBodyNormalizer.normalize(definition);
+            normalizedDefinition = normalized;
+        }
+        return normalized;
     }
 
     @Override
@@ -43,4 +89,10 @@ public record ViewInfo(
     public int hashCode() {
         return Objects.hash(normalizedSignature());
     }
+
+    @Override
+    public String toString() {
+        return "ViewInfo[name=" + name + ", schema=" + schema + ", columns=" + columns
+                + ", definition=" + definition + ", isUpdatable=" + isUpdatable + "]";
+    }
 }
\ No newline at end of file
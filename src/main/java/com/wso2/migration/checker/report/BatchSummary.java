@@ -0,0 +1,98 @@
+package com.wso2.migration.checker.report;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated results of checking many user dumps against one standard schema.
+ */
+public class BatchSummary {
+
+    public enum Status {
+        READY, NOT_READY, FAILED
+    }
+
+    /**
+     * Outcome of one dump in the batch.
+     */
+    public record Entry(
+            String dumpName,
+            Path dumpPath,
+            Status status,
+            double complianceScore,
+            long criticalDrifts,
+            long highDrifts,
+            int totalDrifts,
+            Path reportPath,
+            long elapsedMillis,
+            String error
+    ) {
+        public static Entry of(Path dumpPath, ComplianceReport report, Path reportPath, long elapsedMillis) {
+            Map<String, Object> summary = report.getSummary();
+            return new Entry(
+                    dumpPath.getFileName().toString(),
+                    dumpPath,
+                    report.isMigrationReady() ? Status.READY : Status.NOT_READY,
+                    ((Number) summary.get("complianceScore")).doubleValue(),
+                    ((Number) summary.get("criticalDrifts")).longValue(),
+                    ((Number) summary.get("highDrifts")).longValue(),
+                    report.getDriftItems().size(),
+                    reportPath,
+                    elapsedMillis,
+                    null
+            );
+        }
+
+        public static Entry failed(Path dumpPath, String error, long elapsedMillis) {
+            return new Entry(dumpPath.getFileName().toString(), dumpPath, Status.FAILED,
+                    0.0, 0, 0, 0, null, elapsedMillis, error);
+        }
+    }
+
+    private final String databaseType;
+    private final String standardSchema;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final List<Entry> entries;
+
+    public BatchSummary(String databaseType, String standardSchema,
+                        Instant startedAt, Instant finishedAt, List<Entry> entries) {
+        this.databaseType = databaseType;
+        this.standardSchema = standardSchema;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.entries = new ArrayList<>(entries);
+    }
+
+    public long countByStatus(Status status) {
+        return entries.stream().filter(e -> e.status() == status).count();
+    }
+
+    /**
+     * Dumps checked per hour of wall time.
+     */
+    public double dumpsPerHour() {
+        long millis = Math.max(1, Duration.between(startedAt, finishedAt).toMillis());
+        return entries.size() * 3_600_000.0 / millis;
+    }
+
+    public boolean isAllReady() {
+        return countByStatus(Status.READY) == entries.size();
+    }
+
+    public boolean hasFailures() {
+        return countByStatus(Status.FAILED) > 0;
+    }
+
+    // Getters
+    public String getDatabaseType() { return databaseType; }
+    public String getStandardSchema() { return standardSchema; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public List<Entry> getEntries() { return Collections.unmodifiableList(entries); }
+}
@@ -1,5 +1,6 @@
 package com. wso2.migration.checker. report;
 
+import com.wso2.migration.checker.metrics.PerformanceRecorder;
 import com.wso2.migration.checker.model.SchemaSnapshot;
 
 import java.time.Instant;
@@ -17,6 +18,8 @@ public class ComplianceReport {
     private final SchemaSnapshot userSnapshot;
     private final List<DriftItem> driftItems;
     private final Map<String, Object> summary;
+    private boolean identical;
+    private PerformanceRecorder performance;
 
     public ComplianceReport(SchemaSnapshot standardSnapshot, SchemaSnapshot userSnapshot) {
         this.reportId = UUID.randomUUID().toString();
@@ -27,6 +30,17 @@ public class ComplianceReport {
         this.summary = new HashMap<>();
     }
 
+    /**
+     * Creates the report of two snapshots with the same fingerprint, without diffing
+     * them: no drifts, and a summary marking the schemas identical.
+     */
+    public static ComplianceReport identical(SchemaSnapshot standardSnapshot, SchemaSnapshot userSnapshot) {
+        ComplianceReport report = new ComplianceReport(standardSnapshot, userSnapshot);
+        report.identical = true;
+        report.calculateSummary();
+        return report;
+    }
+
     public void addDrift(DriftItem item) {
         driftItems.add(item);
     }
@@ -75,6 +89,7 @@ public class ComplianceReport {
         summary.put("criticalDrifts", criticalCount);
         summary.put("highDrifts", highCount);
         summary.put("migrationReady", criticalCount == 0 && highCount == 0);
+        summary.put("identical", identical);
         summary.put("bySeverity", bySeverity);
         summary.put("byCategory", byCategory);
         summary.put("byType", byType);
@@ -99,6 +114,19 @@ public class ComplianceReport {
     public SchemaSnapshot getUserSnapshot() { return userSnapshot; }
     public List<DriftItem> getDriftItems() { return Collections.unmodifiableList(driftItems); }
     public Map<String, Object> getSummary() { return summary. isEmpty() ? calculateSummary() : summary; }
+    public PerformanceRecorder getPerformance() { return performance; }
+
+    /**
+     * Whether the schemas were found identical by fingerprint, without a diff.
+     */
+    public boolean isIdentical() { return identical; }
+
+    /**
+     * Attaches the timings of the check that produced this report.
+     */
+    public void setPerformance(PerformanceRecorder performance) {
+        this.performance = performance;
+    }
 
     /**
      * Gets drift items filtered by severity.
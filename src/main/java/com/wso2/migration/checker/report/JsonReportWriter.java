@@ -3,12 +3,14 @@ package com.wso2.migration.checker.report;
 import com.fasterxml. jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wso2.migration.checker.config.AppConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java. time.format.DateTimeFormatter;
 import java.util.*;
@@ -48,13 +50,64 @@ public class JsonReportWriter {
         return outputPath;
     }
 
+    /**
+     * Writes the aggregated batch summary to a JSON file.
+     */
+    public Path writeBatchSummary(BatchSummary summary, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+
+        String filename = String.format("batch_summary_%s.json",
+                LocalDateTime.now().format(FILE_DATE_FORMAT));
+        Path outputPath = outputDir.resolve(filename);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("generatedAt", summary.getFinishedAt().toString());
+        json.put("toolVersion", AppConfig.TOOL_VERSION);
+        json.put("databaseType", summary.getDatabaseType());
+        json.put("standardSchema", summary.getStandardSchema());
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("dumps", summary.getEntries().size());
+        for (BatchSummary.Status status : BatchSummary.Status.values()) {
+            totals.put(status.name(), summary.countByStatus(status));
+        }
+        totals.put("elapsedSeconds",
+                Duration.between(summary.getStartedAt(), summary.getFinishedAt()).toMillis() / 1000.0);
+        totals.put("dumpsPerHour", Math.round(summary.dumpsPerHour() * 10) / 10.0);
+        json.put("totals", totals);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (BatchSummary.Entry entry : summary.getEntries()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("dump", entry.dumpPath().toString());
+            item.put("status", entry.status().name());
+            if (entry.status() == BatchSummary.Status.FAILED) {
+                item.put("error", entry.error());
+            } else {
+                item.put("complianceScore", entry.complianceScore());
+                item.put("criticalDrifts", entry.criticalDrifts());
+                item.put("highDrifts", entry.highDrifts());
+                item.put("totalDrifts", entry.totalDrifts());
+                item.put("report", entry.reportPath() != null ? entry.reportPath().toString() : null);
+            }
+            item.put("elapsedSeconds", entry.elapsedMillis() / 1000.0);
+            results.add(item);
+        }
+        json.put("results", results);
+
+        mapper.writeValue(outputPath.toFile(), json);
+
+        LOG.info("📄 Batch summary written to: {}", outputPath.toAbsolutePath());
+        return outputPath;
+    }
+
     private Map<String, Object> buildJsonStructure(ComplianceReport report) {
         Map<String, Object> json = new LinkedHashMap<>();
 
         // Header
         json.put("reportId", report.getReportId());
         json.put("generatedAt", report.getGeneratedAt().toString());
-        json.put("toolVersion", "1.0.0");
+        json.put("toolVersion", AppConfig.TOOL_VERSION);
 
         // Summary
         json.put("summary", report.getSummary());
@@ -85,6 +138,11 @@ public class JsonReportWriter {
         List<String> recommendations = generateRecommendations(report);
         json.put("recommendations", recommendations);
 
+        // Timings of the check phases
+        if (report.getPerformance() != null) {
+            json.put("performance", report.getPerformance().toReportSection());
+        }
+
         return json;
     }
 
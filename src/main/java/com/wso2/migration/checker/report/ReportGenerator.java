@@ -36,6 +36,61 @@ public class ReportGenerator {
         }
     }
 
+    /**
+     * Writes only the JSON file.
+     *
+     * @return path of the written report
+     */
+    public Path writeJsonReport(ComplianceReport report, Path outputDir) throws IOException {
+        return jsonWriter.writeReport(report, outputDir);
+    }
+
+    /**
+     * Writes the batch summary JSON and prints it as a table.
+     */
+    public void generateBatchSummary(BatchSummary summary, Path outputDir) {
+        printBatchSummary(summary);
+
+        try {
+            jsonWriter.writeBatchSummary(summary, outputDir);
+        } catch (IOException e) {
+            LOG.error("Failed to write batch summary: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Prints the per-dump results of a batch run to the console.
+     */
+    public void printBatchSummary(BatchSummary summary) {
+        System.out.println();
+        System.out.println("╔══════════════════════════════════════════════════════════════════╗");
+        System.out.println("║           BATCH COMPLIANCE SUMMARY                               ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  Dumps Checked:    %-45d ║%n", summary.getEntries().size());
+        System.out.printf("║  Ready:            %-45d ║%n", summary.countByStatus(BatchSummary.Status.READY));
+        System.out.printf("║  Not Ready:        %-45d ║%n", summary.countByStatus(BatchSummary.Status.NOT_READY));
+        System.out.printf("║  Failed:           %-45d ║%n", summary.countByStatus(BatchSummary.Status.FAILED));
+        System.out.printf("║  Throughput:       %-45s ║%n", String.format("%.1f dumps/hour", summary.dumpsPerHour()));
+        System.out.println("╚══════════════════════════════════════════════════════════════════╝");
+        System.out.println();
+
+        for (BatchSummary.Entry entry : summary.getEntries()) {
+            String icon = switch (entry.status()) {
+                case READY -> "✅";
+                case NOT_READY -> "❌";
+                case FAILED -> "💥";
+            };
+            if (entry.status() == BatchSummary.Status.FAILED) {
+                System.out.printf("   %s %-40s %s%n", icon, entry.dumpName(), entry.error());
+            } else {
+                System.out.printf("   %s %-40s score %5.1f%% | critical %d | high %d | total %d%n",
+                        icon, entry.dumpName(), entry.complianceScore(),
+                        entry.criticalDrifts(), entry.highDrifts(), entry.totalDrifts());
+            }
+        }
+        System.out.println();
+    }
+
     /**
      * Prints a formatted report to the console.
      */
@@ -0,0 +1,356 @@
+package com.wso2.migration.checker.util;
+
+import com.wso2.migration.checker.container.DatabaseType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+/**
+ * Streams a SQL script and splits it into statements the way each engine's
+ * command-line client does, without holding the whole file in memory.
+ *
+ * Handles quoted strings and identifiers, comments, MySQL {@code DELIMITER}
+ * directives and {@code /*!...*}{@code /} conditional comments, Oracle PL/SQL
+ * blocks terminated by {@code /}, MSSQL {@code GO} batches (module bodies end only
+ * at {@code GO}), PostgreSQL dollar quoting, psql meta-commands and SQL*Plus
+ * line commands. The data section of a PostgreSQL {@code COPY ... FROM stdin} is skipped.
+ */
+public final class SqlScriptReader implements Closeable {
+
+    /**
+     * One statement of a script.
+     *
+     * @param sql        statement text without its terminator; leading comments are kept
+     * @param terminator    ";", a custom MySQL delimiter, "/" (Oracle), "GO" (MSSQL),
+     *                      or "" for client commands and a trailing unterminated statement
+     * @param line          line number (1-based) where the statement starts
+     * @param blank         true when the text holds only whitespace and comments
+     * @param clientCommand true for psql meta-commands and SQL*Plus commands, which are
+     *                      interpreted by the client and never sent to the server
+     */
+    public record SqlStatement(
+            String sql,
+            String terminator,
+            int line,
+            boolean blank,
+            boolean clientCommand
+    ) {}
+
+    private static final Pattern MYSQL_DELIMITER = Pattern.compile("^\\s*(?i:DELIMITER)\\s+(\\S+)\\s*$");
+    private static final Pattern MSSQL_GO = Pattern.compile("^\\s*(?i:GO)(\\s+\\d+)?\\s*;?\\s*(--.*)?$");
+    private static final Pattern SQLPLUS_COMMAND = Pattern.compile(
+            "^\\s*(@|(?i:SET|PROMPT|SPOOL|WHENEVER|EXIT|QUIT|REM|REMARK|DEFINE|UNDEFINE|SHOW|COLUMN"
+                    + "|TTITLE|BTITLE|CLEAR|BREAK|PAUSE|ACCEPT|VARIABLE|PRINT)(\\s|;|$)).*");
+    private static final Pattern ORACLE_SLASH = Pattern.compile("^\\s*/\\s*$");
+    private static final Pattern DOLLAR_TAG = Pattern.compile("\\$([A-Za-z_][A-Za-z0-9_]*)?\\$");
+    private static final Pattern ORACLE_BLOCK = Pattern.compile(
+            "^(CREATE (OR REPLACE )?((NON)?EDITIONABLE )?(PROCEDURE|FUNCTION|PACKAGE|TRIGGER|TYPE)\\b|DECLARE\\b|BEGIN\\b).*");
+    private static final Pattern MSSQL_MODULE = Pattern.compile(
+            "^(CREATE|ALTER|CREATE OR ALTER) (PROC|PROCEDURE|FUNCTION|TRIGGER|VIEW)\\b.*");
+    private static final Pattern POSTGRES_COPY_STDIN = Pattern.compile("^COPY .* FROM STDIN\\b.*");
+    private static final int HEAD_LENGTH = 200;
+
+    private enum State { NORMAL, SINGLE_QUOTE, DOUBLE_QUOTE, BACKTICK, BRACKET, BLOCK_COMMENT, DOLLAR }
+
+    private final BufferedReader reader;
+    private final DatabaseType type;
+    private final Deque<SqlStatement> ready = new ArrayDeque<>();
+
+    private String delimiter = ";";
+    private int lineNumber = 0;
+    private boolean eof = false;
+    private boolean skippingCopyData = false;
+
+    // Lexer state, carried across lines
+    private State state = State.NORMAL;
+    private String dollarTag;
+    private final StringBuilder buffer = new StringBuilder();
+    private final StringBuilder head = new StringBuilder();
+    private boolean hasCode = false;
+    private int startLine = 1;
+
+    public SqlScriptReader(BufferedReader reader, DatabaseType type) {
+        this.reader = reader;
+        this.type = type;
+    }
+
+    /**
+     * Opens a script file, replacing undecodable bytes instead of failing on them.
+     */
+    public static SqlScriptReader open(Path path, DatabaseType type) throws IOException {
+        InputStreamReader in = new InputStreamReader(Files.newInputStream(path),
+                StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE));
+        return new SqlScriptReader(new BufferedReader(in, 1 << 16), type);
+    }
+
+    /**
+     * Returns the next statement, or null at the end of the script.
+     */
+    public SqlStatement next() throws IOException {
+        while (ready.isEmpty() && !eof) {
+            readLine();
+        }
+        return ready.poll();
+    }
+
+    /**
+     * Returns the MySQL delimiter currently in effect.
+     */
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    private void readLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            eof = true;
+            flush("");
+            return;
+        }
+        lineNumber++;
+
+        if (skippingCopyData) {
+            if (line.equals("\\.")) {
+                skippingCopyData = false;
+            }
+            return;
+        }
+
+        if (state == State.NORMAL) {
+            if (!hasCode && handleDirective(line)) {
+                return;
+            }
+            if (type == DatabaseType.ORACLE && ORACLE_SLASH.matcher(line).matches()) {
+                if (hasCode) {
+                    flush("/");
+                }
+                return;
+            }
+            if (type == DatabaseType.MSSQL && MSSQL_GO.matcher(line).matches()) {
+                flush("GO");
+                return;
+            }
+        }
+
+        scan(line);
+        buffer.append('\n');
+        appendHead(' ');
+    }
+
+    /**
+     * Handles client directives that are only recognised at the start of a statement.
+     */
+    private boolean handleDirective(String line) {
+        if (type == DatabaseType.MYSQL) {
+            var matcher = MYSQL_DELIMITER.matcher(line);
+            if (matcher.matches()) {
+                delimiter = matcher.group(1);
+                return true;
+            }
+        }
+        if ((type == DatabaseType.POSTGRESQL && line.startsWith("\\"))
+                || (type == DatabaseType.ORACLE && SQLPLUS_COMMAND.matcher(line).matches())) {
+            markCode();
+            buffer.append(line);
+            flush("", true);
+            return true;
+        }
+        return false;
+    }
+
+    private void scan(String line) {
+        int length = line.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = line.charAt(i);
+            char next = i + 1 < length ? line.charAt(i + 1) : '\0';
+
+            switch (state) {
+                case NORMAL -> {
+                    if (line.startsWith(delimiter, i) && !(delimiter.equals(";") && isBlockStatement())) {
+                        flush(delimiter);
+                        i += delimiter.length();
+                        continue;
+                    }
+                    if ((c == '-' && next == '-') || (c == '#' && type == DatabaseType.MYSQL)) {
+                        buffer.append(line, i, length);
+                        appendHead(' ');
+                        return;
+                    }
+                    if (c == '/' && next == '*') {
+                        if (type == DatabaseType.MYSQL && i + 2 < length && line.charAt(i + 2) == '!') {
+                            // Conditional comment: executed by MySQL, so it is code
+                            markCode();
+                            buffer.append("/*!");
+                            i += 3;
+                            continue;
+                        }
+                        state = State.BLOCK_COMMENT;
+                        buffer.append("/*");
+                        appendHead(' ');
+                        i += 2;
+                        continue;
+                    }
+                    if (c == '$' && type == DatabaseType.POSTGRESQL && !isIdentifierPart(buffer)) {
+                        var matcher = DOLLAR_TAG.matcher(line).region(i, length);
+                        if (matcher.lookingAt()) {
+                            markCode();
+                            dollarTag = matcher.group();
+                            state = State.DOLLAR;
+                            buffer.append(dollarTag);
+                            appendHead('$');
+                            i = matcher.end();
+                            continue;
+                        }
+                    }
+                    switch (c) {
+                        case '\'' -> state = State.SINGLE_QUOTE;
+                        case '"' -> state = State.DOUBLE_QUOTE;
+                        case '`' -> state = type == DatabaseType.MYSQL ? State.BACKTICK : State.NORMAL;
+                        case '[' -> state = type == DatabaseType.MSSQL ? State.BRACKET : State.NORMAL;
+                        default -> { }
+                    }
+                    if (!Character.isWhitespace(c)) {
+                        markCode();
+                    }
+                    buffer.append(c);
+                    appendHead(c);
+                    i++;
+                }
+                case SINGLE_QUOTE, DOUBLE_QUOTE, BACKTICK, BRACKET -> {
+                    char close = switch (state) {
+                        case SINGLE_QUOTE -> '\'';
+                        case DOUBLE_QUOTE -> '"';
+                        case BACKTICK -> '`';
+                        default -> ']';
+                    };
+                    if (c == '\\' && type == DatabaseType.MYSQL
+                            && (state == State.SINGLE_QUOTE || state == State.DOUBLE_QUOTE)) {
+                        buffer.append(c);
+                        if (next != '\0') buffer.append(next);
+                        i += 2;
+                        continue;
+                    }
+                    buffer.append(c);
+                    appendHead(c);
+                    i++;
+                    if (c == close) {
+                        if (next == close) {
+                            buffer.append(next);
+                            i++;
+                        } else {
+                            state = State.NORMAL;
+                        }
+                    }
+                }
+                case BLOCK_COMMENT -> {
+                    if (c == '*' && next == '/') {
+                        buffer.append("*/");
+                        state = State.NORMAL;
+                        i += 2;
+                    } else {
+                        buffer.append(c);
+                        i++;
+                    }
+                }
+                case DOLLAR -> {
+                    if (c == '$' && line.startsWith(dollarTag, i)) {
+                        buffer.append(dollarTag);
+                        appendHead('$');
+                        state = State.NORMAL;
+                        i += dollarTag.length();
+                    } else {
+                        buffer.append(c);
+                        i++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * True when ';' does not end the current statement: Oracle PL/SQL blocks end
+     * at a '/' line and MSSQL module definitions at GO.
+     */
+    private boolean isBlockStatement() {
+        return switch (type) {
+            case ORACLE -> ORACLE_BLOCK.matcher(head).matches();
+            case MSSQL -> MSSQL_MODULE.matcher(head).matches();
+            default -> false;
+        };
+    }
+
+    private void markCode() {
+        if (!hasCode) {
+            hasCode = true;
+            startLine = lineNumber;
+        }
+    }
+
+    /**
+     * Keeps an upper-cased, whitespace-collapsed prefix of the statement's code.
+     */
+    private void appendHead(char c) {
+        if (head.length() >= HEAD_LENGTH) {
+            return;
+        }
+        if (Character.isWhitespace(c)) {
+            if (!head.isEmpty() && head.charAt(head.length() - 1) != ' ') {
+                head.append(' ');
+            }
+            return;
+        }
+        if (c == '[' || c == ']' || c == '`' || c == '"') {
+            return; // Quoting does not matter for keyword detection
+        }
+        head.append(Character.toUpperCase(c));
+    }
+
+    private void flush(String terminator) {
+        flush(terminator, false);
+    }
+
+    private void flush(String terminator, boolean clientCommand) {
+        String sql = buffer.toString().strip();
+        boolean blank = !hasCode;
+        int line = blank ? lineNumber : startLine;
+        String statementHead = head.toString().strip();
+
+        buffer.setLength(0);
+        head.setLength(0);
+        hasCode = false;
+        startLine = lineNumber;
+
+        if (sql.isEmpty() && !terminator.equals("GO")) {
+            return;
+        }
+        ready.add(new SqlStatement(sql, terminator, line, blank, clientCommand));
+
+        if (type == DatabaseType.POSTGRESQL && !blank && POSTGRES_COPY_STDIN.matcher(statementHead).matches()) {
+            skippingCopyData = true;
+        }
+    }
+
+    private static boolean isIdentifierPart(CharSequence text) {
+        if (text.isEmpty()) return false;
+        char last = text.charAt(text.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_';
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}